@@ -0,0 +1,41 @@
+package com.ucapital.sharkshub.config;
+
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+
+@Configuration
+@EnableConfigurationProperties(IngestProperties.class)
+public class BulkWriteConfig {
+
+
+    @Bean
+    public AdaptiveBatchPolicy bulkWriteBatchPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${sharkshub.bulk.batch.initial-size:1000}") int initialSize,
+            @Value("${sharkshub.bulk.batch.min-size:100}") int minSize,
+            @Value("${sharkshub.bulk.batch.max-size:10000}") int maxSize,
+            @Value("${sharkshub.bulk.batch.max-bytes:16777216}") long maxBytes,
+            @Value("${sharkshub.bulk.batch.target-latency-ms:500}") long targetLatencyMs) {
+        return new AdaptiveBatchPolicy("bulk-write", initialSize, minSize, maxSize, maxBytes,
+                Duration.ofMillis(targetLatencyMs), meterRegistry);
+    }
+
+
+    @Bean
+    public AdaptiveBatchPolicy batchChunkPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${sharkshub.batch.chunk.initial-size:100}") int initialSize,
+            @Value("${sharkshub.batch.chunk.min-size:50}") int minSize,
+            @Value("${sharkshub.batch.chunk.max-size:5000}") int maxSize,
+            @Value("${sharkshub.batch.chunk.target-latency-ms:1000}") long targetLatencyMs) {
+        return new AdaptiveBatchPolicy("batch-chunk", initialSize, minSize, maxSize,
+                AdaptiveBatchPolicy.MAX_MESSAGE_BYTES, Duration.ofMillis(targetLatencyMs), meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ucapital.sharkshub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Named ingest profiles selectable per bulk request, bound from
+ * {@code sharkshub.ingest.*}. Each profile trades durability for throughput
+ * independently of the client-wide write concern set in {@link MongoConfig}.
+ */
+@Data
+@ConfigurationProperties(prefix = "sharkshub.ingest")
+public class IngestProperties {
+
+    private String defaultProfile = "standard";
+
+    /** Upper bound on any profile's batch size; the byte cap still applies on top. */
+    private int maxBatchSize = 10000;
+
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+
+    @Data
+    public static class Profile {
+
+        /** "majority", a node count such as "1", or a replica set tag name. */
+        private String w = "majority";
+
+        private Boolean journal;
+
+        private long wtimeoutMs;
+
+        private boolean ordered;
+
+        /** Documents per write batch; 0 lets the adaptive batch policy decide. */
+        private int batchSize;
+
+        private int concurrency = 4;
+    }
+}
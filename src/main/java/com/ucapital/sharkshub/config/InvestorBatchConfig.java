@@ -2,16 +2,33 @@ package com.ucapital.sharkshub.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ucapital.sharkshub.investor.dto.*;
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import com.ucapital.sharkshub.investor.util.AdaptiveChunkPolicy;
+import com.ucapital.sharkshub.investor.util.CompressedInput;
+import com.ucapital.sharkshub.investor.util.CsvRangePartitioner;
+import com.ucapital.sharkshub.investor.util.ImportedNames;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
+import com.ucapital.sharkshub.investor.util.InvestorFieldSetMapper;
+import com.ucapital.sharkshub.investor.util.InvestorImportProcessor;
+import com.ucapital.sharkshub.investor.util.InvestorUpsertItemWriter;
 import com.ucapital.sharkshub.investor.util.JsonArrayItemReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.data.MongoItemWriter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
 
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 
 import org.springframework.batch.core.repository.JobRepository;
@@ -19,129 +36,298 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import org.springframework.batch.item.*;
 import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.support.builder.SynchronizedItemStreamReaderBuilder;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.batch.item.data.builder.MongoItemWriterBuilder;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
+import java.io.IOException;
+import java.nio.file.Path;
 
 @Configuration
 public class InvestorBatchConfig {
 
+    public static final String PARTITIONED_STEP_NAME = "investorPartitionedStep";
+
+    private static final String PARTITIONED = "PARTITIONED";
+
     @Bean
     public Job investorBulkJob(JobRepository jobRepository,
-                               Step investorBulkStep) {
+                               JobExecutionDecider importModeDecider,
+                               Step investorBulkStep,
+                               Step investorPartitionedStep,
+                               ImportedNames importedNames) {
         return new JobBuilder("investorBulkJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
-                .start(investorBulkStep)
+                .listener(importedNames)
+                .start(importModeDecider).on(PARTITIONED).to(investorPartitionedStep)
+                .from(importModeDecider).on("*").to(investorBulkStep)
+                .end()
                 .build();
     }
 
+    /**
+     * Partitions the import when the job asks for more than one partition and the
+     * stored file is plain CSV; compressed and JSON files cannot be split by byte
+     * range and always run as a single step.
+     */
+    @Bean
+    public JobExecutionDecider importModeDecider() {
+        return (jobExecution, stepExecution) -> {
+            JobParameters parameters = jobExecution.getJobParameters();
+            Long partitions = parameters.getLong("partitions");
+            String filePath = parameters.getString("filePath");
+            boolean partitioned = partitions != null && partitions > 1
+                    && filePath != null && filePath.toLowerCase().endsWith(".csv");
+            return new FlowExecutionStatus(partitioned ? PARTITIONED : FlowExecutionStatus.COMPLETED.getName());
+        };
+    }
+
+    /**
+     * Chunks run one at a time unless the job's {@code threads} parameter asks for
+     * more, in which case they run concurrently on the job's own executor, capped at
+     * {@code sharkshub.batch.step.max-threads} and at the step builder's default
+     * throttle of four chunks. A multi-threaded step reads through a synchronized
+     * reader that keeps no restart state, so a restart reads the file from the top
+     * and relies on the insert-mode existence check or the upsert to drop what was
+     * already written.
+     */
     @Bean
+    @JobScope
     public Step investorBulkStep(JobRepository jobRepository,
                                  PlatformTransactionManager txManager,
                                  DelegatingFileItemReader fileItemReader,
-                                 ItemProcessor<InvestorDto, InvestorDto> processor,
-                                 ItemWriter<InvestorDto> writer) {
-        return new StepBuilder("investorBulkStep", jobRepository)
-                .<InvestorDto, InvestorDto>chunk(100, txManager)
-                .reader(fileItemReader)
+                                 InvestorImportProcessor processor,
+                                 ItemWriter<InvestorDto> writer,
+                                 AdaptiveChunkPolicy chunkPolicy,
+                                 @Value("#{jobParameters['threads']}") Long threads,
+                                 @Value("${sharkshub.batch.step.max-threads:4}") int maxThreads,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int stepThreads = threadCount(threads, maxThreads);
+
+        ItemStreamReader<InvestorDto> reader = stepThreads > 1
+                ? new SynchronizedItemStreamReaderBuilder<InvestorDto>().delegate(fileItemReader).build()
+                : fileItemReader;
+
+        FaultTolerantStepBuilder<InvestorDto, InvestorDto> step =
+                importStep("investorBulkStep", jobRepository, txManager, reader, processor, writer, chunkPolicy);
+
+        if (stepThreads > 1) {
+            // The executor's concurrency limit bounds the chunks in flight; the builder's template
+            // still throttles at its default of four, so more step threads than that are not used
+            step.taskExecutor(jobExecutor(stepThreads, virtualThreads));
+        }
+        return step.build();
+    }
+
+    /**
+     * Splits a plain CSV file into record-aligned byte ranges, one worker step
+     * execution per range, run concurrently on the job's own executor.
+     * Each worker commits and checkpoints its own range, so a restarted job only
+     * reruns the partitions that did not complete, each from its last commit.
+     */
+    @Bean
+    @JobScope
+    public Step investorPartitionedStep(JobRepository jobRepository,
+                                        Step investorPartitionWorkerStep,
+                                        @Value("#{jobParameters['filePath']}") String filePath,
+                                        @Value("#{jobParameters['partitions']}") Long partitions,
+                                        @Value("${sharkshub.batch.step.max-threads:4}") int maxThreads,
+                                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int gridSize = threadCount(partitions, maxThreads);
+        return new StepBuilder(PARTITIONED_STEP_NAME, jobRepository)
+                .partitioner(investorPartitionWorkerStep.getName(), new CsvRangePartitioner(Path.of(filePath)))
+                .step(investorPartitionWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(jobExecutor(gridSize, virtualThreads))
+                .build();
+    }
+
+    /**
+     * Not job-scoped: partitions run on executor threads, which only carry the
+     * worker's step context. Its reader, processor and writer are step-scoped, so
+     * each partition gets its own.
+     */
+    @Bean
+    public Step investorPartitionWorkerStep(JobRepository jobRepository,
+                                           PlatformTransactionManager txManager,
+                                           DelegatingFileItemReader fileItemReader,
+                                           InvestorImportProcessor processor,
+                                           ItemWriter<InvestorDto> writer,
+                                           AdaptiveChunkPolicy chunkPolicy) {
+        return importStep("investorPartitionWorkerStep", jobRepository, txManager, fileItemReader,
+                processor, writer, chunkPolicy).build();
+    }
+
+    private static FaultTolerantStepBuilder<InvestorDto, InvestorDto> importStep(
+            String name,
+            JobRepository jobRepository,
+            PlatformTransactionManager txManager,
+            ItemStreamReader<InvestorDto> reader,
+            InvestorImportProcessor processor,
+            ItemWriter<InvestorDto> writer,
+            AdaptiveChunkPolicy chunkPolicy) {
+        return new StepBuilder(name, jobRepository)
+                .<InvestorDto, InvestorDto>chunk(chunkPolicy, txManager)
+                .reader(reader)
                 .processor(processor)
                 .writer(writer)
+                .listener((ChunkListener) chunkPolicy)
+                .listener((ItemReadListener<InvestorDto>) processor)
+                .listener((ChunkListener) processor)
                 .faultTolerant()
+                // Keep processed items across a rollback: processing an item again would find its
+                // name already claimed in ImportedNames by the first pass and drop it as a duplicate
+                .processorNonTransactional()
                 .skipLimit(1000)
-                .skip(Exception.class)
-                .build();
+                .skip(Exception.class);
     }
 
 
+    /**
+     * In a partition's worker step the reader covers only that partition's byte range.
+     */
     @Bean
     @StepScope
-    public DelegatingFileItemReader fileItemReader(@Value("#{jobParameters['filePath']}") String filePath) {
-        return new DelegatingFileItemReader(filePath);
+    public DelegatingFileItemReader fileItemReader(
+            @Value("#{jobParameters['filePath']}") String filePath,
+            @Value("#{jobParameters['threads']}") Long threads,
+            @Value("#{stepExecutionContext['" + CsvRangePartitioner.HEADER_END_KEY + "']}") Long headerEnd,
+            @Value("#{stepExecutionContext['" + CsvRangePartitioner.START_KEY + "']}") Long start,
+            @Value("#{stepExecutionContext['" + CsvRangePartitioner.END_KEY + "']}") Long end,
+            @Value("${sharkshub.batch.step.max-threads:4}") int maxThreads) {
+        DelegatingFileItemReader reader = new DelegatingFileItemReader(filePath);
+        if (start != null) {
+            reader.setByteRange(headerEnd, start, end);
+        } else {
+            reader.setSaveState(threadCount(threads, maxThreads) == 1);
+        }
+        return reader;
     }
 
-    @Bean
-    public ItemProcessor<InvestorDto, InvestorDto> processor(MongoTemplate mongoTemplate) {
-        Set<String> seenInBatch = ConcurrentHashMap.newKeySet();
-
-        return dto -> {
-            if (dto == null || dto.getName() == null || dto.getName().trim().isEmpty()) {
-                return null;
-            }
-
-            String name = dto.getName().trim();
+    /**
+     * Threads for one job's chunks or partitions. Each job gets its own executor, so
+     * concurrent jobs cannot exhaust a shared queue and have their work rejected; the
+     * concurrency limit makes the step wait for a free thread instead.
+     */
+    private static TaskExecutor jobExecutor(int threads, boolean virtualThreads) {
+        SimpleAsyncTaskExecutor exec = new SimpleAsyncTaskExecutor("bulk-file-");
+        exec.setVirtualThreads(virtualThreads);
+        exec.setConcurrencyLimit(threads);
+        return exec;
+    }
 
-            if (!seenInBatch.add(name)) {
-                System.out.println("=== Skipping duplicate in file: " + name + " ===");
-                return null;
-            }
+    private static int threadCount(Long requested, int maxThreads) {
+        return requested == null ? 1 : (int) Math.min(Math.max(1, requested), Math.max(1, maxThreads));
+    }
 
-            Query query = new Query(Criteria.where("name").is(name));
-            boolean exists = mongoTemplate.exists(query, "investors");
+    @Bean
+    public ImportedNames importedNames() {
+        return new ImportedNames();
+    }
 
-            if (exists) {
-                System.out.println("=== Skipping - already in database: " + name + " ===");
-                return null;
-            }
+    /**
+     * Resolves each chunk's names against the collection with one lookup; see
+     * {@link InvestorImportProcessor}.
+     */
+    @Bean
+    @StepScope
+    public InvestorImportProcessor processor(MongoTemplate mongoTemplate,
+                                             ImportedNames importedNames,
+                                             @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
+                                             @Value("#{jobParameters['mode']}") String mode) {
+        return new InvestorImportProcessor(mongoTemplate, "investors", importedNames, jobExecutionId,
+                writeMode(mode));
+    }
 
-            return dto;
-        };
+    @Bean
+    @StepScope
+    public AdaptiveChunkPolicy chunkPolicy(AdaptiveBatchPolicy batchChunkPolicy,
+                                           IngestProfiles ingestProfiles,
+                                           @Value("#{jobParameters['profile']}") String profile) {
+        return new AdaptiveChunkPolicy(batchChunkPolicy, ingestProfiles.resolve(profile).getBatchSize());
     }
 
     @Bean
-    public MongoItemWriter<InvestorDto> writer(MongoTemplate template) {
+    @StepScope
+    public MongoItemWriter<InvestorDto> writer(MongoTemplate template,
+                                               IngestProfiles ingestProfiles,
+                                               @Value("#{jobParameters['profile']}") String profile,
+                                               @Value("#{jobParameters['mode']}") String mode) {
+        WriteMode writeMode = writeMode(mode);
+        if (writeMode.isUpsert()) {
+            return new InvestorUpsertItemWriter(template, "investors", writeMode,
+                    ingestProfiles.resolve(profile).getWriteConcern());
+        }
+
+        // MongoItemWriter's bulk operations take the template's write concern
+        MongoTemplate profileTemplate = new MongoTemplate(template.getMongoDatabaseFactory(), template.getConverter());
+        profileTemplate.setWriteConcern(ingestProfiles.resolve(profile).getWriteConcern());
+
         return new MongoItemWriterBuilder<InvestorDto>()
-                .template(template)
+                .template(profileTemplate)
                 .collection("investors")
                 .build();
     }
 
-    @Bean
-    public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
-        exec.setCorePoolSize(2);
-        exec.setMaxPoolSize(4);
-        exec.setQueueCapacity(10);
-        exec.setThreadNamePrefix("bulk-file-");
-        exec.initialize();
-        return exec;
+    private static WriteMode writeMode(String mode) {
+        return mode == null || mode.isBlank() ? WriteMode.INSERT : WriteMode.valueOf(mode);
     }
 
 
-    public static class DelegatingFileItemReader implements ItemReader<InvestorDto>, ItemStream {
+    /**
+     * Reads the stored upload as CSV or JSON. {@code .csv.gz}, {@code .json.gz} and
+     * {@code .zip} files are decompressed as they are read.
+     */
+    public static class DelegatingFileItemReader implements ItemStreamReader<InvestorDto> {
+        private static final Logger logger = LoggerFactory.getLogger(DelegatingFileItemReader.class);
+
         private final String filePath;
+        private String contentName;
         private ItemReader<InvestorDto> delegate;
         private ItemStream streamDelegate;
         private boolean initialized = false;
         private boolean opened = false;
+        private boolean saveState = true;
+        private long[] byteRange;
         private ExecutionContext savedExecutionContext;
 
         public DelegatingFileItemReader(String filePath) {
             this.filePath = filePath;
         }
 
+        /**
+         * Whether the read position is checkpointed for restarts. Must be off when
+         * several threads share the reader, whose position then says nothing about
+         * which items were committed.
+         */
+        public void setSaveState(boolean saveState) {
+            this.saveState = saveState;
+        }
+
+        /**
+         * Restricts a plain CSV file to the header row followed by bytes
+         * {@code [start, end)}, one partition of a {@link CsvRangePartitioner}.
+         */
+        public void setByteRange(long headerEnd, long start, long end) {
+            this.byteRange = new long[]{headerEnd, start, end};
+        }
+
         @Override
         public void open(ExecutionContext executionContext) throws ItemStreamException {
-            System.out.println("=== DelegatingFileItemReader.open() called for: " + filePath + " ===");
+            logger.debug("Opening reader for {}", filePath);
             this.savedExecutionContext = executionContext;
             this.opened = true;
 
@@ -150,14 +336,14 @@ public class InvestorBatchConfig {
 
         @Override
         public void update(ExecutionContext executionContext) throws ItemStreamException {
-            if (streamDelegate != null) {
+            if (saveState && streamDelegate != null) {
                 streamDelegate.update(executionContext);
             }
         }
 
         @Override
         public void close() throws ItemStreamException {
-            System.out.println("=== DelegatingFileItemReader.close() called ===");
+            logger.debug("Closing reader for {}", filePath);
             if (streamDelegate != null) {
                 streamDelegate.close();
             }
@@ -168,7 +354,7 @@ public class InvestorBatchConfig {
         public InvestorDto read() throws Exception {
 
             if (!initialized) {
-                System.out.println("=== WARNING: read() called before open() - initializing defensively ===");
+                logger.debug("read() called before open() for {}, initializing defensively", filePath);
 
                 if (isJsonFile()) {
 
@@ -186,207 +372,88 @@ public class InvestorBatchConfig {
 
         private void initializeIfNeeded(ExecutionContext context) {
             if (!initialized) {
-                System.out.println("=== Initializing reader for file: " + filePath + " ===");
+                logger.debug("Initializing reader for {}", filePath);
 
                 if (isJsonFile()) {
                     // JSON Reader
-                    System.out.println("=== Creating JSON reader ===");
+                    logger.debug("Creating JSON reader");
                     ObjectMapper objectMapper = new ObjectMapper();
                     JsonArrayItemReader jsonReader = new JsonArrayItemReader(objectMapper);
-                    jsonReader.setResource(new FileSystemResource(filePath));
+                    jsonReader.setResource(resource());
                     delegate = jsonReader;
-                    streamDelegate = null;
+                    streamDelegate = jsonReader;
                 } else {
                     // CSV Reader
-                    System.out.println("=== Creating CSV reader ===");
+                    logger.debug("Creating CSV reader");
                     FlatFileItemReader<InvestorDto> csvReader = createCsvReader();
                     delegate = csvReader;
                     streamDelegate = csvReader;
+                }
 
-
-                    if (streamDelegate != null && context != null) {
-                        try {
-                            System.out.println("=== Opening CSV reader with execution context ===");
-                            streamDelegate.open(context);
-                        } catch (Exception e) {
-                            System.err.println("=== Error opening CSV reader: " + e.getMessage() + " ===");
-                            throw new RuntimeException("Failed to open CSV reader", e);
-                        }
+                if (streamDelegate != null && context != null) {
+                    try {
+                        logger.debug("Opening delegate reader with execution context");
+                        streamDelegate.open(context);
+                    } catch (Exception e) {
+                        logger.debug("Error opening reader for {}: {}", filePath, e.getMessage());
+                        throw new RuntimeException("Failed to open reader", e);
                     }
                 }
 
                 initialized = true;
-                System.out.println("=== Reader initialization completed ===");
+                logger.debug("Reader initialization completed");
             }
         }
 
         private boolean isJsonFile() {
-            return filePath != null && filePath.toLowerCase().endsWith(".json");
+            String name = contentName();
+            return name != null && name.toLowerCase().endsWith(".json");
+        }
+
+        private String contentName() {
+            if (contentName == null && filePath != null) {
+                try {
+                    contentName = CompressedInput.isCompressed(filePath)
+                            ? CompressedInput.contentName(Path.of(filePath))
+                            : filePath;
+                } catch (IOException e) {
+                    throw new ItemStreamException("Cannot read compressed file: " + filePath, e);
+                }
+            }
+            return contentName;
+        }
+
+        private Resource resource() {
+            if (byteRange != null) {
+                return CsvRangePartitioner.resource(Path.of(filePath), byteRange[0], byteRange[1], byteRange[2]);
+            }
+            return CompressedInput.isCompressed(filePath)
+                    ? CompressedInput.resource(Path.of(filePath))
+                    : new FileSystemResource(filePath);
         }
 
         private FlatFileItemReader<InvestorDto> createCsvReader() {
             FlatFileItemReader<InvestorDto> reader = new FlatFileItemReader<>();
-            reader.setResource(new FileSystemResource(filePath));
+            reader.setResource(resource());
             reader.setLinesToSkip(1);
+            // Quoted fields may span lines, as the partitioner assumes when cutting ranges
+            reader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
 
+            // Tokens are read by position, as the mapper's plan compiled from the header row
             DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
             tokenizer.setDelimiter(DelimitedLineTokenizer.DELIMITER_COMMA);
             tokenizer.setQuoteCharacter('"');
-            tokenizer.setNames(new String[]{
-                    "name","status","preferredGeographicalAreas","preferredInvestmentTypes","sectors","verticals",
-                    "macroAreas","type","macroType","website","image","isOld","creatorEmail","adminEmail",
-                    "completenessScore","impressions","hqAddress","hqCity","hqState","hqZip","hqCountry",
-                    "hqPhone","hqEmail","hqFax","hqSn","invMin","invMax","invAvg","dealMax","dealMin",
-                    "cmpValMin","cmpValMax","ebitdaMin","ebitdaMax","ebitMin","ebitMax",
-                    "desc_it","desc_en","desc_fr","desc_de","desc_es","desc_ru","desc_ch",
-                    "contact_firstName","contact_lastName","contact_email","contact_phone",
-                    "contact_mobile","contact_fax","contact_role","contact_orderNum"
-            });
             tokenizer.setStrict(false);
 
+            InvestorFieldSetMapper fieldSetMapper = new InvestorFieldSetMapper();
+            reader.setSkippedLinesCallback(fieldSetMapper);
+
             DefaultLineMapper<InvestorDto> lineMapper = new DefaultLineMapper<>();
             lineMapper.setLineTokenizer(tokenizer);
-            lineMapper.setFieldSetMapper(fieldSet -> {
-                try {
-                    List<String> geoAreas = splitToList(readStringSafe(fieldSet, "preferredGeographicalAreas"));
-                    List<String> invTypes = splitToList(readStringSafe(fieldSet, "preferredInvestmentTypes"));
-                    List<String> sectors = splitToList(readStringSafe(fieldSet, "sectors"));
-                    List<String> verticals = splitToList(readStringSafe(fieldSet, "verticals"));
-                    List<String> macroAreas = splitToList(readStringSafe(fieldSet, "macroAreas"));
-
-                    AddressDto address = AddressDto.builder()
-                            .address(readStringSafe(fieldSet, "hqAddress"))
-                            .city(readStringSafe(fieldSet, "hqCity"))
-                            .state(readStringSafe(fieldSet, "hqState"))
-                            .zip(readStringSafe(fieldSet, "hqZip"))
-                            .country(readStringSafe(fieldSet, "hqCountry"))
-                            .phone(readStringSafe(fieldSet, "hqPhone"))
-                            .email(readStringSafe(fieldSet, "hqEmail"))
-                            .fax(readStringSafe(fieldSet, "hqFax"))
-                            .sn(readStringSafe(fieldSet, "hqSn"))
-                            .build();
-
-                    FinancialsDto fin = FinancialsDto.builder()
-                            .invMin(readBigDecimalSafe(fieldSet, "invMin"))
-                            .invMax(readBigDecimalSafe(fieldSet, "invMax"))
-                            .invAvg(readBigDecimalSafe(fieldSet, "invAvg"))
-                            .dealMax(readBigDecimalSafe(fieldSet, "dealMax"))
-                            .dealMin(readBigDecimalSafe(fieldSet, "dealMin"))
-                            .cmpValMin(readBigDecimalSafe(fieldSet, "cmpValMin"))
-                            .cmpValMax(readBigDecimalSafe(fieldSet, "cmpValMax"))
-                            .ebitdaMin(readBigDecimalSafe(fieldSet, "ebitdaMin"))
-                            .ebitdaMax(readBigDecimalSafe(fieldSet, "ebitdaMax"))
-                            .ebitMin(readBigDecimalSafe(fieldSet, "ebitMin"))
-                            .ebitMax(readBigDecimalSafe(fieldSet, "ebitMax"))
-                            .build();
-
-                    InvDescriptionsDto desc = InvDescriptionsDto.builder()
-                            .it(readStringSafe(fieldSet, "desc_it"))
-                            .en(readStringSafe(fieldSet, "desc_en"))
-                            .fr(readStringSafe(fieldSet, "desc_fr"))
-                            .de(readStringSafe(fieldSet, "desc_de"))
-                            .es(readStringSafe(fieldSet, "desc_es"))
-                            .ru(readStringSafe(fieldSet, "desc_ru"))
-                            .ch(readStringSafe(fieldSet, "desc_ch"))
-                            .build();
-
-                    ContactsDto contact = ContactsDto.builder()
-                            .firstName(readStringSafe(fieldSet, "contact_firstName"))
-                            .lastName(readStringSafe(fieldSet, "contact_lastName"))
-                            .email(readStringSafe(fieldSet, "contact_email"))
-                            .phone(readStringSafe(fieldSet, "contact_phone"))
-                            .mobile(readStringSafe(fieldSet, "contact_mobile"))
-                            .fax(readStringSafe(fieldSet, "contact_fax"))
-                            .role(readStringSafe(fieldSet, "contact_role"))
-                            .orderNum(readIntSafe(fieldSet, "contact_orderNum"))
-                            .build();
-
-                    return InvestorDto.builder()
-                            .name(readStringSafe(fieldSet, "name"))
-                            .status(readStringSafe(fieldSet, "status"))
-                            .preferredGeographicalAreas(geoAreas)
-                            .preferredInvestmentTypes(invTypes)
-                            .sectors(sectors)
-                            .verticals(verticals)
-                            .macroAreas(macroAreas)
-                            .type(readStringSafe(fieldSet, "type"))
-                            .macroType(readStringSafe(fieldSet, "macroType"))
-                            .website(readStringSafe(fieldSet, "website"))
-                            .image(readStringSafe(fieldSet, "image"))
-                            .isOld(readBooleanSafe(fieldSet, "isOld"))
-                            .creatorEmail(readStringSafe(fieldSet, "creatorEmail"))
-                            .adminEmail(readStringSafe(fieldSet, "adminEmail"))
-                            .completenessScore(readIntSafe(fieldSet, "completenessScore"))
-                            .impressions(readIntSafe(fieldSet, "impressions"))
-                            .hqLocation(address)
-                            .financials(fin)
-                            .descriptions(desc)
-                            .contacts(new HashSet<>(List.of(contact)))
-                            .build();
-                } catch (Exception e) {
-                    System.err.println("=== CSV FIELD MAPPING ERROR: " + e.getMessage() + " ===");
-                    throw new RuntimeException("Error processing CSV row: " + e.getMessage(), e);
-                }
-            });
+            lineMapper.setFieldSetMapper(fieldSetMapper);
 
             reader.setLineMapper(lineMapper);
             return reader;
         }
-
-
-        private String readStringSafe(org.springframework.batch.item.file.transform.FieldSet fieldSet, String fieldName) {
-            try {
-                String value = fieldSet.readString(fieldName);
-                return (value != null && !value.trim().isEmpty()) ? value.trim() : null;
-            } catch (Exception e) {
-                return null;
-            }
-        }
-
-        private java.math.BigDecimal readBigDecimalSafe(org.springframework.batch.item.file.transform.FieldSet fieldSet, String fieldName) {
-            try {
-                String value = fieldSet.readString(fieldName);
-                if (value == null || value.trim().isEmpty()) {
-                    return null;
-                }
-                return fieldSet.readBigDecimal(fieldName);
-            } catch (Exception e) {
-                return null;
-            }
-        }
-
-        private Integer readIntSafe(org.springframework.batch.item.file.transform.FieldSet fieldSet, String fieldName) {
-            try {
-                String value = fieldSet.readString(fieldName);
-                if (value == null || value.trim().isEmpty()) {
-                    return null;
-                }
-                return fieldSet.readInt(fieldName);
-            } catch (Exception e) {
-                return null;
-            }
-        }
-
-        private Boolean readBooleanSafe(org.springframework.batch.item.file.transform.FieldSet fieldSet, String fieldName) {
-            try {
-                String value = fieldSet.readString(fieldName);
-                if (value == null || value.trim().isEmpty()) {
-                    return null;
-                }
-                return fieldSet.readBoolean(fieldName);
-            } catch (Exception e) {
-                return false;
-            }
-        }
-
-        private List<String> splitToList(String raw) {
-            if (raw == null || raw.isBlank()) {
-                return Collections.emptyList();
-            }
-            return Arrays.stream(raw.split("[;,]"))
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .collect(Collectors.toList());
-        }
     }
 }
\ No newline at end of file
@@ -5,7 +5,9 @@ import com.mongodb.ServerAddress;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.ucapital.sharkshub.investor.codec.InvestorCodec;
 import jakarta.annotation.PostConstruct;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,6 +47,11 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
         return database;
     }
 
+    @Bean
+    public InvestorCodec investorCodec() {
+        return new InvestorCodec();
+    }
+
     @Override
     @Bean
     public MongoClient mongoClient() {
@@ -59,6 +66,9 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
                         builder.connectTimeout(10000, TimeUnit.MILLISECONDS)
                                 .readTimeout(30000, TimeUnit.MILLISECONDS))
                 .writeConcern(WriteConcern.MAJORITY)
+                .codecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(investorCodec()),
+                        MongoClientSettings.getDefaultCodecRegistry()))
                 .build();
 
         return MongoClients.create(settings);
@@ -1,9 +1,11 @@
 package com.ucapital.sharkshub.config;
 
+import com.ucapital.sharkshub.investor.validation.InvestorRuleSet;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import org.hibernate.validator.HibernateValidator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,9 +15,19 @@ import org.springframework.validation.beanvalidation.MethodValidationPostProcess
 
 
 @Configuration
+@EnableConfigurationProperties(ValidationRuleProperties.class)
 public class ValidationConfig {
 
 
+    /**
+     * Compiled once at startup so a bad rule fails the context instead of the first import.
+     */
+    @Bean
+    public InvestorRuleSet investorRuleSet(ValidationRuleProperties properties) {
+        return InvestorRuleSet.compile(properties.getRules());
+    }
+
+
     @Bean
     public MessageSource messageSource() {
         ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
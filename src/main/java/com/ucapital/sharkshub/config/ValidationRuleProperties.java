@@ -0,0 +1,22 @@
+package com.ucapital.sharkshub.config;
+
+import com.ucapital.sharkshub.investor.validation.InvestorRuleSet;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Investor field rules bound from {@code sharkshub.validation.rules[<path>]}, merged
+ * over {@link InvestorRuleSet#DEFAULT_RULES}. An empty value switches a field's
+ * rules off, e.g. {@code sharkshub.validation.rules[hqLocation.email]=}.
+ */
+@Data
+@ConfigurationProperties(prefix = "sharkshub.validation")
+public class ValidationRuleProperties {
+
+    private Map<String, List<String>> rules = new LinkedHashMap<>(InvestorRuleSet.DEFAULT_RULES);
+}
@@ -0,0 +1,445 @@
+package com.ucapital.sharkshub.investor.codec;
+
+import com.ucapital.sharkshub.investor.model.Investor;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hand-written BSON codec for {@link Investor}. Produces exactly the document
+ * {@code MappingMongoConverter} writes for the entity (declared field order, null
+ * fields omitted, {@code BigDecimal} as string, {@code _class} last) without the
+ * reflective mapping and intermediate {@code org.bson.Document} tree.
+ */
+public class InvestorCodec implements CollectibleCodec<Investor> {
+
+    static final String TYPE_KEY = "_class";
+    static final String TYPE_ALIAS = Investor.class.getName();
+
+    private final boolean generateIds;
+
+    public InvestorCodec() {
+        this(true);
+    }
+
+    /**
+     * @param generateIds whether a missing id is written as a new ObjectId; replacements
+     *                    keyed on name pass {@code false} so the stored {@code _id} is kept
+     */
+    public InvestorCodec(boolean generateIds) {
+        this.generateIds = generateIds;
+    }
+
+    /**
+     * Whether an investor without an id is written with a new ObjectId.
+     */
+    public boolean generatesIds() {
+        return generateIds;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Investor investor, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+
+        if (investor.getId() != null || generateIds) {
+            writeId(writer, investor.getId());
+        }
+        writeString(writer, "name", investor.getName());
+        writeString(writer, "status", investor.getStatus());
+        writeStrings(writer, "preferredGeographicalAreas", investor.getPreferredGeographicalAreas());
+        writeStrings(writer, "preferredInvestmentTypes", investor.getPreferredInvestmentTypes());
+        writeStrings(writer, "sectors", investor.getSectors());
+        writeStrings(writer, "verticals", investor.getVerticals());
+        writeStrings(writer, "macroAreas", investor.getMacroAreas());
+        writeString(writer, "type", investor.getType());
+        writeString(writer, "macroType", investor.getMacroType());
+        writeString(writer, "website", investor.getWebsite());
+        writeString(writer, "image", investor.getImage());
+        writeBoolean(writer, "isOld", investor.getIsOld());
+        writeInstant(writer, "createdAt", investor.getCreatedAt());
+        writeInstant(writer, "updatedAt", investor.getUpdatedAt());
+        writeString(writer, "creatorEmail", investor.getCreatorEmail());
+        writeString(writer, "adminEmail", investor.getAdminEmail());
+        writeInt(writer, "completenessScore", investor.getCompletenessScore());
+        writeInt(writer, "impressions", investor.getImpressions());
+
+        Investor.Address address = investor.getHqLocation();
+        if (address != null) {
+            writer.writeStartDocument("hqLocation");
+            writeAddress(writer, address.getAddress(), address.getCity(), address.getState(), address.getZip(),
+                    address.getCountry(), address.getPhone(), address.getEmail(), address.getFax(), address.getSn());
+            writer.writeEndDocument();
+        }
+
+        Investor.Financials financials = investor.getFinancials();
+        if (financials != null) {
+            writer.writeStartDocument("financials");
+            writeFinancials(writer, financials.getInvMin(), financials.getInvMax(), financials.getInvAvg(),
+                    financials.getDealMax(), financials.getDealMin(), financials.getCmpValMin(),
+                    financials.getCmpValMax(), financials.getEbitdaMin(), financials.getEbitdaMax(),
+                    financials.getEbitMin(), financials.getEbitMax());
+            writer.writeEndDocument();
+        }
+
+        Investor.InvDescriptions descriptions = investor.getDescriptions();
+        if (descriptions != null) {
+            writer.writeStartDocument("descriptions");
+            writeDescriptions(writer, descriptions.getIt(), descriptions.getEn(), descriptions.getFr(),
+                    descriptions.getDe(), descriptions.getEs(), descriptions.getRu(), descriptions.getCh());
+            writer.writeEndDocument();
+        }
+
+        if (investor.getContacts() != null) {
+            writer.writeStartArray("contacts");
+            for (Investor.Contacts contact : investor.getContacts()) {
+                writer.writeStartDocument();
+                writeContact(writer, contact.getFirstName(), contact.getLastName(), contact.getEmail(),
+                        contact.getPhone(), contact.getMobile(), contact.getFax(), contact.getRole(),
+                        contact.getOrderNum());
+                writer.writeEndDocument();
+            }
+            writer.writeEndArray();
+        }
+
+        writer.writeString(TYPE_KEY, TYPE_ALIAS);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Investor decode(BsonReader reader, DecoderContext decoderContext) {
+        Investor investor = new Investor();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+
+            switch (field) {
+                case "_id" -> investor.setId(reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                        ? reader.readObjectId().toHexString()
+                        : reader.readString());
+                case "name" -> investor.setName(reader.readString());
+                case "status" -> investor.setStatus(reader.readString());
+                case "preferredGeographicalAreas" -> investor.setPreferredGeographicalAreas(readStrings(reader));
+                case "preferredInvestmentTypes" -> investor.setPreferredInvestmentTypes(readStrings(reader));
+                case "sectors" -> investor.setSectors(readStrings(reader));
+                case "verticals" -> investor.setVerticals(readStrings(reader));
+                case "macroAreas" -> investor.setMacroAreas(readStrings(reader));
+                case "type" -> investor.setType(reader.readString());
+                case "macroType" -> investor.setMacroType(reader.readString());
+                case "website" -> investor.setWebsite(reader.readString());
+                case "image" -> investor.setImage(reader.readString());
+                case "isOld" -> investor.setIsOld(reader.readBoolean());
+                case "createdAt" -> investor.setCreatedAt(Instant.ofEpochMilli(reader.readDateTime()));
+                case "updatedAt" -> investor.setUpdatedAt(Instant.ofEpochMilli(reader.readDateTime()));
+                case "creatorEmail" -> investor.setCreatorEmail(reader.readString());
+                case "adminEmail" -> investor.setAdminEmail(reader.readString());
+                case "completenessScore" -> investor.setCompletenessScore(reader.readInt32());
+                case "impressions" -> investor.setImpressions(reader.readInt32());
+                case "hqLocation" -> investor.setHqLocation(readAddress(reader));
+                case "financials" -> investor.setFinancials(readFinancials(reader));
+                case "descriptions" -> investor.setDescriptions(readDescriptions(reader));
+                case "contacts" -> investor.setContacts(readContacts(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return investor;
+    }
+
+    @Override
+    public Class<Investor> getEncoderClass() {
+        return Investor.class;
+    }
+
+    @Override
+    public Investor generateIdIfAbsentFromDocument(Investor investor) {
+        if (investor.getId() == null) {
+            investor.setId(new ObjectId().toHexString());
+        }
+        return investor;
+    }
+
+    @Override
+    public boolean documentHasId(Investor investor) {
+        return investor.getId() != null;
+    }
+
+    @Override
+    public BsonValue getDocumentId(Investor investor) {
+        String id = investor.getId();
+        if (id == null) {
+            throw new IllegalStateException("The investor does not contain an _id");
+        }
+        return ObjectId.isValid(id) ? new BsonObjectId(new ObjectId(id)) : new BsonString(id);
+    }
+
+
+    // ---- shared field writers, also used by InvestorDtoCodec ----
+
+    static void writeId(BsonWriter writer, String id) {
+        if (id == null) {
+            writer.writeObjectId("_id", new ObjectId());
+        } else if (ObjectId.isValid(id)) {
+            writer.writeObjectId("_id", new ObjectId(id));
+        } else {
+            writer.writeString("_id", id);
+        }
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeBoolean(BsonWriter writer, String name, Boolean value) {
+        if (value != null) {
+            writer.writeBoolean(name, value);
+        }
+    }
+
+    static void writeInt(BsonWriter writer, String name, Integer value) {
+        if (value != null) {
+            writer.writeInt32(name, value);
+        }
+    }
+
+    static void writeInstant(BsonWriter writer, String name, Instant value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.toEpochMilli());
+        }
+    }
+
+    static void writeDecimal(BsonWriter writer, String name, BigDecimal value) {
+        if (value != null) {
+            writer.writeString(name, value.toString());
+        }
+    }
+
+    static void writeStrings(BsonWriter writer, String name, Collection<String> values) {
+        if (values == null) {
+            return;
+        }
+        writer.writeStartArray(name);
+        for (String value : values) {
+            if (value == null) {
+                writer.writeNull();
+            } else {
+                writer.writeString(value);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    static void writeAddress(BsonWriter writer, String address, String city, String state, String zip,
+                             String country, String phone, String email, String fax, String sn) {
+        writeString(writer, "address", address);
+        writeString(writer, "city", city);
+        writeString(writer, "state", state);
+        writeString(writer, "zip", zip);
+        writeString(writer, "country", country);
+        writeString(writer, "phone", phone);
+        writeString(writer, "email", email);
+        writeString(writer, "fax", fax);
+        writeString(writer, "sn", sn);
+    }
+
+    static void writeFinancials(BsonWriter writer, BigDecimal invMin, BigDecimal invMax, BigDecimal invAvg,
+                                BigDecimal dealMax, BigDecimal dealMin, BigDecimal cmpValMin,
+                                BigDecimal cmpValMax, BigDecimal ebitdaMin, BigDecimal ebitdaMax,
+                                BigDecimal ebitMin, BigDecimal ebitMax) {
+        writeDecimal(writer, "invMin", invMin);
+        writeDecimal(writer, "invMax", invMax);
+        writeDecimal(writer, "invAvg", invAvg);
+        writeDecimal(writer, "dealMax", dealMax);
+        writeDecimal(writer, "dealMin", dealMin);
+        writeDecimal(writer, "cmpValMin", cmpValMin);
+        writeDecimal(writer, "cmpValMax", cmpValMax);
+        writeDecimal(writer, "ebitdaMin", ebitdaMin);
+        writeDecimal(writer, "ebitdaMax", ebitdaMax);
+        writeDecimal(writer, "ebitMin", ebitMin);
+        writeDecimal(writer, "ebitMax", ebitMax);
+    }
+
+    static void writeDescriptions(BsonWriter writer, String it, String en, String fr, String de,
+                                  String es, String ru, String ch) {
+        writeString(writer, "it", it);
+        writeString(writer, "en", en);
+        writeString(writer, "fr", fr);
+        writeString(writer, "de", de);
+        writeString(writer, "es", es);
+        writeString(writer, "ru", ru);
+        writeString(writer, "ch", ch);
+    }
+
+    static void writeContact(BsonWriter writer, String firstName, String lastName, String email, String phone,
+                             String mobile, String fax, String role, Integer orderNum) {
+        writeString(writer, "firstName", firstName);
+        writeString(writer, "lastName", lastName);
+        writeString(writer, "email", email);
+        writeString(writer, "phone", phone);
+        writeString(writer, "mobile", mobile);
+        writeString(writer, "fax", fax);
+        writeString(writer, "role", role);
+        writeInt(writer, "orderNum", orderNum);
+    }
+
+
+    // ---- readers ----
+
+    private static List<String> readStrings(BsonReader reader) {
+        List<String> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                values.add(null);
+            } else {
+                values.add(reader.readString());
+            }
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    private static BigDecimal readDecimal(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case DECIMAL128 -> reader.readDecimal128().bigDecimalValue();
+            case DOUBLE -> BigDecimal.valueOf(reader.readDouble());
+            case INT32 -> BigDecimal.valueOf(reader.readInt32());
+            case INT64 -> BigDecimal.valueOf(reader.readInt64());
+            default -> new BigDecimal(reader.readString());
+        };
+    }
+
+    private static String readNullableString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    private static Investor.Address readAddress(BsonReader reader) {
+        Investor.Address address = new Investor.Address();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            switch (field) {
+                case "address" -> address.setAddress(readNullableString(reader));
+                case "city" -> address.setCity(readNullableString(reader));
+                case "state" -> address.setState(readNullableString(reader));
+                case "zip" -> address.setZip(readNullableString(reader));
+                case "country" -> address.setCountry(readNullableString(reader));
+                case "phone" -> address.setPhone(readNullableString(reader));
+                case "email" -> address.setEmail(readNullableString(reader));
+                case "fax" -> address.setFax(readNullableString(reader));
+                case "sn" -> address.setSn(readNullableString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return address;
+    }
+
+    private static Investor.Financials readFinancials(BsonReader reader) {
+        Investor.Financials financials = new Investor.Financials();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (field) {
+                case "invMin" -> financials.setInvMin(readDecimal(reader));
+                case "invMax" -> financials.setInvMax(readDecimal(reader));
+                case "invAvg" -> financials.setInvAvg(readDecimal(reader));
+                case "dealMax" -> financials.setDealMax(readDecimal(reader));
+                case "dealMin" -> financials.setDealMin(readDecimal(reader));
+                case "cmpValMin" -> financials.setCmpValMin(readDecimal(reader));
+                case "cmpValMax" -> financials.setCmpValMax(readDecimal(reader));
+                case "ebitdaMin" -> financials.setEbitdaMin(readDecimal(reader));
+                case "ebitdaMax" -> financials.setEbitdaMax(readDecimal(reader));
+                case "ebitMin" -> financials.setEbitMin(readDecimal(reader));
+                case "ebitMax" -> financials.setEbitMax(readDecimal(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return financials;
+    }
+
+    private static Investor.InvDescriptions readDescriptions(BsonReader reader) {
+        Investor.InvDescriptions descriptions = new Investor.InvDescriptions();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            switch (field) {
+                case "it" -> descriptions.setIt(readNullableString(reader));
+                case "en" -> descriptions.setEn(readNullableString(reader));
+                case "fr" -> descriptions.setFr(readNullableString(reader));
+                case "de" -> descriptions.setDe(readNullableString(reader));
+                case "es" -> descriptions.setEs(readNullableString(reader));
+                case "ru" -> descriptions.setRu(readNullableString(reader));
+                case "ch" -> descriptions.setCh(readNullableString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return descriptions;
+    }
+
+    private static Set<Investor.Contacts> readContacts(BsonReader reader) {
+        Set<Investor.Contacts> contacts = new HashSet<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Investor.Contacts contact = new Investor.Contacts();
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String field = reader.readName();
+                switch (field) {
+                    case "firstName" -> contact.setFirstName(readNullableString(reader));
+                    case "lastName" -> contact.setLastName(readNullableString(reader));
+                    case "email" -> contact.setEmail(readNullableString(reader));
+                    case "phone" -> contact.setPhone(readNullableString(reader));
+                    case "mobile" -> contact.setMobile(readNullableString(reader));
+                    case "fax" -> contact.setFax(readNullableString(reader));
+                    case "role" -> contact.setRole(readNullableString(reader));
+                    case "orderNum" -> {
+                        if (reader.getCurrentBsonType() == BsonType.NULL) {
+                            reader.readNull();
+                        } else {
+                            contact.setOrderNum(reader.readInt32());
+                        }
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+            contacts.add(contact);
+        }
+        reader.readEndArray();
+        return contacts;
+    }
+}
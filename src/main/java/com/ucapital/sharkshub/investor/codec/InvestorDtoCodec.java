@@ -0,0 +1,128 @@
+package com.ucapital.sharkshub.investor.codec;
+
+import com.ucapital.sharkshub.investor.dto.AddressDto;
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.FinancialsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static com.ucapital.sharkshub.investor.codec.InvestorCodec.*;
+
+/**
+ * Encodes an {@link InvestorDto} straight into the stored {@code Investor} document,
+ * skipping {@code convertToEntity}. The output matches what {@link InvestorCodec}
+ * writes for the converted entity, with {@code createdAt}/{@code updatedAt} stamped
+ * from the given clock the way the bulk insert path does. Contacts are a set on both
+ * sides, so their array order is not significant.
+ */
+public class InvestorDtoCodec implements Encoder<InvestorDto> {
+
+    private final Clock clock;
+
+    public InvestorDtoCodec() {
+        this(Clock.systemUTC());
+    }
+
+    public InvestorDtoCodec(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, InvestorDto dto, EncoderContext encoderContext) {
+        Instant now = clock.instant();
+
+        writer.writeStartDocument();
+
+        writeId(writer, dto.getId());
+        writeString(writer, "name", dto.getName());
+        writeString(writer, "status", dto.getStatus());
+        writeStrings(writer, "preferredGeographicalAreas", orEmpty(dto.getPreferredGeographicalAreas()));
+        writeStrings(writer, "preferredInvestmentTypes", orEmpty(dto.getPreferredInvestmentTypes()));
+        writeStrings(writer, "sectors", orEmpty(dto.getSectors()));
+        writeStrings(writer, "verticals", orEmpty(dto.getVerticals()));
+        writeStrings(writer, "macroAreas", orEmpty(dto.getMacroAreas()));
+        writeString(writer, "type", dto.getType());
+        writeString(writer, "macroType", dto.getMacroType());
+        writeString(writer, "website", dto.getWebsite());
+        writeString(writer, "image", dto.getImage());
+        writeBoolean(writer, "isOld", dto.getIsOld());
+        writeInstant(writer, "createdAt", now);
+        writeInstant(writer, "updatedAt", now);
+        writeString(writer, "creatorEmail", dto.getCreatorEmail());
+        writeString(writer, "adminEmail", dto.getAdminEmail());
+        writeInt(writer, "completenessScore", dto.getCompletenessScore());
+        writeInt(writer, "impressions", dto.getImpressions());
+
+        AddressDto address = dto.getHqLocation();
+        if (address != null) {
+            writer.writeStartDocument("hqLocation");
+            writeAddress(writer, address.getAddress(), address.getCity(), address.getState(), address.getZip(),
+                    address.getCountry(), address.getPhone(), address.getEmail(), address.getFax(), address.getSn());
+            writer.writeEndDocument();
+        }
+
+        FinancialsDto financials = dto.getFinancials();
+        if (financials != null) {
+            writer.writeStartDocument("financials");
+            writeFinancials(writer, financials.getInvMin(), financials.getInvMax(), financials.getInvAvg(),
+                    financials.getDealMax(), financials.getDealMin(), financials.getCmpValMin(),
+                    financials.getCmpValMax(), financials.getEbitdaMin(), financials.getEbitdaMax(),
+                    financials.getEbitMin(), financials.getEbitMax());
+            writer.writeEndDocument();
+        }
+
+        InvDescriptionsDto descriptions = dto.getDescriptions();
+        if (descriptions != null) {
+            writer.writeStartDocument("descriptions");
+            writeDescriptions(writer, descriptions.getIt(), descriptions.getEn(), descriptions.getFr(),
+                    descriptions.getDe(), descriptions.getEs(), descriptions.getRu(), descriptions.getCh());
+            writer.writeEndDocument();
+        }
+
+        writer.writeStartArray("contacts");
+        if (dto.getContacts() != null) {
+            for (ContactsDto contact : dto.getContacts()) {
+                writer.writeStartDocument();
+                writeContact(writer, contact.getFirstName(), contact.getLastName(), contact.getEmail(),
+                        contact.getPhone(), contact.getMobile(), contact.getFax(), contact.getRole(),
+                        contact.getOrderNum());
+                writer.writeEndDocument();
+            }
+        }
+        writer.writeEndArray();
+
+        writer.writeString(TYPE_KEY, TYPE_ALIAS);
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Encodes {@code dto} into a ready-to-send {@link RawBsonDocument}.
+     */
+    public RawBsonDocument toRawDocument(InvestorDto dto) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            encode(writer, dto, EncoderContext.builder().build());
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    @Override
+    public Class<InvestorDto> getEncoderClass() {
+        return InvestorDto.class;
+    }
+
+    private static Collection<String> orEmpty(Collection<String> values) {
+        return values != null ? values : List.of();
+    }
+}
@@ -1,9 +1,15 @@
 package com.ucapital.sharkshub.investor.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.dto.BulkProgress;
 import com.ucapital.sharkshub.investor.dto.InvestorDto;
 import com.ucapital.sharkshub.investor.dto.OperationStatus;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import com.ucapital.sharkshub.investor.exception.UnknownIngestProfileException;
+import com.ucapital.sharkshub.investor.service.IdempotencyService;
 import com.ucapital.sharkshub.investor.service.InvestorService;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +21,19 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,11 +45,30 @@ public class InvestorController {
 
     private static final Logger logger = LoggerFactory.getLogger(InvestorController.class);
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final String IDEMPOTENCY_KEY_DESCRIPTION = "Makes retries safe: a repeated request with the same "
+            + "key and payload returns the original response instead of running again";
+    private static final String PROFILE_DESCRIPTION =
+            "Ingest profile controlling write concern, batch size and parallelism, e.g. bulk-load or safe";
+    private static final String MODE_DESCRIPTION = "How an existing investor with the same name is treated: "
+            + "INSERT rejects it, REPLACE overwrites it, MERGE sets only the supplied fields, "
+            + "INSERT_IF_ABSENT leaves it untouched";
+
     private final InvestorService investorService;
+    private final IngestProfiles ingestProfiles;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyService idempotencyService;
 
     @Autowired
-    public InvestorController(InvestorService investorService) {
+    public InvestorController(InvestorService investorService,
+                              IngestProfiles ingestProfiles,
+                              ObjectMapper objectMapper,
+                              IdempotencyService idempotencyService) {
         this.investorService = investorService;
+        this.ingestProfiles = ingestProfiles;
+        this.objectMapper = objectMapper;
+        this.idempotencyService = idempotencyService;
     }
 
 
@@ -48,14 +79,92 @@ public class InvestorController {
             @ApiResponse(responseCode = "200", description = "Investors processed",
                     content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "A request with this Idempotency-Key is still running"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was used for a different request"),
             @ApiResponse(responseCode = "500", description = "Server error during processing")
     })
     public ResponseEntity<BulkOperationResponse> bulkInsert(
             @Parameter(description = "List of investors to insert")
-            @Valid @RequestBody List<InvestorDto> investors) {
+            @Valid @RequestBody List<InvestorDto> investors,
+            @Parameter(description = PROFILE_DESCRIPTION)
+            @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(description = MODE_DESCRIPTION)
+            @RequestParam(name = "mode", defaultValue = "INSERT") WriteMode mode,
+            @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) throws IOException {
 
         logger.info("Received bulk insert request for {} investors", investors.size());
-        BulkOperationResponse response = investorService.bulkInsert(investors);
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(investorService.bulkInsert(investors, profile, mode));
+        }
+
+        String fingerprint = idempotencyService.fingerprint("/bulk", profile, mode, investors);
+        return idempotent(idempotencyService.execute(idempotencyKey, fingerprint,
+                () -> investorService.bulkInsert(investors, profile, mode)));
+    }
+
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk insert investors from NDJSON with streamed progress",
+            description = "Accepts one investor per line and writes back one progress line per committed chunk "
+                    + "(cumulative counts, the chunk's errors, elapsed time), then a final line with done=true")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progress lines, one per committed chunk",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BulkProgress.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown ingest profile")
+    })
+    public ResponseEntity<StreamingResponseBody> bulkInsertNdjson(
+            @Parameter(description = "One investor JSON object per line")
+            InputStream body,
+
+            @Parameter(description = PROFILE_DESCRIPTION)
+            @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(description = MODE_DESCRIPTION)
+            @RequestParam(name = "mode", defaultValue = "INSERT") WriteMode mode) {
+
+        logger.info("Received NDJSON bulk insert request");
+        // Fail with a 400 before the streamed 200 response is committed
+        ingestProfiles.resolve(profile);
+
+        StreamingResponseBody stream = output -> investorService.bulkInsertNdjson(body, profile, mode, progress -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(progress));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Client stopped reading bulk insert progress", e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+
+    @PostMapping(value = "/bulk/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk insert investors from a streamed JSON array",
+            description = "Reads the JSON array element by element and writes it in fixed-size chunks, "
+                    + "so memory use follows the chunk size rather than the payload size")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Investors processed",
+                    content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown ingest profile"),
+            @ApiResponse(responseCode = "500", description = "Server error during processing")
+    })
+    public ResponseEntity<BulkOperationResponse> bulkInsertStream(
+            @Parameter(description = "JSON array of investors, read incrementally")
+            InputStream body,
+
+            @Parameter(description = PROFILE_DESCRIPTION)
+            @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(description = MODE_DESCRIPTION)
+            @RequestParam(name = "mode", defaultValue = "INSERT") WriteMode mode) throws IOException {
+
+        logger.info("Received streaming bulk insert request");
+        BulkOperationResponse response = investorService.bulkInsertStream(body, profile, mode);
 
         return ResponseEntity.ok(response);
     }
@@ -68,17 +177,30 @@ public class InvestorController {
             @ApiResponse(responseCode = "200", description = "File processed",
                     content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid file or format"),
+            @ApiResponse(responseCode = "409", description = "A request with this Idempotency-Key is still running"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was used for a different request"),
             @ApiResponse(responseCode = "500", description = "Server error during processing")
     })
     public ResponseEntity<BulkOperationResponse> bulkInsertFromFile(
             @Parameter(description = "File containing investor data (CSV or JSON)")
-            @RequestParam("file") MultipartFile file) {
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = PROFILE_DESCRIPTION)
+            @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(description = MODE_DESCRIPTION)
+            @RequestParam(name = "mode", defaultValue = "INSERT") WriteMode mode,
+            @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
 
         logger.info("Received bulk insert request from file: {}", file.getOriginalFilename());
 
         try {
-            BulkOperationResponse response = investorService.bulkInsertFromFile(file);
-            return ResponseEntity.ok(response);
+            if (idempotencyKey == null) {
+                return ResponseEntity.ok(investorService.bulkInsertFromFile(file, profile, mode));
+            }
+
+            String fingerprint = idempotencyService.fingerprint("/bulk/file", profile, mode, file.getInputStream());
+            return idempotent(idempotencyService.execute(idempotencyKey, fingerprint,
+                    () -> investorService.bulkInsertFromFile(file, profile, mode)));
         } catch (IOException e) {
             logger.error("Error reading file: {}", e.getMessage(), e);
 
@@ -106,11 +228,23 @@ public class InvestorController {
             @ApiResponse(responseCode = "500", description = "Server error during job launch")
     })
     public ResponseEntity<Long> launchBulkInsertJob(
-            @RequestPart("file") MultipartFile file) {
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = PROFILE_DESCRIPTION)
+            @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(description = MODE_DESCRIPTION)
+            @RequestParam(name = "mode", defaultValue = "INSERT") WriteMode mode,
+            @Parameter(description = "Threads processing chunks concurrently, capped by sharkshub.batch.step.max-threads; "
+                    + "omit to process one chunk at a time with restartable reads")
+            @RequestParam(name = "threads", required = false) Integer threads,
+            @Parameter(description = "Record-aligned byte ranges a plain CSV file is split into, each imported by "
+                    + "its own restartable worker step; capped by sharkshub.batch.step.max-threads")
+            @RequestParam(name = "partitions", required = false) Integer partitions) {
         logger.info("Received async bulk insert request from file: {}", file.getOriginalFilename());
         try {
-            long jobExecutionId = investorService.launchBulkInsertJob(file);
+            long jobExecutionId = investorService.launchBulkInsertJob(file, profile, mode, threads, partitions);
             return ResponseEntity.accepted().body(jobExecutionId);
+        } catch (UnknownIngestProfileException e) {
+            throw e;
         } catch (IOException e) {
             logger.error("Error reading file: {}", e.getMessage(), e);
             return ResponseEntity
@@ -147,6 +281,36 @@ public class InvestorController {
     }
 
 
+    private static ResponseEntity<BulkOperationResponse> idempotent(IdempotencyService.Outcome outcome) {
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                .body(outcome.response());
+    }
+
+
+    @GetMapping(value = "/bulk/errors/{reportId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Download the full error list of a bulk insert",
+            description = "Bulk responses embed only the first errors; when there were more, errorSummary.reportId "
+                    + "names a report with every error, one JSON object per line")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "All errors of the bulk insert",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)),
+            @ApiResponse(responseCode = "404", description = "Report not found or expired")
+    })
+    public ResponseEntity<Resource> getBulkErrorReport(
+            @Parameter(description = "errorSummary.reportId from a bulk insert response")
+            @PathVariable("reportId") String reportId) {
+        logger.info("Fetching bulk error report {}", reportId);
+        return investorService.findErrorReport(reportId)
+                .map(report -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"" + report.getFileName() + "\"")
+                        .<Resource>body(new FileSystemResource(report)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+
     @GetMapping
     @Operation(
             summary = "Get all investors",
@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class BulkError {
 
+    /** Item index of an error about the payload as a whole, such as malformed JSON; not counted as a failed item. */
+    public static final int NO_ITEM = -1;
+
     private int itemIndex;
     private String investorName;
     private String errorCode;
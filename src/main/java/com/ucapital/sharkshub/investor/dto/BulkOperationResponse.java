@@ -1,5 +1,7 @@
 package com.ucapital.sharkshub.investor.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,13 +9,16 @@ import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class BulkOperationResponse {
 
 
@@ -38,11 +43,27 @@ public class BulkOperationResponse {
 
     private String message;
 
+    /** The first {@code errorSampleLimit} errors; {@code errorSummary} accounts for all of them. */
     @Builder.Default
     private List<BulkError> errors = new ArrayList<>();
 
+    @Builder.Default
+    private ErrorSummary errorSummary = new ErrorSummary();
+
     @Builder.Default
     private List<String> warnings = new ArrayList<>();
+
+    @JsonIgnore
+    @Builder.Default
+    private int errorSampleLimit = Integer.MAX_VALUE;
+
+    /**
+     * Receives every error once the samples are full, starting with the samples
+     * themselves, so the complete list can be kept outside the heap.
+     */
+    @JsonIgnore
+    private Consumer<BulkError> errorOverflow;
+
     public boolean isFullySuccessful() {
         return failureCount == 0 && successCount == totalProcessed;
     }
@@ -59,7 +80,7 @@ public class BulkOperationResponse {
     }
 
     public void addError(int itemIndex, String investorName, String errorCode, String errorMessage) {
-        this.errors.add(BulkError.builder()
+        recordError(BulkError.builder()
                 .itemIndex(itemIndex)
                 .investorName(investorName)
                 .errorCode(errorCode)
@@ -70,7 +91,7 @@ public class BulkOperationResponse {
 
     public void addValidationError(int itemIndex, String investorName, String fieldName,
                                    Object rejectedValue, String errorMessage) {
-        this.errors.add(BulkError.builder()
+        recordError(BulkError.builder()
                 .itemIndex(itemIndex)
                 .investorName(investorName)
                 .errorCode("VALIDATION_ERROR")
@@ -82,6 +103,32 @@ public class BulkOperationResponse {
     }
 
 
+    /**
+     * Takes over errors collected elsewhere, such as a streamed chunk's, without
+     * touching {@code failureCount}.
+     */
+    public void addErrors(Collection<BulkError> errors) {
+        errors.forEach(this::recordError);
+    }
+
+
+    private void recordError(BulkError error) {
+        errorSummary.count(error);
+
+        if (errors.size() < errorSampleLimit) {
+            errors.add(error);
+            return;
+        }
+        if (errorOverflow != null) {
+            if (!errorSummary.isTruncated()) {
+                errors.forEach(errorOverflow);
+            }
+            errorOverflow.accept(error);
+        }
+        errorSummary.setTruncated(true);
+    }
+
+
     public void addWarning(String warning) {
         this.warnings.add(warning);
     }
@@ -0,0 +1,44 @@
+package com.ucapital.sharkshub.investor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * One line of an NDJSON bulk insert response. A line is written after every
+ * committed chunk, carrying cumulative counts and that chunk's errors; the last
+ * line has {@code done} set and the final status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProgress {
+
+    private int chunk;
+
+    private boolean done;
+
+    private int processed;
+
+    private int successCount;
+
+    private int failureCount;
+
+    private long elapsedMs;
+
+    private OperationStatus status;
+
+    private String message;
+
+    @Builder.Default
+    private List<BulkError> errors = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> warnings = new ArrayList<>();
+}
@@ -0,0 +1,83 @@
+package com.ucapital.sharkshub.investor.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Aggregate view of every error in a {@link BulkOperationResponse}, kept whole even
+ * when only the first errors are embedded as samples. Failed item indexes are held
+ * as a bitmap and rendered as ranges such as {@code "3,10-24"}.
+ */
+@Data
+@JsonIgnoreProperties(value = "failedItems", allowGetters = true)
+public class ErrorSummary {
+
+    private Map<String, Integer> byCode = new LinkedHashMap<>();
+
+    private Map<String, Integer> byField = new LinkedHashMap<>();
+
+    /** Errors beyond the embedded samples were dropped from {@code errors}. */
+    private boolean truncated;
+
+    /** Id of the full NDJSON error list, downloadable from {@code GET /api/investors/bulk/errors/{id}}. */
+    private String reportId;
+
+    @JsonIgnore
+    private BitSet failedIndexes = new BitSet();
+
+
+    public void count(BulkError error) {
+        byCode.merge(error.getErrorCode(), 1, Integer::sum);
+        if (error.getFieldName() != null) {
+            byField.merge(error.getFieldName(), 1, Integer::sum);
+        }
+        if (error.getItemIndex() != BulkError.NO_ITEM) {
+            failedIndexes.set(error.getItemIndex());
+        }
+    }
+
+
+    public int getFailedItems() {
+        return failedIndexes.cardinality();
+    }
+
+
+    public String getFailedItemRanges() {
+        StringBuilder ranges = new StringBuilder();
+        for (int start = failedIndexes.nextSetBit(0); start >= 0; ) {
+            int end = failedIndexes.nextClearBit(start) - 1;
+            if (!ranges.isEmpty()) {
+                ranges.append(',');
+            }
+            ranges.append(start);
+            if (end > start) {
+                ranges.append('-').append(end);
+            }
+            start = failedIndexes.nextSetBit(end + 1);
+        }
+        return ranges.toString();
+    }
+
+
+    public void setFailedItemRanges(String ranges) {
+        failedIndexes.clear();
+        if (ranges == null || ranges.isEmpty()) {
+            return;
+        }
+        for (String range : ranges.split(",")) {
+            int dash = range.indexOf('-');
+            if (dash < 0) {
+                failedIndexes.set(Integer.parseInt(range));
+            } else {
+                failedIndexes.set(Integer.parseInt(range, 0, dash, 10),
+                        Integer.parseInt(range, dash + 1, range.length(), 10) + 1);
+            }
+        }
+    }
+}
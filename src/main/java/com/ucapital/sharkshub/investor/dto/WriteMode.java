@@ -0,0 +1,24 @@
+package com.ucapital.sharkshub.investor.dto;
+
+/**
+ * How a bulk write treats an investor whose name already exists.
+ */
+public enum WriteMode {
+    /** Plain insert; an existing name is reported as a duplicate. */
+    INSERT,
+    /** Replace the existing document with the incoming one, keeping its createdAt, or insert it. */
+    REPLACE,
+    /** Overwrite only the fields the incoming investor sets; empty lists are ignored. */
+    MERGE,
+    /** Insert only when no investor with that name exists; existing ones are left untouched. */
+    INSERT_IF_ABSENT;
+
+
+    /**
+     * Whether writes are keyed on name, so duplicates are resolved by the database
+     * instead of being rejected up front.
+     */
+    public boolean isUpsert() {
+        return this != INSERT;
+    }
+}
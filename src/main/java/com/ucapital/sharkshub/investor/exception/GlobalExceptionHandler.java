@@ -114,6 +114,44 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(UnknownIngestProfileException.class)
+    public ResponseEntity<Object> handleUnknownIngestProfile(
+            UnknownIngestProfileException ex, WebRequest request) {
+
+        logger.error("Unknown ingest profile: {}", ex.getProfile());
+
+        Map<String, Object> details = new HashMap<>();
+        details.put("profile", ex.getProfile());
+        details.put("availableProfiles", ex.getAvailableProfiles());
+
+        ApiError apiError = new ApiError(
+                HttpStatus.BAD_REQUEST,
+                "Unknown ingest profile",
+                ex.getMessage(),
+                details
+        );
+
+        return new ResponseEntity<>(apiError, new HttpHeaders(), apiError.getStatus());
+    }
+
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Object> handleIdempotencyConflict(
+            IdempotencyConflictException ex, WebRequest request) {
+
+        logger.warn("Idempotency conflict: {}", ex.getMessage());
+
+        ApiError apiError = new ApiError(
+                ex.getStatus(),
+                "Idempotency-Key conflict",
+                ex.getMessage(),
+                Map.of("idempotencyKey", ex.getIdempotencyKey())
+        );
+
+        return new ResponseEntity<>(apiError, new HttpHeaders(), apiError.getStatus());
+    }
+
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Object> handleConstraintViolation(
             ConstraintViolationException ex, WebRequest request) {
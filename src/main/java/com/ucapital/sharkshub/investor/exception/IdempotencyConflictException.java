@@ -0,0 +1,34 @@
+package com.ucapital.sharkshub.investor.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    private final HttpStatus status;
+
+    private IdempotencyConflictException(String idempotencyKey, HttpStatus status, String message) {
+        super(message);
+        this.idempotencyKey = idempotencyKey;
+        this.status = status;
+    }
+
+    public static IdempotencyConflictException reused(String idempotencyKey) {
+        return new IdempotencyConflictException(idempotencyKey, HttpStatus.UNPROCESSABLE_ENTITY,
+                String.format("Idempotency-Key '%s' was already used for a different request", idempotencyKey));
+    }
+
+    public static IdempotencyConflictException stillRunning(String idempotencyKey) {
+        return new IdempotencyConflictException(idempotencyKey, HttpStatus.CONFLICT,
+                String.format("A request with Idempotency-Key '%s' is still being processed", idempotencyKey));
+    }
+
+    public static IdempotencyConflictException invalid(String idempotencyKey) {
+        return new IdempotencyConflictException(idempotencyKey, HttpStatus.BAD_REQUEST,
+                "Idempotency-Key must be 1 to 255 printable ASCII characters");
+    }
+}
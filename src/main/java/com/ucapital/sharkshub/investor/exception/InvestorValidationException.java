@@ -66,17 +66,28 @@ public class InvestorValidationException extends RuntimeException {
         private final String errorMessage;
         private final String errorCode;
 
+        private ValidationError(String fieldName, Object rejectedValue, String errorMessage, String errorCode) {
+            this.fieldName = fieldName;
+            this.rejectedValue = rejectedValue;
+            this.errorMessage = errorMessage;
+            this.errorCode = errorCode;
+        }
+
         private ValidationError(Builder builder) {
-            this.fieldName = builder.fieldName;
-            this.rejectedValue = builder.rejectedValue;
-            this.errorMessage = builder.errorMessage;
-            this.errorCode = builder.errorCode;
+            this(builder.fieldName, builder.rejectedValue, builder.errorMessage, builder.errorCode);
         }
 
         public static Builder builder() {
             return new Builder();
         }
 
+        /**
+         * Allocation-light alternative to the builder for per-row validation.
+         */
+        public static ValidationError of(String fieldName, Object rejectedValue, String errorMessage) {
+            return new ValidationError(fieldName, rejectedValue, errorMessage, null);
+        }
+
         public static class Builder {
             private String fieldName;
             private Object rejectedValue;
@@ -185,4 +196,17 @@ public class InvestorValidationException extends RuntimeException {
                 investorName
         );
     }
+
+
+    public static InvestorValidationException duplicateNameInPayload(String investorName, Integer investorIndex,
+                                                                     Integer firstIndex) {
+        return new InvestorValidationException(
+                String.format("Investor with name '%s' appears more than once in the payload (first at index %d)",
+                        investorName, firstIndex),
+                "name",
+                investorName,
+                investorIndex,
+                investorName
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.ucapital.sharkshub.investor.exception;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+
+@Getter
+public class UnknownIngestProfileException extends RuntimeException {
+
+    private final String profile;
+
+    private final Set<String> availableProfiles;
+
+    public UnknownIngestProfileException(String profile, Set<String> availableProfiles) {
+        super(String.format("Unknown ingest profile '%s'. Available profiles: %s", profile, availableProfiles));
+        this.profile = profile;
+        this.availableProfiles = availableProfiles;
+    }
+}
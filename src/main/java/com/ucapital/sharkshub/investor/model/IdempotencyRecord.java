@@ -0,0 +1,31 @@
+package com.ucapital.sharkshub.investor.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Outcome of a bulk request sent with an {@code Idempotency-Key}. The record is
+ * claimed as {@code IN_PROGRESS} before the request runs and holds the serialized
+ * response once it completes; a TTL index on {@code expiresAt} removes it. While the
+ * request runs, {@code owner} identifies the claim and {@code expiresAt} is its lease.
+ */
+@Document("idempotencyKeys")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    public enum Status { IN_PROGRESS, COMPLETED }
+
+    @Id
+    private String key;
+    private String fingerprint;
+    private String owner;
+    private Status status;
+    private String response;
+    private Instant createdAt;
+    private Instant expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.ucapital.sharkshub.investor.repository;
+
+import com.ucapital.sharkshub.investor.model.IdempotencyRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyRecordRepository
+        extends MongoRepository<IdempotencyRecord, String> {
+}
@@ -2,8 +2,11 @@ package com.ucapital.sharkshub.investor.repository;
 
 import com.ucapital.sharkshub.investor.model.Investor;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -13,4 +16,7 @@ public interface InvestorRepository extends MongoRepository<Investor, String> {
     boolean existsByName(String name);
     Optional<Investor> findByName(String name);
 
-}
\ No newline at end of file
+    @Query(value = "{ 'name': { $in: ?0 } }", fields = "{ 'name': 1, '_id': 0 }")
+    List<Investor> findNamesIn(Collection<String> names);
+
+}
@@ -0,0 +1,163 @@
+package com.ucapital.sharkshub.investor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.BulkError;
+import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+
+/**
+ * Keeps bulk responses small: a response attached here embeds only the first
+ * {@code sharkshub.bulk.errors.sample-size} errors, and once that is exceeded the
+ * complete list is written to an NDJSON report file that can be downloaded by id.
+ * Reports older than {@code sharkshub.bulk.errors.retention-hours} are deleted
+ * whenever a new one is started.
+ */
+@Service
+public class ErrorReportStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ErrorReportStore.class);
+
+    private static final String FILE_PREFIX = "bulk-errors-";
+    private static final String FILE_SUFFIX = ".ndjson";
+    private static final Pattern REPORT_ID = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int sampleSize;
+    private final Duration retention;
+
+    public ErrorReportStore(ObjectMapper objectMapper,
+                            @Value("${sharkshub.bulk.errors.dir:}") String directory,
+                            @Value("${sharkshub.bulk.errors.sample-size:100}") int sampleSize,
+                            @Value("${sharkshub.bulk.errors.retention-hours:24}") long retentionHours) {
+        this.objectMapper = objectMapper;
+        this.directory = directory.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "sharkshub-bulk-errors")
+                : Paths.get(directory);
+        this.sampleSize = Math.max(0, sampleSize);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+
+    /**
+     * Bounds the errors embedded in {@code response}. Closing the returned report
+     * finishes its file, if one was needed, and records its id on the response's
+     * error summary.
+     */
+    public ErrorReport attach(BulkOperationResponse response) {
+        ErrorReport report = new ErrorReport(response);
+        response.setErrorSampleLimit(sampleSize);
+        response.setErrorOverflow(report::write);
+        return report;
+    }
+
+
+    public Optional<Path> find(String reportId) {
+        if (reportId == null || !REPORT_ID.matcher(reportId).matches()) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(FILE_PREFIX + reportId + FILE_SUFFIX);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+
+    private void deleteExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        try (DirectoryStream<Path> reports = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path report : reports) {
+                if (Files.getLastModifiedTime(report).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(report);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not delete expired error reports in {}: {}", directory, e.getMessage());
+        }
+    }
+
+
+    public final class ErrorReport implements AutoCloseable {
+
+        private final BulkOperationResponse response;
+        private String id;
+        private OutputStream output;
+        private boolean failed;
+
+        private ErrorReport(BulkOperationResponse response) {
+            this.response = response;
+        }
+
+
+        private void write(BulkError error) {
+            if (failed) {
+                return;
+            }
+
+            try {
+                if (output == null) {
+                    open();
+                }
+                output.write(objectMapper.writeValueAsBytes(error));
+                output.write('\n');
+            } catch (IOException e) {
+                logger.error("Could not write error report {}: {}", id, e.getMessage(), e);
+                response.addWarning("Full error list unavailable: " + e.getMessage());
+                failed = true;
+                closeQuietly();
+            }
+        }
+
+
+        private void open() throws IOException {
+            Files.createDirectories(directory);
+            deleteExpired();
+            id = UUID.randomUUID().toString();
+            output = new BufferedOutputStream(Files.newOutputStream(directory.resolve(FILE_PREFIX + id + FILE_SUFFIX)));
+            logger.info("Errors exceed {} samples, writing the full list to error report {}", sampleSize, id);
+        }
+
+
+        @Override
+        public void close() {
+            response.setErrorOverflow(null);
+            if (output == null) {
+                return;
+            }
+
+            closeQuietly();
+            if (!failed) {
+                response.getErrorSummary().setReportId(id);
+            }
+        }
+
+
+        private void closeQuietly() {
+            if (output == null) {
+                return;
+            }
+            try {
+                output.close();
+            } catch (IOException e) {
+                logger.error("Could not close error report {}: {}", id, e.getMessage(), e);
+                failed = true;
+            }
+            output = null;
+        }
+    }
+}
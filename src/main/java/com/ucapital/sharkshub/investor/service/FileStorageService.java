@@ -9,4 +9,14 @@ public interface FileStorageService {
     String saveToTemp(MultipartFile file) throws IOException;
 
     String checksum(String filePath) throws IOException;
+
+    /**
+     * Saves {@code file} as uploaded, compressed or not, and returns where it was stored
+     * with the SHA-256 of its bytes, computed while copying.
+     */
+    StoredFile store(MultipartFile file) throws IOException;
+
+
+    record StoredFile(String path, String checksum) {
+    }
 }
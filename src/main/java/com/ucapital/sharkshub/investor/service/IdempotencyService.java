@@ -0,0 +1,305 @@
+package com.ucapital.sharkshub.investor.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.exception.IdempotencyConflictException;
+import com.ucapital.sharkshub.investor.model.IdempotencyRecord;
+import com.ucapital.sharkshub.investor.repository.IdempotencyRecordRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+
+/**
+ * Runs a bulk request at most once per {@code Idempotency-Key}. The first request
+ * claims the key in the {@code idempotencyKeys} collection and stores its response
+ * there; a retry with the same key and payload gets that response back without
+ * touching the investors collection, and a retry that arrives while the first is
+ * still running waits for it. Reusing a key for a different payload is rejected.
+ *
+ * <p>Waiting for a request on this instance completes as soon as it finishes; for
+ * one running on another instance the record is polled. The owner renews its lease
+ * while the request runs, so only a claim whose owner died is taken over once the
+ * lease expires. Takeover, renewal and release are conditional on the record read
+ * or written by this owner, so a request that lost its claim never touches the
+ * claim of the request that took it over.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long MIN_POLL_MS = 50;
+    private static final long MAX_POLL_MS = 1000;
+
+    private final IdempotencyRecordRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseRenewer;
+    private volatile boolean ttlIndexReady;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              MongoTemplate mongoTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${sharkshub.idempotency.retention-hours:24}") long retentionHours,
+                              @Value("${sharkshub.idempotency.lease-seconds:120}") long leaseSeconds,
+                              @Value("${sharkshub.idempotency.wait-timeout-seconds:300}") long waitTimeoutSeconds) {
+        this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = Duration.ofHours(retentionHours);
+        this.lease = Duration.ofSeconds(Math.max(1, leaseSeconds));
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("idempotency-lease-");
+        threadFactory.setDaemon(true);
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+
+    @FunctionalInterface
+    public interface BulkOperation {
+        BulkOperationResponse run() throws IOException;
+    }
+
+
+    public record Outcome(BulkOperationResponse response, boolean replayed) {
+    }
+
+
+    /**
+     * Runs {@code operation} unless a request with the same {@code key} already ran or
+     * is running, in which case its response is returned instead.
+     *
+     * @param fingerprint digest of the request, see {@link #fingerprint}
+     * @throws IdempotencyConflictException if the key was used for another payload, or
+     *                                      the request holding it did not finish in time
+     */
+    public Outcome execute(String key, String fingerprint, BulkOperation operation) throws IOException {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH || !key.chars().allMatch(c -> c >= 0x20 && c < 0x7f)) {
+            throw IdempotencyConflictException.invalid(key);
+        }
+        ensureTtlIndex();
+
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        long pollMs = MIN_POLL_MS;
+        while (true) {
+            Instant now = Instant.now();
+            String owner = UUID.randomUUID().toString();
+            if (claim(key, fingerprint, owner, now)) {
+                return new Outcome(run(key, owner, operation), false);
+            }
+
+            IdempotencyRecord existing = repository.findById(key).orElse(null);
+            if (existing == null) {
+                continue;
+            }
+            if (!existing.getFingerprint().equals(fingerprint)) {
+                throw IdempotencyConflictException.reused(key);
+            }
+            if (existing.getStatus() == IdempotencyRecord.Status.COMPLETED && existing.getExpiresAt().isAfter(now)) {
+                logger.info("Replaying stored response for Idempotency-Key {}", key);
+                return new Outcome(objectMapper.readValue(existing.getResponse(), BulkOperationResponse.class), true);
+            }
+            if (existing.getExpiresAt().isBefore(now)) {
+                // Expired but not yet reaped by the TTL monitor, or a dead owner's lease. Only the
+                // record read above is removed: if another retry took it over first, or the owner
+                // renewed in the meantime, expiresAt no longer matches and the claim below fails
+                logger.warn("Taking over expired Idempotency-Key {} ({})", key, existing.getStatus());
+                mongoTemplate.remove(query(where("_id").is(key).and("expiresAt").is(existing.getExpiresAt())),
+                        IdempotencyRecord.class);
+                continue;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw IdempotencyConflictException.stillRunning(key);
+            }
+            awaitCompletion(key, Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, pollMs));
+            pollMs = Math.min(pollMs * 2, MAX_POLL_MS);
+        }
+    }
+
+
+    /**
+     * SHA-256 over the endpoint, its parameters and the request body serialized as
+     * JSON, so a key reused for a different request is detected.
+     */
+    public String fingerprint(String endpoint, String profile, Object mode, Object body) throws IOException {
+        MessageDigest digest = digest(endpoint, profile, mode);
+        objectMapper.writeValue(new DigestOutputStream(OutputStream.nullOutputStream(), digest), body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+
+    /**
+     * SHA-256 over the endpoint, its parameters and an uploaded file's bytes.
+     */
+    public String fingerprint(String endpoint, String profile, Object mode, InputStream content) throws IOException {
+        MessageDigest digest = digest(endpoint, profile, mode);
+        try (content) {
+            content.transferTo(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+
+    private static MessageDigest digest(String endpoint, String profile, Object mode) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((endpoint + '\n' + profile + '\n' + mode + '\n').getBytes(StandardCharsets.UTF_8));
+            return digest;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+
+    private boolean claim(String key, String fingerprint, String owner, Instant now) {
+        try {
+            repository.insert(new IdempotencyRecord(key, fingerprint, owner, IdempotencyRecord.Status.IN_PROGRESS,
+                    null, now, now.plus(lease)));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+
+    private BulkOperationResponse run(String key, String owner, BulkOperation operation) throws IOException {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.put(key, done);
+        long renewMs = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleWithFixedDelay(
+                () -> renewLease(key, owner), renewMs, renewMs, TimeUnit.MILLISECONDS);
+        try {
+            BulkOperationResponse response;
+            try {
+                response = operation.run();
+            } catch (IOException | RuntimeException | Error e) {
+                // Nothing to replay: release the key so a retry runs the request again
+                renewal.cancel(false);
+                release(key, owner);
+                throw e;
+            }
+
+            renewal.cancel(false);
+            try {
+                Update completed = new Update()
+                        .set("status", IdempotencyRecord.Status.COMPLETED)
+                        .set("response", objectMapper.writeValueAsString(response))
+                        .set("expiresAt", Instant.now().plus(retention));
+                if (mongoTemplate.updateFirst(owned(key, owner), completed, IdempotencyRecord.class)
+                        .getMatchedCount() == 0) {
+                    logger.warn("Idempotency-Key {} was taken over while running; its response is not stored", key);
+                }
+            } catch (JsonProcessingException | RuntimeException e) {
+                logger.error("Could not store response for Idempotency-Key {}: {}", key, e.getMessage(), e);
+                release(key, owner);
+            }
+            return response;
+        } finally {
+            renewal.cancel(false);
+            inFlight.remove(key, done);
+            done.complete(null);
+        }
+    }
+
+
+    private void renewLease(String key, String owner) {
+        try {
+            Query running = owned(key, owner).addCriteria(where("status").is(IdempotencyRecord.Status.IN_PROGRESS));
+            if (mongoTemplate.updateFirst(running, Update.update("expiresAt", Instant.now().plus(lease)),
+                    IdempotencyRecord.class).getMatchedCount() == 0) {
+                logger.warn("Lost the claim on Idempotency-Key {} while its request is running", key);
+            }
+        } catch (RuntimeException e) {
+            // Retried on the next tick; the lease is three ticks long
+            logger.warn("Could not renew the lease on Idempotency-Key {}: {}", key, e.getMessage());
+        }
+    }
+
+
+    private void release(String key, String owner) {
+        mongoTemplate.remove(owned(key, owner), IdempotencyRecord.class);
+    }
+
+
+    private static Query owned(String key, String owner) {
+        return query(where("_id").is(key).and("owner").is(owner));
+    }
+
+
+    private void awaitCompletion(String key, long maxWaitMs) {
+        CompletableFuture<Void> local = inFlight.get(key);
+        try {
+            if (local != null) {
+                local.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            } else {
+                Thread.sleep(maxWaitMs);
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // Re-read the record either way
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyConflictException.stillRunning(key);
+        }
+    }
+
+
+    private void ensureTtlIndex() {
+        if (ttlIndexReady) {
+            return;
+        }
+        try {
+            mongoTemplate.indexOps(IdempotencyRecord.class)
+                    .ensureIndex(new Index("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+            ttlIndexReady = true;
+        } catch (RuntimeException e) {
+            logger.warn("Could not create TTL index on idempotencyKeys: {}", e.getMessage());
+        }
+    }
+}
@@ -1,26 +1,53 @@
 package com.ucapital.sharkshub.investor.service;
 
 import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.dto.BulkProgress;
 import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
 import com.ucapital.sharkshub.investor.model.Investor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface InvestorService {
     @Transactional
     BulkOperationResponse bulkInsert(List<InvestorDto> investorDtos);
 
+    @Transactional
+    BulkOperationResponse bulkInsert(List<InvestorDto> investorDtos, String profile, WriteMode mode);
+
+    BulkOperationResponse bulkInsertStream(InputStream body, String profile, WriteMode mode) throws IOException;
+
+    void bulkInsertNdjson(InputStream body, String profile, WriteMode mode, Consumer<BulkProgress> progressListener)
+            throws IOException;
+
     @Transactional
     BulkOperationResponse bulkInsertFromFile(MultipartFile file) throws IOException;
 
+    BulkOperationResponse bulkInsertFromFile(MultipartFile file, String profile, WriteMode mode) throws IOException;
+
     public BulkOperationResponse getBulkJobStatus(long jobExecutionId);
 
+    Optional<Path> findErrorReport(String reportId);
+
     public long launchBulkInsertJob(MultipartFile file) throws IOException;
 
+    public long launchBulkInsertJob(MultipartFile file, String profile, WriteMode mode) throws IOException;
+
+    /**
+     * @param threads    chunk threads for the job's step, or {@code null} to process chunks one at a time
+     * @param partitions byte-range partitions for a plain CSV file, each a restartable worker step,
+     *                   or {@code null} to import it as a single step
+     */
+    public long launchBulkInsertJob(MultipartFile file, String profile, WriteMode mode, Integer threads,
+                                    Integer partitions) throws IOException;
+
     Optional<InvestorDto> findById(String id);
 
     Optional<InvestorDto> findByName(String name);
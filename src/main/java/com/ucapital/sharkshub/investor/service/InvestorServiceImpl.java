@@ -1,14 +1,26 @@
 package com.ucapital.sharkshub.investor.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.config.InvestorBatchConfig;
 import com.ucapital.sharkshub.investor.dto.*;
 import com.ucapital.sharkshub.investor.exception.InvestorValidationException;
+import com.ucapital.sharkshub.investor.exception.InvestorValidationException.ValidationError;
 import com.ucapital.sharkshub.investor.model.Investor;
 import com.ucapital.sharkshub.investor.model.ProcessedFileRecord;
 import com.ucapital.sharkshub.investor.repository.InvestorRepository;
 import com.ucapital.sharkshub.investor.repository.ProcessedFileRecordRepository;
 import com.ucapital.sharkshub.investor.util.BulkInsertUtil;
 import com.ucapital.sharkshub.investor.util.FileParser;
+import com.ucapital.sharkshub.investor.util.IngestProfile;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
+import com.ucapital.sharkshub.investor.util.JsonArrayStreamReader;
+import com.ucapital.sharkshub.investor.util.NdjsonStreamReader;
+import com.ucapital.sharkshub.investor.util.StreamingElementReader;
 import com.ucapital.sharkshub.investor.validation.InvestorValidator;
+import com.ucapital.sharkshub.investor.validation.ValidationResult;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
@@ -19,22 +31,43 @@ import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteExcep
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 @Service
 public class InvestorServiceImpl implements InvestorService {
 
     private static final Logger logger = LoggerFactory.getLogger(InvestorServiceImpl.class);
+    private static final int NAME_LOOKUP_CHUNK_SIZE = 1000;
+    // Below this many items a chunk is prepared on the caller thread; forking costs more than it saves
+    private static final int PARALLEL_PREPARE_THRESHOLD = 64;
 
     private final InvestorRepository investorRepository;
     private final InvestorValidator investorValidator;
@@ -45,6 +78,14 @@ public class InvestorServiceImpl implements InvestorService {
     private final JobLauncher jobLauncher;
     private final Job investorBulkJob;
     private final JobExplorer jobExplorer;
+    private final IngestProfiles ingestProfiles;
+    private final ObjectMapper objectMapper;
+    private final ErrorReportStore errorReportStore;
+    private final int streamChunkSize;
+    private final long mappedCsvThreshold;
+    private final ForkJoinPool preparePool;
+    // Writes one streamed chunk while the request thread parses the next
+    private final ExecutorService chunkWriter;
 
     @Autowired
     public InvestorServiceImpl(
@@ -56,7 +97,14 @@ public class InvestorServiceImpl implements InvestorService {
             ProcessedFileRecordRepository processedFileRecordRepository,
             FileStorageService fileStorageService,
             @Qualifier("investorBulkJob") Job investorBulkJob,
-            JobExplorer jobExplorer) {
+            JobExplorer jobExplorer,
+            IngestProfiles ingestProfiles,
+            ObjectMapper objectMapper,
+            ErrorReportStore errorReportStore,
+            @Value("${sharkshub.bulk.stream.chunk-size:1000}") int streamChunkSize,
+            @Value("${sharkshub.bulk.csv.mapped-threshold-bytes:67108864}") long mappedCsvThreshold,
+            @Value("${sharkshub.bulk.prepare.parallelism:0}") int prepareParallelism,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.investorRepository = investorRepository;
         this.investorValidator = investorValidator;
         this.fileParser = fileParser;
@@ -66,12 +114,51 @@ public class InvestorServiceImpl implements InvestorService {
         this.jobLauncher = jobLauncher;
         this.investorBulkJob = investorBulkJob;
         this.jobExplorer = jobExplorer;
+        this.ingestProfiles = ingestProfiles;
+        this.objectMapper = objectMapper;
+        this.errorReportStore = errorReportStore;
+        this.streamChunkSize = Math.max(1, streamChunkSize);
+        this.mappedCsvThreshold = mappedCsvThreshold;
+        this.preparePool = new ForkJoinPool(
+                prepareParallelism > 0 ? prepareParallelism : Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("bulk-prepare-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null, false);
+        // At most one chunk per request is in flight, so the pool grows with concurrent uploads only
+        this.chunkWriter = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bulk-chunk-", 0).factory())
+                : Executors.newCachedThreadPool(new CustomizableThreadFactory("bulk-chunk-"));
+    }
+
+
+    @PreDestroy
+    public void shutdown() {
+        preparePool.shutdown();
+        chunkWriter.shutdown();
     }
 
 
     @Transactional
     @Override
     public BulkOperationResponse bulkInsert(List<InvestorDto> investorDtos) {
+        return bulkInsert(investorDtos, null, WriteMode.INSERT);
+    }
+
+
+    /**
+     * Validates and converts the payload in chunks of {@value #NAME_LOOKUP_CHUNK_SIZE} and
+     * writes each chunk on a chunk writer thread as soon as it is prepared, so the write of
+     * one chunk overlaps the preparation of the next and at most two chunks of converted
+     * investors are held.
+     */
+    @Transactional
+    @Override
+    public BulkOperationResponse bulkInsert(List<InvestorDto> investorDtos, String profile, WriteMode mode) {
+        IngestProfile ingestProfile = ingestProfiles.resolve(profile);
+
         if (investorDtos == null || investorDtos.isEmpty()) {
             return BulkOperationResponse.builder()
                     .totalProcessed(0)
@@ -82,87 +169,511 @@ public class InvestorServiceImpl implements InvestorService {
                     .build();
         }
 
-        logger.info("Starting bulk insert of {} investors", investorDtos.size());
+        logger.info("Starting bulk {} of {} investors with ingest profile '{}'",
+                mode, investorDtos.size(), ingestProfile.getName());
 
         BulkOperationResponse response = BulkOperationResponse.builder()
                 .totalProcessed(investorDtos.size())
                 .build();
 
-        List<Investor> validInvestors = new ArrayList<>();
+        try (ErrorReportStore.ErrorReport ignored = errorReportStore.attach(response)) {
+            Map<String, Integer> seenNames = new HashMap<>();
+            CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
 
-        for (int i = 0; i < investorDtos.size(); i++) {
             try {
-                InvestorDto dto = investorDtos.get(i);
+                for (int from = 0; from < investorDtos.size(); from += NAME_LOOKUP_CHUNK_SIZE) {
+                    int to = Math.min(from + NAME_LOOKUP_CHUNK_SIZE, investorDtos.size());
+                    List<Integer> indexes = new ArrayList<>(to - from);
+                    for (int i = from; i < to; i++) {
+                        indexes.add(i);
+                    }
 
-                investorValidator.validateInvestor(dto, i, true);
+                    BulkOperationResponse chunkResponse = BulkOperationResponse.builder().build();
+                    List<Investor> validInvestors = new ArrayList<>(to - from);
+                    List<Integer> validIndexes = new ArrayList<>(to - from);
+                    prepareChunk(investorDtos.subList(from, to), indexes, seenNames, mode, chunkResponse,
+                            validInvestors, validIndexes);
+
+                    // Written while the next chunk is prepared, one chunk in flight and in payload order;
+                    // only the writer thread folds results into the response
+                    awaitChunk(pending);
+                    pending = CompletableFuture.runAsync(() -> {
+                        writeChunk(validInvestors, validIndexes, ingestProfile, mode, chunkResponse);
+                        response.setSuccessCount(response.getSuccessCount() + chunkResponse.getSuccessCount());
+                        response.addErrors(chunkResponse.getErrors());
+                        response.getWarnings().addAll(chunkResponse.getWarnings());
+                    }, chunkWriter);
+                }
+            } catch (RuntimeException e) {
+                // Let the chunk in flight finish before the caller sees the failure
+                pending.exceptionally(failure -> null).join();
+                throw e;
+            }
 
-                Investor investor = convertToEntity(dto);
+            awaitChunk(pending);
+        }
 
-                if (investor.getCreatedAt() == null) {
-                    investor.setCreatedAt(Instant.now());
-                }
-                investor.setUpdatedAt(Instant.now());
+        response.setFailureCount(response.getTotalProcessed() - response.getSuccessCount());
+        response.updateStatus();
+        logger.info("Bulk insert completed. Total: {}, Success: {}, Failed: {}",
+                response.getTotalProcessed(), response.getSuccessCount(), response.getFailureCount());
 
-                validInvestors.add(investor);
-            } catch (InvestorValidationException e) {
-                logger.warn("Validation failed for investor at index {}: {}", i, e.getMessage());
-
-                if (e.hasValidationErrors()) {
-                    for (InvestorValidationException.ValidationError error : e.getValidationErrors()) {
-                        response.addValidationError(
-                                i,
-                                e.getInvestorName(),
-                                error.getFieldName(),
-                                error.getRejectedValue(),
-                                error.getErrorMessage());
+        return response;
+    }
+
+
+    /**
+     * Reads a JSON array from {@code body} element by element and writes it in chunks of
+     * {@code sharkshub.bulk.stream.chunk-size}, so heap use is bounded by the chunk size
+     * rather than the payload and the first chunk is written while the rest is still
+     * arriving.
+     */
+    @Override
+    public BulkOperationResponse bulkInsertStream(InputStream body, String profile, WriteMode mode)
+            throws IOException {
+        IngestProfile ingestProfile = ingestProfiles.resolve(profile);
+        logger.info("Starting streaming bulk {} with ingest profile '{}' and chunk size {}",
+                mode, ingestProfile.getName(), streamChunkSize);
+
+        return ingestToResponse(new JsonArrayStreamReader<>(objectMapper, body, InvestorDto.class),
+                ingestProfile, mode);
+    }
+
+
+    /**
+     * Runs {@code reader} through the chunked pipeline and folds the chunk results into
+     * one response. Errors beyond the sample limit go to an error report.
+     */
+    private BulkOperationResponse ingestToResponse(StreamingElementReader<InvestorDto> reader,
+                                                   IngestProfile ingestProfile, WriteMode mode) throws IOException {
+        Instant startTime = Instant.now();
+        BulkOperationResponse response = BulkOperationResponse.builder().build();
+
+        StreamOutcome outcome;
+        try (ErrorReportStore.ErrorReport ignored = errorReportStore.attach(response)) {
+            outcome = ingestStream(reader, ingestProfile, mode, true, chunk -> {
+                response.setSuccessCount(response.getSuccessCount() + chunk.getSuccessCount());
+                response.addErrors(chunk.getErrors());
+                response.getWarnings().addAll(chunk.getWarnings());
+            });
+
+            if (outcome.malformed != null) {
+                // About the body rather than an element, so it names no item
+                response.addError(BulkError.NO_ITEM, null, "MALFORMED_JSON", outcome.malformed);
+            }
+        }
+
+        response.setTotalProcessed(outcome.total);
+        response.setFailureCount(outcome.total - response.getSuccessCount());
+        response.setDurationMs(Duration.between(startTime, Instant.now()).toMillis());
+        response.updateStatus();
+        if (outcome.malformed != null) {
+            response.setStatus(response.getSuccessCount() > 0 ? OperationStatus.PARTIAL_SUCCESS : OperationStatus.FAILED);
+            response.setMessage(String.format("Stopped after %d investors on malformed JSON: %s",
+                    outcome.total, outcome.malformed));
+        }
+        logger.info("Streaming bulk insert completed in {}ms. Total: {}, Success: {}, Failed: {}",
+                response.getDurationMs(), response.getTotalProcessed(),
+                response.getSuccessCount(), response.getFailureCount());
+
+        return response;
+    }
+
+
+    /**
+     * Reads newline-delimited investors from {@code body} and reports a {@link BulkProgress}
+     * to {@code progressListener} after every committed chunk, followed by a final line
+     * with {@code done} set. Chunks are read and written one after the other on the
+     * request thread and results are handed off as soon as their chunk is written, so
+     * nothing beyond the current chunk is retained.
+     */
+    @Override
+    public void bulkInsertNdjson(InputStream body, String profile, WriteMode mode,
+                                 Consumer<BulkProgress> progressListener) throws IOException {
+        IngestProfile ingestProfile = ingestProfiles.resolve(profile);
+        logger.info("Starting NDJSON bulk {} with ingest profile '{}' and chunk size {}",
+                mode, ingestProfile.getName(), streamChunkSize);
+
+        long startTime = System.nanoTime();
+        BulkOperationResponse totals = BulkOperationResponse.builder().build();
+        AtomicInteger chunkNumber = new AtomicInteger();
+
+        StreamOutcome outcome = ingestStream(new NdjsonStreamReader<>(objectMapper, body, InvestorDto.class),
+                ingestProfile, mode, false, chunk -> {
+                    totals.setTotalProcessed(totals.getTotalProcessed() + chunk.getTotalProcessed());
+                    totals.setSuccessCount(totals.getSuccessCount() + chunk.getSuccessCount());
+                    totals.setFailureCount(totals.getFailureCount() + chunk.getFailureCount());
+
+                    progressListener.accept(BulkProgress.builder()
+                            .chunk(chunkNumber.incrementAndGet())
+                            .processed(totals.getTotalProcessed())
+                            .successCount(totals.getSuccessCount())
+                            .failureCount(totals.getFailureCount())
+                            .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                            .status(OperationStatus.IN_PROGRESS)
+                            .errors(chunk.getErrors())
+                            .warnings(chunk.getWarnings())
+                            .build());
+                });
+
+        totals.updateStatus();
+        progressListener.accept(BulkProgress.builder()
+                .chunk(chunkNumber.get())
+                .done(true)
+                .processed(outcome.total)
+                .successCount(totals.getSuccessCount())
+                .failureCount(totals.getFailureCount())
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .status(totals.getStatus())
+                .message(totals.getMessage())
+                .build());
+
+        logger.info("NDJSON bulk insert completed in {} chunks. Total: {}, Success: {}, Failed: {}",
+                chunkNumber.get(), outcome.total, totals.getSuccessCount(), totals.getFailureCount());
+    }
+
+
+    /**
+     * Pulls investors from {@code reader} and validates, converts and writes them one
+     * chunk at a time, handing each chunk's result to {@code chunkListener}. With
+     * {@code overlapWrites} a chunk is written on a separate thread while the next one is
+     * read, with at most one chunk in flight, so parsing overlaps the write and memory
+     * stays at two chunks; otherwise each chunk is written on the calling thread before
+     * the next is read and only one chunk is held. Name uniqueness is checked per chunk:
+     * chunks are written in order and earlier ones are already committed, so the
+     * database lookup catches duplicates across chunks.
+     */
+    private StreamOutcome ingestStream(StreamingElementReader<InvestorDto> reader, IngestProfile ingestProfile,
+                                       WriteMode mode, boolean overlapWrites,
+                                       Consumer<BulkOperationResponse> chunkListener) throws IOException {
+        StreamOutcome outcome = new StreamOutcome();
+        List<InvestorDto> chunk = new ArrayList<>(streamChunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(streamChunkSize);
+        BulkOperationResponse chunkResponse = BulkOperationResponse.builder().build();
+        CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+        int chunkStart = 0;
+
+        try (reader) {
+            try {
+                while (reader.hasNext()) {
+                    try {
+                        InvestorDto dto = reader.next();
+                        chunk.add(dto);
+                        chunkIndexes.add(reader.index());
+                    } catch (JsonMappingException e) {
+                        logger.warn("Unreadable investor at index {}: {}", reader.index(), e.getOriginalMessage());
+                        chunkResponse.addError(reader.index(), null, "PARSE_ERROR", e.getOriginalMessage());
+                    }
+                    outcome.total = reader.index() + 1;
+
+                    if (outcome.total - chunkStart == streamChunkSize) {
+                        pending = writeStreamChunkAfter(pending, overlapWrites, chunk, chunkIndexes,
+                                outcome.total - chunkStart, chunkResponse, ingestProfile, mode, chunkListener);
+                        chunk = new ArrayList<>(streamChunkSize);
+                        chunkIndexes = new ArrayList<>(streamChunkSize);
+                        chunkResponse = BulkOperationResponse.builder().build();
+                        chunkStart = outcome.total;
                     }
-                } else {
-                    response.addError(i, e.getInvestorName(), "VALIDATION_ERROR", e.getMessage());
                 }
-            } catch (Exception e) {
-                logger.error("Error processing investor at index {}: {}", i, e.getMessage(), e);
-                response.addError(i, investorDtos.get(i).getName(), "PROCESSING_ERROR", e.getMessage());
+            } catch (JsonProcessingException e) {
+                logger.error("Malformed JSON after {} investors: {}", outcome.total, e.getOriginalMessage());
+                outcome.malformed = e.getOriginalMessage();
             }
+
+            if (outcome.total > chunkStart) {
+                pending = writeStreamChunkAfter(pending, overlapWrites, chunk, chunkIndexes,
+                        outcome.total - chunkStart, chunkResponse, ingestProfile, mode, chunkListener);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Let the chunk in flight finish before the caller sees the failure
+            pending.exceptionally(ignored -> null).join();
+            throw e;
         }
 
-        if (!validInvestors.isEmpty()) {
+        awaitChunk(pending);
+        return outcome;
+    }
+
+
+    /**
+     * Waits for {@code previous} and then writes the given chunk, on a chunk writer
+     * thread when {@code async} or else on the calling thread.
+     */
+    private CompletableFuture<Void> writeStreamChunkAfter(CompletableFuture<Void> previous, boolean async,
+                                                          List<InvestorDto> chunk, List<Integer> chunkIndexes,
+                                                          int elements, BulkOperationResponse chunkResponse,
+                                                          IngestProfile ingestProfile, WriteMode mode,
+                                                          Consumer<BulkOperationResponse> chunkListener) {
+        awaitChunk(previous);
+        if (!async) {
+            writeStreamChunk(chunk, chunkIndexes, elements, chunkResponse, ingestProfile, mode, chunkListener);
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> writeStreamChunk(chunk, chunkIndexes, elements, chunkResponse,
+                ingestProfile, mode, chunkListener), chunkWriter);
+    }
+
+
+    private static void awaitChunk(CompletableFuture<Void> chunk) {
+        try {
+            chunk.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+
+    private void writeStreamChunk(List<InvestorDto> chunk, List<Integer> chunkIndexes, int elements,
+                                  BulkOperationResponse chunkResponse, IngestProfile ingestProfile,
+                                  WriteMode mode, Consumer<BulkOperationResponse> chunkListener) {
+        List<Investor> validInvestors = new ArrayList<>(chunk.size());
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        prepareChunk(chunk, chunkIndexes, new HashMap<>(), mode, chunkResponse, validInvestors, validIndexes);
+        writeChunk(validInvestors, validIndexes, ingestProfile, mode, chunkResponse);
+
+        chunkResponse.setTotalProcessed(elements);
+        chunkResponse.setFailureCount(elements - chunkResponse.getSuccessCount());
+
+        logger.debug("Wrote streamed chunk of {} investors, {} successful", elements, chunkResponse.getSuccessCount());
+        chunkListener.accept(chunkResponse);
+    }
+
+
+    private static class StreamOutcome {
+        private int total;
+        private String malformed;
+    }
+
+
+    /**
+     * Validates and converts one chunk, checking name uniqueness with a single lookup,
+     * or keeping only the last occurrence of each name when {@code mode} upserts by
+     * name. Validation and conversion are CPU-bound and
+     * independent per item, so both run across the prepare pool; their outcomes are
+     * applied in payload order on the calling thread. Failures are recorded on
+     * {@code response}; survivors are appended to {@code validInvestors} with their
+     * original indexes in {@code validIndexes}.
+     */
+    private void prepareChunk(List<InvestorDto> chunk, List<Integer> chunkIndexes, Map<String, Integer> seenNames,
+                              WriteMode mode, BulkOperationResponse response, List<Investor> validInvestors,
+                              List<Integer> validIndexes) {
+        List<InvestorDto> candidates = new ArrayList<>(chunk.size());
+        List<Integer> candidateIndexes = new ArrayList<>(chunk.size());
+
+        // The validator's result is reused per thread, so rejected rows copy their errors out
+        List<Object> validations = prepareInParallel(chunk.size(), j -> {
             try {
-                BulkOperationResponse insertResponse = bulkInsertUtil.bulkInsert(validInvestors);
+                ValidationResult result = investorValidator.check(chunk.get(j));
+                return result.isValid() ? null : List.copyOf(result.getErrors());
+            } catch (Exception e) {
+                return e;
+            }
+        });
+
+        int invalid = 0;
+        for (int j = 0; j < chunk.size(); j++) {
+            int index = chunkIndexes.get(j);
+            InvestorDto dto = chunk.get(j);
+            Object validation = validations.get(j);
+
+            if (validation == null) {
+                candidates.add(dto);
+                candidateIndexes.add(index);
+            } else if (validation instanceof List<?> errors) {
+                String name = dto != null ? dto.getName() : null;
+                for (Object error : errors) {
+                    ValidationError fieldError = (ValidationError) error;
+                    response.addValidationError(index, name, fieldError.getFieldName(),
+                            fieldError.getRejectedValue(), fieldError.getErrorMessage());
+                }
+                invalid++;
+            } else if (validation instanceof Exception failure) {
+                logger.error("Error processing investor at index {}: {}", index, failure.getMessage(), failure);
+                response.addError(index, dto != null ? dto.getName() : null, "PROCESSING_ERROR", failure.getMessage());
+            }
+        }
+        if (invalid > 0) {
+            logger.warn("Validation failed for {} of {} investors in chunk", invalid, chunk.size());
+        }
+
+        Set<Integer> rejected = new HashSet<>();
+        if (!mode.isUpsert()) {
+            for (InvestorValidationException e : investorValidator.validateUniqueNames(candidates, candidateIndexes, seenNames)) {
+                recordValidationFailure(response, e.getInvestorIndex(), e);
+                rejected.add(e.getInvestorIndex());
+            }
+        } else {
+            rejected.addAll(supersededOccurrences(candidates, candidateIndexes, response));
+        }
 
-                response.setSuccessCount(insertResponse.getSuccessCount());
-                response.setFailureCount(response.getTotalProcessed() - response.getSuccessCount());
+        Instant now = Instant.now();
+        List<Object> conversions = prepareInParallel(candidates.size(), j -> {
+            if (rejected.contains(candidateIndexes.get(j))) {
+                return null;
+            }
 
-                insertResponse.getErrors().forEach(error ->
-                        response.addError(error.getItemIndex(), error.getInvestorName(),
-                                error.getErrorCode(), error.getErrorMessage()));
+            try {
+                Investor investor = convertToEntity(candidates.get(j));
 
-                insertResponse.getWarnings().forEach(response::addWarning);
+                if (investor.getCreatedAt() == null) {
+                    investor.setCreatedAt(now);
+                }
+                investor.setUpdatedAt(now);
+                return investor;
             } catch (Exception e) {
-                logger.error("Error during bulk insert: {}", e.getMessage(), e);
+                return e;
+            }
+        });
 
-                response.setSuccessCount(0);
-                response.setFailureCount(response.getTotalProcessed());
-                response.addError(0, null, "BULK_INSERT_ERROR", e.getMessage());
+        for (int j = 0; j < candidates.size(); j++) {
+            int index = candidateIndexes.get(j);
+            Object conversion = conversions.get(j);
+
+            if (conversion instanceof Investor investor) {
+                validInvestors.add(investor);
+                validIndexes.add(index);
+            } else if (conversion instanceof Exception e) {
+                logger.error("Error processing investor at index {}: {}", index, e.getMessage(), e);
+                response.addError(index, candidates.get(j).getName(), "PROCESSING_ERROR", e.getMessage());
             }
         }
+    }
 
-        response.updateStatus();
-        logger.info("Bulk insert completed. Total: {}, Success: {}, Failed: {}",
-                response.getTotalProcessed(), response.getSuccessCount(), response.getFailureCount());
 
-        return response;
+    /**
+     * Indexes of upserts whose name occurs again later in the chunk. The last occurrence
+     * of a name wins: two upserts of one missing name in the same unordered write race,
+     * so one could fail on the unique name index and the surviving version would be
+     * arbitrary. Chunks are written in payload order, so a later chunk's occurrence
+     * overwrites an earlier chunk's as well. Dropped occurrences are reported as warnings
+     * and counted as successful, since their name is written by the later row.
+     */
+    private static Set<Integer> supersededOccurrences(List<InvestorDto> candidates, List<Integer> indexes,
+                                                      BulkOperationResponse response) {
+        Map<String, Integer> lastIndexes = new HashMap<>();
+        for (int j = 0; j < candidates.size(); j++) {
+            lastIndexes.put(candidates.get(j).getName(), indexes.get(j));
+        }
+
+        Set<Integer> superseded = new HashSet<>();
+        for (int j = 0; j < candidates.size(); j++) {
+            String name = candidates.get(j).getName();
+            int index = indexes.get(j);
+            int lastIndex = lastIndexes.get(name);
+            if (lastIndex != index) {
+                superseded.add(index);
+                response.addWarning(String.format(
+                        "Investor '%s' at index %d was superseded by its later occurrence at index %d",
+                        name, index, lastIndex));
+            }
+        }
+
+        response.setSuccessCount(response.getSuccessCount() + superseded.size());
+        return superseded;
+    }
+
+
+    /**
+     * Applies {@code task} to every position in {@code [0, size)} and returns the results
+     * in position order, forking across the prepare pool once the chunk is large enough
+     * to pay for it. Tasks must not throw; they return their failure instead.
+     */
+    private <R> List<R> prepareInParallel(int size, IntFunction<R> task) {
+        if (size < PARALLEL_PREPARE_THRESHOLD || preparePool.getParallelism() == 1) {
+            List<R> results = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                results.add(task.apply(j));
+            }
+            return results;
+        }
+
+        try {
+            return preparePool.submit(() -> IntStream.range(0, size).parallel().mapToObj(task).toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while preparing investors", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to prepare investors", e.getCause());
+        }
+    }
+
+
+    /**
+     * Writes converted investors and folds the result into {@code response}, mapping
+     * error indexes back to positions in the original payload.
+     */
+    private void writeChunk(List<Investor> investors, List<Integer> indexes, IngestProfile ingestProfile,
+                            WriteMode mode, BulkOperationResponse response) {
+        if (investors.isEmpty()) {
+            return;
+        }
+
+        try {
+            BulkOperationResponse insertResponse = bulkInsertUtil.bulkWrite(investors, ingestProfile, mode);
+
+            response.setSuccessCount(response.getSuccessCount() + insertResponse.getSuccessCount());
+
+            insertResponse.getErrors().forEach(error ->
+                    response.addError(indexes.get(error.getItemIndex()), error.getInvestorName(),
+                            error.getErrorCode(), error.getErrorMessage()));
+
+            insertResponse.getWarnings().forEach(response::addWarning);
+        } catch (Exception e) {
+            logger.error("Error during bulk insert: {}", e.getMessage(), e);
+            response.addError(indexes.get(0), null, "BULK_INSERT_ERROR", e.getMessage());
+        }
+    }
+
+
+    private void recordValidationFailure(BulkOperationResponse response, int index, InvestorValidationException e) {
+        logger.warn("Validation failed for investor at index {}: {}", index, e.getMessage());
+
+        if (e.hasValidationErrors()) {
+            for (InvestorValidationException.ValidationError error : e.getValidationErrors()) {
+                response.addValidationError(
+                        index,
+                        e.getInvestorName(),
+                        error.getFieldName(),
+                        error.getRejectedValue(),
+                        error.getErrorMessage());
+            }
+        } else {
+            response.addError(index, e.getInvestorName(), "VALIDATION_ERROR", e.getMessage());
+        }
     }
 
 
     //@Transactional
     @Override
     public BulkOperationResponse bulkInsertFromFile(MultipartFile file) throws IOException {
+        return bulkInsertFromFile(file, null, WriteMode.INSERT);
+    }
+
+
+    /**
+     * Parses, validates and writes the file one chunk of {@code sharkshub.bulk.stream.chunk-size}
+     * rows at a time, so memory use follows the chunk size rather than the file size. CSVs of
+     * at least {@code sharkshub.bulk.csv.mapped-threshold-bytes} are stored to a temp file and,
+     * given more than one prepare thread, parsed on all of them through a memory map.
+     */
+    @Override
+    public BulkOperationResponse bulkInsertFromFile(MultipartFile file, String profile, WriteMode mode)
+            throws IOException {
         logger.info("Starting bulk insert from file: {}", file.getOriginalFilename());
+        IngestProfile ingestProfile = ingestProfiles.resolve(profile);
 
         try {
-            List<InvestorDto> investorDtos = fileParser.parseFile(file);
-
-            return bulkInsert(investorDtos);
+            if (mappedCsvThreshold >= 0 && file.getSize() >= mappedCsvThreshold && preparePool.getParallelism() > 1
+                    && fileParser.isCsv(file)) {
+                return ingestMappedCsv(file, ingestProfile, mode);
+            }
+            return ingestToResponse(fileParser.openReader(file), ingestProfile, mode);
         } catch (InvestorValidationException e) {
             logger.error("Validation error during file parsing: {}", e.getMessage(), e);
 
@@ -195,21 +706,56 @@ public class InvestorServiceImpl implements InvestorService {
         }
     }
 
+    private BulkOperationResponse ingestMappedCsv(MultipartFile file, IngestProfile ingestProfile, WriteMode mode)
+            throws IOException {
+        Path storedPath = Path.of(fileStorageService.saveToTemp(file));
+        try {
+            return ingestToResponse(fileParser.openMappedCsvReader(storedPath, preparePool,
+                    preparePool.getParallelism()), ingestProfile, mode);
+        } finally {
+            Files.deleteIfExists(storedPath);
+        }
+    }
+
+
     @Override
     public long launchBulkInsertJob(MultipartFile file) throws IOException {
+        return launchBulkInsertJob(file, null, WriteMode.INSERT);
+    }
+
+
+    @Override
+    public long launchBulkInsertJob(MultipartFile file, String profile, WriteMode mode) throws IOException {
+        return launchBulkInsertJob(file, profile, mode, null, null);
+    }
+
 
-        String storedPath = fileStorageService.saveToTemp(file);
-        String checksum   = fileStorageService.checksum(storedPath);
+    @Override
+    public long launchBulkInsertJob(MultipartFile file, String profile, WriteMode mode, Integer threads,
+                                    Integer partitions) throws IOException {
+        IngestProfile ingestProfile = ingestProfiles.resolve(profile);
+
+        FileStorageService.StoredFile stored = fileStorageService.store(file);
+        String storedPath = stored.path();
+        String checksum   = stored.checksum();
 
         processedFileRepo.findById(checksum)
                 .ifPresent(rec -> { throw new RuntimeException("Duplicated value : "+rec.getJobExecutionId() ); });
 
 
-        JobParameters params = new JobParametersBuilder()
+        JobParametersBuilder paramsBuilder = new JobParametersBuilder()
                 .addString("filePath", storedPath)
                 .addString("checksum", checksum)
-                .addDate("timestamp", new Date())
-                .toJobParameters();
+                .addString("profile", ingestProfile.getName(), false)
+                .addString("mode", mode.name(), false)
+                .addDate("timestamp", new Date());
+        if (threads != null) {
+            paramsBuilder.addLong("threads", threads.longValue(), false);
+        }
+        if (partitions != null) {
+            paramsBuilder.addLong("partitions", partitions.longValue(), false);
+        }
+        JobParameters params = paramsBuilder.toJobParameters();
 
 
         JobExecution exec = null;
@@ -240,9 +786,14 @@ public class InvestorServiceImpl implements InvestorService {
         JobExecution exec = jobExplorer.getJobExecution(jobExecutionId);
         BulkOperationResponse resp = new BulkOperationResponse();
 
-        long readCount  = exec.getStepExecutions().stream().mapToLong(StepExecution::getReadCount).sum();
-        long writeCount = exec.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
-        long skipCount  = exec.getStepExecutions().stream().mapToLong(StepExecution::getSkipCount).sum();
+        // A partitioned import's manager step only repeats its workers' totals once they finish
+        List<StepExecution> steps = exec.getStepExecutions().stream()
+                .filter(step -> !InvestorBatchConfig.PARTITIONED_STEP_NAME.equals(step.getStepName()))
+                .toList();
+
+        long readCount  = steps.stream().mapToLong(StepExecution::getReadCount).sum();
+        long writeCount = steps.stream().mapToLong(StepExecution::getWriteCount).sum();
+        long skipCount  = steps.stream().mapToLong(StepExecution::getSkipCount).sum();
 
         resp.setTotalProcessed((int) readCount);
         resp.setSuccessCount((int) writeCount);
@@ -258,6 +809,12 @@ public class InvestorServiceImpl implements InvestorService {
     }
 
 
+    @Override
+    public Optional<Path> findErrorReport(String reportId) {
+        return errorReportStore.find(reportId);
+    }
+
+
     @Override
     public Optional<InvestorDto> findById(String id) {
         return investorRepository.findById(id)
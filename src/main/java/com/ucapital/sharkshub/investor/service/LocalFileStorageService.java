@@ -1,5 +1,6 @@
 package com.ucapital.sharkshub.investor.service;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -8,6 +9,7 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
 import java.util.Optional;
 
 
@@ -16,12 +18,7 @@ public class LocalFileStorageService implements FileStorageService {
 
     @Override
     public String saveToTemp(MultipartFile file) throws IOException {
-        // create a temp file in the default temp directory
-        String ext = Optional.ofNullable(file.getOriginalFilename())
-                .filter(n -> n.contains("."))
-                .map(n -> n.substring(n.lastIndexOf('.')))
-                .orElse("");
-        Path tempFile = Files.createTempFile("investor-import-", ext);
+        Path tempFile = createTempFile(file);
         try (InputStream in = file.getInputStream()) {
             Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
         }
@@ -35,4 +32,34 @@ public class LocalFileStorageService implements FileStorageService {
             return DigestUtils.sha256Hex(fis);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public StoredFile store(MultipartFile file) throws IOException {
+        Path tempFile = createTempFile(file);
+        // Compressed uploads stay compressed; the readers decompress them as they parse
+        try (DigestInputStream in = new DigestInputStream(file.getInputStream(), DigestUtils.getSha256Digest())) {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return new StoredFile(tempFile.toAbsolutePath().toString(), Hex.encodeHexString(in.getMessageDigest().digest()));
+        }
+    }
+
+    // create a temp file in the default temp directory, keeping e.g. ".csv.gz" so readers can tell the format
+    private static Path createTempFile(MultipartFile file) throws IOException {
+        String ext = Optional.ofNullable(file.getOriginalFilename())
+                .filter(n -> n.contains("."))
+                .map(LocalFileStorageService::extension)
+                .orElse("");
+        return Files.createTempFile("investor-import-", ext);
+    }
+
+    private static String extension(String filename) {
+        int last = filename.lastIndexOf('.');
+        if (filename.toLowerCase().endsWith(".gz")) {
+            int previous = filename.lastIndexOf('.', last - 1);
+            if (previous >= 0) {
+                return filename.substring(previous);
+            }
+        }
+        return filename.substring(last);
+    }
+}
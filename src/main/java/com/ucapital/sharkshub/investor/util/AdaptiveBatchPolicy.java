@@ -0,0 +1,142 @@
+package com.ucapital.sharkshub.investor.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Decides how many documents go into one write round trip. Batches are cut by
+ * encoded size so a single bulkWrite never exceeds the driver's 48MB message
+ * limit, and the document-count target follows measured write latency: it is
+ * cut proportionally (at most by half) when a batch runs slower than the target
+ * latency and grown by a quarter when a full batch comes back well under it.
+ *
+ * <p>The current target, the cut sizes, the observed latency and every
+ * adjustment are published as Micrometer meters tagged with the policy name.
+ */
+public class AdaptiveBatchPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveBatchPolicy.class);
+
+    /** Driver maxMessageSizeBytes less headroom for the insert command envelope. */
+    public static final long MAX_MESSAGE_BYTES = 48_000_000L - 16 * 1024;
+
+    private static final double SHRINK_THRESHOLD = 0.8;
+    private static final double GROW_THRESHOLD = 1.25;
+    private static final double MAX_SHRINK = 0.5;
+
+    private final String name;
+    private final int minDocuments;
+    private final int maxDocuments;
+    private final long maxBytes;
+    private final long targetLatencyNanos;
+    private final AtomicInteger targetDocuments;
+
+    private final Timer latencyTimer;
+    private final DistributionSummary documentsSummary;
+    private final DistributionSummary bytesSummary;
+    private final Counter growCounter;
+    private final Counter shrinkCounter;
+
+    public AdaptiveBatchPolicy(String name,
+                               int initialDocuments,
+                               int minDocuments,
+                               int maxDocuments,
+                               long maxBytes,
+                               Duration targetLatency,
+                               MeterRegistry meterRegistry) {
+        this.name = name;
+        this.minDocuments = Math.max(1, minDocuments);
+        this.maxDocuments = Math.max(this.minDocuments, maxDocuments);
+        this.maxBytes = Math.min(Math.max(1, maxBytes), MAX_MESSAGE_BYTES);
+        this.targetLatencyNanos = Math.max(1, targetLatency.toNanos());
+        this.targetDocuments = new AtomicInteger(
+                Math.min(Math.max(initialDocuments, this.minDocuments), this.maxDocuments));
+
+        Gauge.builder("sharkshub.ingest.batch.target.documents", targetDocuments, AtomicInteger::get)
+                .description("Current document-count target per write batch")
+                .tag("policy", name)
+                .register(meterRegistry);
+        Gauge.builder("sharkshub.ingest.batch.max.bytes", this, policy -> policy.maxBytes)
+                .description("Encoded size cap per write batch")
+                .tag("policy", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("sharkshub.ingest.batch.latency")
+                .description("Wall time of one write batch")
+                .tag("policy", name)
+                .register(meterRegistry);
+        this.documentsSummary = DistributionSummary.builder("sharkshub.ingest.batch.documents")
+                .description("Documents per write batch")
+                .tag("policy", name)
+                .register(meterRegistry);
+        this.bytesSummary = DistributionSummary.builder("sharkshub.ingest.batch.bytes")
+                .description("Encoded bytes per write batch")
+                .tag("policy", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.growCounter = Counter.builder("sharkshub.ingest.batch.adjustments")
+                .tag("policy", name)
+                .tag("direction", "grow")
+                .register(meterRegistry);
+        this.shrinkCounter = Counter.builder("sharkshub.ingest.batch.adjustments")
+                .tag("policy", name)
+                .tag("direction", "shrink")
+                .register(meterRegistry);
+    }
+
+
+    public int targetDocuments() {
+        return targetDocuments.get();
+    }
+
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+
+    /**
+     * Records one completed batch and adjusts the document target. Pass a negative
+     * {@code bytes} when the encoded size is not known.
+     */
+    public void record(int documents, long bytes, long latencyNanos) {
+        if (documents <= 0) {
+            return;
+        }
+
+        latencyTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        documentsSummary.record(documents);
+        if (bytes >= 0) {
+            bytesSummary.record(bytes);
+        }
+
+        int current = targetDocuments.get();
+        double ratio = (double) targetLatencyNanos / Math.max(1, latencyNanos);
+        int next;
+
+        if (ratio < SHRINK_THRESHOLD) {
+            next = Math.max(minDocuments, (int) (Math.min(current, documents) * Math.max(MAX_SHRINK, ratio)));
+        } else if (ratio > GROW_THRESHOLD && documents >= current) {
+            next = Math.min(maxDocuments, current + Math.max(1, current / 4));
+        } else {
+            return;
+        }
+
+        // A concurrent batch may already have moved the target; its decision wins
+        if (next != current && targetDocuments.compareAndSet(current, next)) {
+            (next > current ? growCounter : shrinkCounter).increment();
+            logger.debug("Batch policy '{}' target {} -> {} documents ({} documents in {}ms)",
+                    name, current, next, documents, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        }
+    }
+}
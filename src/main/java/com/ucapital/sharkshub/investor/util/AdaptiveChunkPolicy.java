@@ -0,0 +1,86 @@
+package com.ucapital.sharkshub.investor.util;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+
+
+/**
+ * Chunk completion policy for the file import step that sizes each chunk from an
+ * {@link AdaptiveBatchPolicy}. Registered as a {@link ChunkListener} on the same
+ * step, it times every chunk from read to commit (MongoItemWriter only flushes
+ * on commit) and feeds the result back into the policy. A positive fixed size,
+ * as set by an ingest profile, overrides the adaptive target.
+ *
+ * <p>A chunk is read, processed and committed on one thread, so its item count is
+ * taken from that thread's repeat context rather than the step's read count, which
+ * in a multi-threaded step also moves with the other threads' chunks.
+ */
+public class AdaptiveChunkPolicy extends CompletionPolicySupport implements ChunkListener {
+
+    private static final String STARTED_AT = AdaptiveChunkPolicy.class.getName() + ".startedAt";
+
+    private final AdaptiveBatchPolicy batchPolicy;
+    private final int fixedSize;
+    private final ThreadLocal<SizedContext> currentChunk = new ThreadLocal<>();
+
+    public AdaptiveChunkPolicy(AdaptiveBatchPolicy batchPolicy) {
+        this(batchPolicy, 0);
+    }
+
+    public AdaptiveChunkPolicy(AdaptiveBatchPolicy batchPolicy, int fixedSize) {
+        this.batchPolicy = batchPolicy;
+        this.fixedSize = fixedSize;
+    }
+
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        SizedContext context = new SizedContext(parent, fixedSize > 0 ? fixedSize : batchPolicy.targetDocuments());
+        currentChunk.set(context);
+        return context;
+    }
+
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return context.getStartedCount() >= ((SizedContext) context).limit;
+    }
+
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(STARTED_AT, System.nanoTime());
+    }
+
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Object startedAt = context.getAttribute(STARTED_AT);
+        SizedContext chunk = currentChunk.get();
+        currentChunk.remove();
+        if (startedAt == null || chunk == null) {
+            return;
+        }
+
+        batchPolicy.record(chunk.getStartedCount(), -1, System.nanoTime() - (long) startedAt);
+    }
+
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        currentChunk.remove();
+    }
+
+
+    private static class SizedContext extends RepeatContextSupport {
+        private final int limit;
+
+        private SizedContext(RepeatContext parent, int limit) {
+            super(parent);
+            this.limit = limit;
+        }
+    }
+}
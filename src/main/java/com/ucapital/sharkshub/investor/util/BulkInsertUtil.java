@@ -1,24 +1,52 @@
 package com.ucapital.sharkshub.investor.util;
 
-import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoNodeIsRecoveringException;
+import com.mongodb.MongoNotPrimaryException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.MongoWriteConcernException;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.BulkWriteOptions;
-import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.WriteModel;
+import com.ucapital.sharkshub.investor.codec.InvestorCodec;
+import com.ucapital.sharkshub.investor.dto.BulkError;
 import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
 import com.ucapital.sharkshub.investor.dto.OperationStatus;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
 import com.ucapital.sharkshub.investor.model.Investor;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.bson.Document;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 
 
@@ -26,21 +54,99 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class BulkInsertUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(BulkInsertUtil.class);
-    private static final int DEFAULT_BATCH_SIZE = 1000;
 
-    private final MongoTemplate mongoTemplate;
+    /** Batch size that lets the {@link AdaptiveBatchPolicy} pick the document count. */
+    public static final int ADAPTIVE_BATCH_SIZE = 0;
+
+    // Server codes the driver itself treats as retryable (network, step-down, shutdown, write concern)
+    private static final Set<Integer> TRANSIENT_ERROR_CODES = Set.of(
+            6, 7, 50, 64, 89, 91, 189, 262, 9001, 10107, 11600, 11602, 13435, 13436);
+    private static final String RETRYABLE_WRITE_ERROR_LABEL = "RetryableWriteError";
 
-    public BulkInsertUtil(MongoTemplate mongoTemplate) {
+    private final MongoTemplate mongoTemplate;
+    private final InvestorCodec investorCodec;
+    private final InvestorCodec replaceCodec = new InvestorCodec(false);
+    private final AdaptiveBatchPolicy batchPolicy;
+    private final int defaultConcurrency;
+    private final int maxConcurrency;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final ExecutorService writeExecutor;
+
+    public BulkInsertUtil(MongoTemplate mongoTemplate,
+                          InvestorCodec investorCodec,
+                          @Qualifier("bulkWriteBatchPolicy") AdaptiveBatchPolicy batchPolicy,
+                          @Value("${sharkshub.bulk.write.concurrency:4}") int defaultConcurrency,
+                          @Value("${sharkshub.bulk.write.max-concurrency:8}") int maxConcurrency,
+                          @Value("${sharkshub.bulk.write.max-retries:3}") int maxRetries,
+                          @Value("${sharkshub.bulk.write.retry-backoff-ms:100}") long retryBackoffMs,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.mongoTemplate = mongoTemplate;
+        this.investorCodec = investorCodec;
+        this.batchPolicy = batchPolicy;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = Math.max(1, retryBackoffMs);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.defaultConcurrency = Math.min(Math.max(1, defaultConcurrency), this.maxConcurrency);
+        // Writers spend their time blocked on the server; the semaphore in dispatch bounds them either way
+        this.writeExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bulk-write-", 1).factory())
+                : Executors.newFixedThreadPool(this.maxConcurrency, new CustomizableThreadFactory("bulk-write-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
     }
 
 
     public BulkOperationResponse bulkInsert(List<Investor> investors) {
-        return bulkInsert(investors, DEFAULT_BATCH_SIZE);
+        return bulkInsert(investors, ADAPTIVE_BATCH_SIZE);
     }
 
 
     public BulkOperationResponse bulkInsert(List<Investor> investors, int batchSize) {
+        return bulkInsert(investors, batchSize, defaultConcurrency);
+    }
+
+
+    /**
+     * Writes {@code investors} in batches of at most {@code batchSize} documents, or
+     * as many as the {@link AdaptiveBatchPolicy} currently targets when
+     * {@code batchSize} is {@link #ADAPTIVE_BATCH_SIZE}. Either way a batch is cut
+     * before its encoded size would exceed the policy's byte cap. At most
+     * {@code concurrency} bulkWrite calls are kept in flight (capped by
+     * {@code sharkshub.bulk.write.max-concurrency}); a concurrency of 1 writes
+     * sequentially on the calling thread.
+     */
+    public BulkOperationResponse bulkInsert(List<Investor> investors, int batchSize, int concurrency) {
+        return bulkWrite(investors, batchSize, concurrency, null, false, WriteMode.INSERT);
+    }
+
+
+    /**
+     * Writes {@code investors} with the batch size, concurrency, write concern and
+     * ordering of an ingest profile.
+     */
+    public BulkOperationResponse bulkInsert(List<Investor> investors, IngestProfile profile) {
+        return bulkWrite(investors, profile, WriteMode.INSERT);
+    }
+
+
+    /**
+     * Like {@link #bulkInsert(List, IngestProfile)}, but upserts by name for every
+     * mode other than {@link WriteMode#INSERT}. Documents that matched an existing
+     * investor count as successful, including those left untouched by
+     * {@link WriteMode#INSERT_IF_ABSENT}.
+     */
+    public BulkOperationResponse bulkWrite(List<Investor> investors, IngestProfile profile, WriteMode mode) {
+        return bulkWrite(investors, profile.getBatchSize(), profile.getConcurrency(),
+                profile.getWriteConcern(), profile.isOrdered(), mode);
+    }
+
+
+    private BulkOperationResponse bulkWrite(List<Investor> investors, int batchSize, int concurrency,
+                                            WriteConcern writeConcern, boolean ordered, WriteMode mode) {
         if (investors == null || investors.isEmpty()) {
             return BulkOperationResponse.builder()
                     .totalProcessed(0)
@@ -51,42 +157,83 @@ public class BulkInsertUtil {
                     .build();
         }
 
-        logger.info("Starting bulk insert of {} investors with batch size {}", investors.size(), batchSize);
+        int inFlight = Math.min(Math.max(1, concurrency), maxConcurrency);
+
+        logger.info("Starting bulk {} of {} investors with batch size {}, concurrency {}, "
+                        + "write concern {}, ordered {}",
+                mode, investors.size(), batchSize > 0 ? batchSize : "adaptive", inFlight,
+                writeConcern != null ? writeConcern : "default", ordered);
 
         Instant startTime = Instant.now();
         BulkOperationResponse response = BulkOperationResponse.builder()
                 .totalProcessed(investors.size())
                 .build();
 
-        MongoCollection<Document> collection = mongoTemplate
-                .getCollection(mongoTemplate.getCollectionName(Investor.class));
+        MongoCollection<RawBsonDocument> documents = mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(Investor.class))
+                .withDocumentClass(RawBsonDocument.class);
+        MongoCollection<RawBsonDocument> collection = writeConcern != null
+                ? documents.withWriteConcern(writeConcern)
+                : documents;
+        BulkWriteOptions options = new BulkWriteOptions().ordered(ordered);
+        // A replacement must not carry a freshly generated _id, or it could not match an existing investor
+        InvestorCodec codec = mode == WriteMode.REPLACE ? replaceCodec : investorCodec;
 
-        int totalBatches = (investors.size() + batchSize - 1) / batchSize; // Ceiling division
         AtomicInteger successCounter = new AtomicInteger(0);
+        BatchResult conversionResult = new BatchResult();
+        List<BatchResult> results = new ArrayList<>();
+        results.add(conversionResult);
 
-        for (int batchIndex = 0; batchIndex < totalBatches; batchIndex++) {
-            int fromIndex = batchIndex * batchSize;
-            int toIndex = Math.min(fromIndex + batchSize, investors.size());
-            List<Investor> batch = investors.subList(fromIndex, toIndex);
+        Semaphore permits = new Semaphore(inFlight);
+        List<Future<BatchResult>> futures = new ArrayList<>();
+        EncodedBatch batch = new EncodedBatch();
+        int batchNumber = 0;
 
-            try {
-                int batchSuccess = processBatch(batch, collection, response, fromIndex);
-                successCounter.addAndGet(batchSuccess);
-
-                logger.debug("Processed batch {}/{}: {} investors, {} successful",
-                        batchIndex + 1, totalBatches, batch.size(), batchSuccess);
-            } catch (Exception e) {
-                logger.error("Error processing batch {}/{}: {}", batchIndex + 1, totalBatches, e.getMessage(), e);
-                for (int i = 0; i < batch.size(); i++) {
-                    int itemIndex = fromIndex + i;
-                    Investor investor = batch.get(i);
-
-                    if (!response.getErrors().stream()
-                            .anyMatch(error -> error.getItemIndex() == itemIndex)) {
-                        response.addError(itemIndex, investor.getName(), "BATCH_PROCESSING_ERROR", e.getMessage());
-                    }
+        try {
+            for (int i = 0; i < investors.size(); i++) {
+                RawBsonDocument document;
+                boolean generatedId;
+                try {
+                    // Encoded once, so the generated _id stays stable and a retry can recognise
+                    // documents an earlier attempt already committed
+                    document = new RawBsonDocument(investors.get(i), codec);
+                    generatedId = investors.get(i).getId() == null && codec.generatesIds();
+                } catch (Exception e) {
+                    logger.error("Error converting investor at index {}: {}", i, e.getMessage(), e);
+                    conversionResult.addError(i, investors.get(i).getName(), "CONVERSION_ERROR", e.getMessage());
+                    continue;
+                }
+
+                int size = document.getByteBuffer().remaining();
+                int maxDocuments = batchSize > 0 ? batchSize : batchPolicy.targetDocuments();
+                if (!batch.isEmpty() && (batch.size() >= maxDocuments || batch.bytes + size > batchPolicy.maxBytes())) {
+                    dispatch(batch, ++batchNumber, investors, collection, options, mode, successCounter, inFlight,
+                            permits, results, futures);
+                    batch = new EncodedBatch();
                 }
+                batch.add(document, i, size, generatedId);
             }
+
+            if (!batch.isEmpty()) {
+                dispatch(batch, ++batchNumber, investors, collection, options, mode, successCounter, inFlight,
+                        permits, results, futures);
+            }
+
+            for (Future<BatchResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while writing bulk insert batches", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk insert batch failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        for (BatchResult result : results) {
+            result.errors.forEach(error -> response.addError(error.getItemIndex(), error.getInvestorName(),
+                    error.getErrorCode(), error.getErrorMessage()));
+            result.warnings.forEach(response::addWarning);
         }
 
         response.setSuccessCount(successCounter.get());
@@ -96,68 +243,305 @@ public class BulkInsertUtil {
         response.setDurationMs(Duration.between(startTime, endTime).toMillis());
         response.updateStatus();
 
-        logger.info("Bulk insert completed in {}ms. Total: {}, Success: {}, Failed: {}",
-                response.getDurationMs(), response.getTotalProcessed(),
+        logger.info("Bulk insert completed in {}ms in {} batches. Total: {}, Success: {}, Failed: {}",
+                response.getDurationMs(), batchNumber, response.getTotalProcessed(),
                 response.getSuccessCount(), response.getFailureCount());
 
         return response;
     }
 
 
-    private int processBatch(List<Investor> batch, MongoCollection<Document> collection,
-                             BulkOperationResponse response, int batchStartIndex) {
-        int successCount = 0;
+    private void dispatch(EncodedBatch batch, int batchNumber, List<Investor> investors,
+                          MongoCollection<RawBsonDocument> collection, BulkWriteOptions options,
+                          WriteMode mode, AtomicInteger successCounter,
+                          int inFlight, Semaphore permits, List<BatchResult> results,
+                          List<Future<BatchResult>> futures) throws InterruptedException {
+        if (inFlight == 1) {
+            results.add(writeBatch(batch, batchNumber, investors, collection, options, mode, successCounter));
+            return;
+        }
 
-        try {
-            List<WriteModel<Document>> writeModels = new ArrayList<>();
-            List<Integer> indexMap = new ArrayList<>();
+        permits.acquire();
+        futures.add(writeExecutor.submit(() -> {
+            try {
+                return writeBatch(batch, batchNumber, investors, collection, options, mode, successCounter);
+            } finally {
+                permits.release();
+            }
+        }));
+    }
 
-            for (int i = 0; i < batch.size(); i++) {
-                try {
-                    int originalIndex = batchStartIndex + i;
-                    Investor investor = batch.get(i);
 
-                    Document document = new Document();
-                    mongoTemplate.getConverter().write(investor, document);
+    private BatchResult writeBatch(EncodedBatch batch, int batchNumber, List<Investor> investors,
+                                   MongoCollection<RawBsonDocument> collection, BulkWriteOptions options,
+                                   WriteMode mode, AtomicInteger successCounter) {
+        BatchResult result = new BatchResult();
 
-                    writeModels.add(new InsertOneModel<>(document));
-                    indexMap.add(originalIndex);
-                } catch (Exception e) {
-                    logger.error("Error converting investor at index {}: {}",
-                            batchStartIndex + i, e.getMessage(), e);
+        try {
+            int batchSuccess = processBatch(batch, investors, collection, options, mode, result);
+            successCounter.addAndGet(batchSuccess);
 
-                    Investor investor = batch.get(i);
-                    response.addError(batchStartIndex + i, investor.getName(),
-                            "CONVERSION_ERROR", e.getMessage());
+            logger.debug("Processed batch {}: {} investors ({} bytes), {} successful",
+                    batchNumber, batch.size(), batch.bytes, batchSuccess);
+        } catch (Exception e) {
+            logger.error("Error processing batch {}: {}", batchNumber, e.getMessage(), e);
+            for (int itemIndex : batch.indexMap) {
+                if (!result.hasError(itemIndex)) {
+                    result.addError(itemIndex, investors.get(itemIndex).getName(), "BATCH_PROCESSING_ERROR",
+                            e.getMessage());
                 }
             }
+        }
+
+        return result;
+    }
 
-            if (writeModels.isEmpty()) {
-                return 0;
+
+    /**
+     * Writes one encoded batch, returning the number of documents that committed.
+     * Every failure is attributed to its original item index through the batch's
+     * index map: permanent write errors are reported as-is, while transient ones
+     * (network errors, write-concern and step-down failures, RetryableWriteError)
+     * are retried with exponential backoff for just the documents that did not
+     * commit. In an ordered batch the server stops at the first error, so the
+     * documents after a permanent failure are reported as not attempted. Each
+     * round trip is reported to the batch policy.
+     */
+    private int processBatch(EncodedBatch batch, List<Investor> investors,
+                             MongoCollection<RawBsonDocument> collection, BulkWriteOptions options,
+                             WriteMode mode, BatchResult result) {
+        List<Integer> indexMap = batch.indexMap;
+        List<Integer> pending = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            pending.add(i);
+        }
+
+        int committed = 0;
+        String lastTransientError = null;
+
+        for (int attempt = 0; attempt <= maxRetries && !pending.isEmpty(); attempt++) {
+            if (attempt > 0 && !backoff(attempt, pending.size())) {
+                break;
             }
 
-            BulkWriteOptions options = new BulkWriteOptions().ordered(false); // Use unordered for better performance
-            BulkWriteResult result = collection.bulkWrite(writeModels, options);
+            List<WriteModel<RawBsonDocument>> models = new ArrayList<>(pending.size());
+            long bytes = 0;
+            for (int position : pending) {
+                models.add(UpsertModels.toWriteModel(mode, batch.documents.get(position)));
+                bytes += batch.sizes.get(position);
+            }
 
-            successCount = result.getInsertedCount();
+            long started = System.nanoTime();
+            try {
+                committed += UpsertModels.acknowledged(collection.bulkWrite(models, options));
+                pending = List.of();
+            } catch (MongoBulkWriteException e) {
+                committed += UpsertModels.acknowledged(e.getWriteResult());
+                List<Integer> retry = new ArrayList<>();
+                Map<Integer, BulkWriteError> ownIdConflicts = new LinkedHashMap<>();
+
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    int position = pending.get(error.getIndex());
+                    int itemIndex = indexMap.get(position);
+
+                    if (attempt > 0 && error.getCategory() == ErrorCategory.DUPLICATE_KEY
+                            && batch.generatedIds.get(position)) {
+                        ownIdConflicts.put(position, error);
+                    } else if (isTransient(error)) {
+                        retry.add(position);
+                        lastTransientError = error.getMessage();
+                    } else {
+                        result.addError(itemIndex, investors.get(itemIndex).getName(),
+                                error.getCategory() == ErrorCategory.DUPLICATE_KEY ? "DUPLICATE_KEY" : "WRITE_ERROR",
+                                error.getMessage());
+                    }
+                }
 
+                committed += resolveOwnIdConflicts(ownIdConflicts, batch, investors, collection, result);
+
+                if (options.isOrdered() && !e.getWriteErrors().isEmpty()) {
+                    BulkWriteError stoppedAt = e.getWriteErrors().get(e.getWriteErrors().size() - 1);
+                    for (int i = stoppedAt.getIndex() + 1; i < pending.size(); i++) {
+                        int position = pending.get(i);
+                        if (isTransient(stoppedAt)) {
+                            retry.add(position);
+                        } else {
+                            int itemIndex = indexMap.get(position);
+                            result.addError(itemIndex, investors.get(itemIndex).getName(), "NOT_ATTEMPTED",
+                                    "Skipped after the write error at index "
+                                            + indexMap.get(pending.get(stoppedAt.getIndex())) + " in an ordered batch");
+                        }
+                    }
+                }
 
-            if (successCount < writeModels.size()) {
-                logger.warn("Partial success in batch: {} of {} succeeded",
-                        successCount, writeModels.size());
+                if (e.getWriteConcernError() != null) {
+                    result.warnings.add(String.format(
+                            "Write concern not satisfied for %d committed documents in batch starting at index %d: %s",
+                            UpsertModels.acknowledged(e.getWriteResult()), indexMap.get(0),
+                            e.getWriteConcernError().getMessage()));
+                }
 
+                pending = retry;
+            } catch (MongoException e) {
+                if (!isTransient(e)) {
+                    logger.error("Failed to execute bulk write: {}", e.getMessage(), e);
+                    failPending(pending, indexMap, investors, result, "BATCH_PROCESSING_ERROR", e.getMessage());
+                    return committed;
+                }
 
-                response.addWarning(String.format(
-                        "Partial success detected in batch. %d of %d operations succeeded. " +
-                                "Individual failures cannot be precisely identified.",
-                        successCount, writeModels.size()));
+                // Outcome unknown for every pending document: resend them all
+                logger.warn("Transient failure writing {} documents (attempt {}): {}",
+                        pending.size(), attempt + 1, e.getMessage());
+                lastTransientError = e.getMessage();
+            } finally {
+                batchPolicy.record(models.size(), bytes, System.nanoTime() - started);
             }
-        } catch (Exception e) {
-            logger.error("Failed to execute bulk write: {}", e.getMessage(), e);
-            throw e;
         }
 
-        return successCount;
+        if (!pending.isEmpty()) {
+            logger.error("Giving up on {} documents after {} retries: {}",
+                    pending.size(), maxRetries, lastTransientError);
+            failPending(pending, indexMap, investors, result, "WRITE_RETRY_EXHAUSTED", lastTransientError);
+        }
+
+        return committed;
+    }
+
+
+    private boolean backoff(int attempt, int pendingCount) {
+        long delay = retryBackoffMs << (attempt - 1);
+        logger.debug("Retrying {} documents in {}ms (attempt {})", pendingCount, delay, attempt + 1);
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+
+    private void failPending(List<Integer> pending, List<Integer> indexMap, List<Investor> investors,
+                             BatchResult result, String errorCode, String errorMessage) {
+        for (int position : pending) {
+            int itemIndex = indexMap.get(position);
+            result.addError(itemIndex, investors.get(itemIndex).getName(), errorCode, errorMessage);
+        }
+    }
+
+
+    private static boolean isTransient(BulkWriteError error) {
+        return TRANSIENT_ERROR_CODES.contains(error.getCode());
+    }
+
+
+    private static boolean isTransient(MongoException e) {
+        return e instanceof MongoSocketException
+                || e instanceof MongoTimeoutException
+                || e instanceof MongoNotPrimaryException
+                || e instanceof MongoNodeIsRecoveringException
+                || e instanceof MongoWriteConcernException
+                || e instanceof MongoExecutionTimeoutException
+                || e.hasErrorLabel(RETRYABLE_WRITE_ERROR_LABEL)
+                || TRANSIENT_ERROR_CODES.contains(e.getCode());
+    }
+
+
+    /**
+     * Resolves duplicate key errors that a retry got for documents whose {@code _id}
+     * this call generated. A stored document with that {@code _id} can only have been
+     * written by an earlier attempt whose acknowledgement was lost, so it counts as
+     * committed; otherwise the document collided with another investor and the error
+     * is reported. Which index the server names is not relied on: a lost-ack document
+     * also collides on {@code name}. Returns the number of documents found committed.
+     */
+    private int resolveOwnIdConflicts(Map<Integer, BulkWriteError> conflicts, EncodedBatch batch,
+                                      List<Investor> investors, MongoCollection<RawBsonDocument> collection,
+                                      BatchResult result) {
+        if (conflicts.isEmpty()) {
+            return 0;
+        }
+
+        Set<BsonValue> stored = new HashSet<>();
+        try {
+            List<BsonValue> ids = conflicts.keySet().stream()
+                    .map(position -> batch.documents.get(position).get("_id"))
+                    .toList();
+            collection.find(Filters.in("_id", ids))
+                    .projection(Projections.include("_id"))
+                    .into(new ArrayList<>())
+                    .forEach(document -> stored.add(document.get("_id")));
+        } catch (MongoException e) {
+            logger.warn("Could not check {} duplicate ids against the collection: {}", conflicts.size(), e.getMessage());
+        }
+
+        int committed = 0;
+        for (Map.Entry<Integer, BulkWriteError> conflict : conflicts.entrySet()) {
+            int position = conflict.getKey();
+            if (stored.contains(batch.documents.get(position).get("_id"))) {
+                committed++;
+            } else {
+                int itemIndex = batch.indexMap.get(position);
+                result.addError(itemIndex, investors.get(itemIndex).getName(), "DUPLICATE_KEY",
+                        conflict.getValue().getMessage());
+            }
+        }
+        return committed;
+    }
+
+
+    /**
+     * Documents already encoded for one batch, with their original item indexes
+     * and encoded sizes.
+     */
+    private static class EncodedBatch {
+        private final List<RawBsonDocument> documents = new ArrayList<>();
+        private final List<Integer> indexMap = new ArrayList<>();
+        private final List<Integer> sizes = new ArrayList<>();
+        // Whether each _id was generated by the encode rather than supplied by the caller
+        private final List<Boolean> generatedIds = new ArrayList<>();
+        private long bytes;
+
+        private void add(RawBsonDocument document, int itemIndex, int size, boolean generatedId) {
+            documents.add(document);
+            indexMap.add(itemIndex);
+            sizes.add(size);
+            generatedIds.add(generatedId);
+            bytes += size;
+        }
+
+        private int size() {
+            return documents.size();
+        }
+
+        private boolean isEmpty() {
+            return documents.isEmpty();
+        }
+    }
+
+
+    /**
+     * Outcome of a single batch, collected on the worker thread and merged into the
+     * response by the calling thread once every batch has completed.
+     */
+    private static class BatchResult {
+        private final List<BulkError> errors = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+        private final Set<Integer> failedIndexes = new HashSet<>();
+
+        private boolean hasError(int itemIndex) {
+            return failedIndexes.contains(itemIndex);
+        }
+
+        private void addError(int itemIndex, String investorName, String errorCode, String errorMessage) {
+            failedIndexes.add(itemIndex);
+            errors.add(BulkError.builder()
+                    .itemIndex(itemIndex)
+                    .investorName(investorName)
+                    .errorCode(errorCode)
+                    .errorMessage(errorMessage)
+                    .build());
+        }
     }
 
 
@@ -0,0 +1,104 @@
+package com.ucapital.sharkshub.investor.util;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+
+/**
+ * Opens {@code .gz} and {@code .zip} uploads as a stream of their decompressed content,
+ * so compressed files are parsed as they are read and never expanded to disk. A gzip
+ * file's content is named by dropping the {@code .gz} suffix ({@code investors.csv.gz}
+ * holds {@code investors.csv}); a zip archive is read from its first file entry, whose
+ * name decides the format.
+ */
+public final class CompressedInput {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String ZIP_SUFFIX = ".zip";
+
+    private CompressedInput() {
+    }
+
+
+    public static boolean isCompressed(String filename) {
+        if (filename == null) {
+            return false;
+        }
+        String lower = filename.toLowerCase();
+        return lower.endsWith(GZIP_SUFFIX) || lower.endsWith(ZIP_SUFFIX);
+    }
+
+
+    /**
+     * Wraps {@code compressed}, the raw bytes of {@code filename}, in a decompressing
+     * stream. Closing the returned entry closes {@code compressed}.
+     */
+    public static Entry open(String filename, InputStream compressed) throws IOException {
+        InputStream buffered = new BufferedInputStream(compressed, BUFFER_SIZE);
+        try {
+            if (filename.toLowerCase().endsWith(GZIP_SUFFIX)) {
+                return new Entry(filename.substring(0, filename.length() - GZIP_SUFFIX.length()),
+                        new GZIPInputStream(buffered, BUFFER_SIZE));
+            }
+
+            ZipInputStream zip = new ZipInputStream(buffered);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory() && !entry.getName().startsWith("__MACOSX/")) {
+                    return new Entry(entry.getName(), zip);
+                }
+            }
+            throw new IOException("Zip archive " + filename + " contains no file");
+        } catch (IOException | RuntimeException e) {
+            buffered.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Name of the content inside the compressed file at {@code file}, read without
+     * decompressing it.
+     */
+    public static String contentName(Path file) throws IOException {
+        try (Entry entry = open(file.getFileName().toString(), Files.newInputStream(file))) {
+            return entry.name();
+        }
+    }
+
+
+    /**
+     * A resource over the compressed file at {@code file} whose every
+     * {@link Resource#getInputStream()} yields the decompressed content.
+     */
+    public static Resource resource(Path file) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return open(file.getFileName().toString(), super.getInputStream()).stream();
+            }
+        };
+    }
+
+
+    /**
+     * @param name the decompressed content's file name, e.g. {@code investors.csv}
+     */
+    public record Entry(String name, InputStream stream) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+}
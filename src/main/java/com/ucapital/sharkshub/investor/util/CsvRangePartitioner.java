@@ -0,0 +1,153 @@
+package com.ucapital.sharkshub.investor.util;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Splits a stored CSV file into byte ranges that each start and end on a record
+ * boundary, one partition per range, for a partitioned import step. Ranges are cut
+ * at even byte offsets and each cut is moved to just after the first newline past it
+ * that is outside quotes, with the same {@link MappedCsvFile} search the sync import's
+ * {@link MappedCsvReader} uses, so quoted fields may contain newlines. A cut that lands
+ * in the last record is dropped, so a small file may yield fewer partitions than asked
+ * for.
+ *
+ * <p>Each partition's execution context holds its range and the end of the header
+ * row; {@link #resource} turns them into the header followed by the range, which
+ * reads like a CSV file of its own.
+ */
+public class CsvRangePartitioner implements Partitioner {
+
+    public static final String HEADER_END_KEY = "CsvRangePartitioner.header.end";
+    public static final String START_KEY = "CsvRangePartitioner.start";
+    public static final String END_KEY = "CsvRangePartitioner.end";
+
+    private final Path file;
+
+    public CsvRangePartitioner(Path file) {
+        this.file = file;
+    }
+
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        try {
+            MappedCsvFile csv = MappedCsvFile.map(file);
+            long length = csv.length();
+            long headerEnd = csv.recordStart(0, false);
+
+            long[] targets = new long[gridSize + 1];
+            for (int i = 1; i < gridSize; i++) {
+                targets[i] = headerEnd + (length - headerEnd) * i / gridSize;
+            }
+            targets[gridSize] = length;
+            // Counted on the calling thread: partitioning runs once per job, before any worker starts
+            boolean[] quoted = csv.quoteParityAtCuts(targets, Runnable::run);
+
+            List<Long> cuts = new ArrayList<>();
+            cuts.add(headerEnd);
+            for (int i = 1; i < gridSize; i++) {
+                long cut = csv.recordStart(targets[i], quoted[i]);
+                if (cut > cuts.get(cuts.size() - 1) && cut < length) {
+                    cuts.add(cut);
+                }
+            }
+            cuts.add(length);
+
+            Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+            for (int i = 0; i < cuts.size() - 1; i++) {
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(HEADER_END_KEY, headerEnd);
+                context.putLong(START_KEY, cuts.get(i));
+                context.putLong(END_KEY, cuts.get(i + 1));
+                partitions.put("partition" + i, context);
+            }
+            return partitions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot partition " + file, e);
+        }
+    }
+
+
+    /**
+     * A resource reading the header row of {@code file} followed by bytes
+     * {@code [start, end)}.
+     */
+    public static Resource resource(Path file, long headerEnd, long start, long end) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                try {
+                    ByteBuffer header = ByteBuffer.allocate(Math.toIntExact(headerEnd));
+                    int read = 0;
+                    while (header.hasRemaining() && read >= 0) {
+                        read = channel.read(header, header.position());
+                    }
+                    return new SequenceInputStream(new ByteArrayInputStream(header.array(), 0, header.position()),
+                            new RangeInputStream(channel, start, end));
+                } catch (IOException | RuntimeException e) {
+                    channel.close();
+                    throw e;
+                }
+            }
+        };
+    }
+
+
+    private static final class RangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        private RangeInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(bytes, offset, (int) Math.min(length, end - position)), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.ucapital.sharkshub.investor.dto.AddressDto;
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.FinancialsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+
+/**
+ * Binds CSV rows to {@link InvestorDto}s through a plan compiled once from the
+ * header: each column index maps straight to the setter it feeds, and every
+ * {@code contacts[n].field} column to a fixed contact slot. A row is then a single
+ * scan of the line that cuts each cell out of it (or out of one reused buffer when
+ * the cell is quoted) and hands it to its column's setter, without a per-row map or
+ * value array. Columns the plan does not know are never materialised.
+ *
+ * <p>Rows bind exactly as the previous map-based conversion did: values are trimmed,
+ * a present but empty column still sets its field, {@code hqLocation},
+ * {@code financials} and {@code descriptions} exist as soon as any of their columns
+ * is present, and contacts without a first or last name are dropped.
+ *
+ * <p>An instance reuses its buffers between rows and is not thread-safe; compile one
+ * per reader.
+ */
+public final class CsvRowBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvRowBinder.class);
+
+    private static final String HQ_LOCATION_PREFIX = "hqLocation.";
+    private static final String FINANCIALS_PREFIX = "financials.";
+    private static final String DESCRIPTIONS_PREFIX = "descriptions.";
+    private static final String CONTACTS_PREFIX = "contacts[";
+
+    private static final Map<String, ColumnBinding> INVESTOR_COLUMNS = investorColumns();
+    private static final Map<String, BiConsumer<AddressDto, String>> HQ_LOCATION_COLUMNS = hqLocationColumns();
+    private static final Map<String, BiConsumer<FinancialsDto, BigDecimal>> FINANCIALS_COLUMNS = financialsColumns();
+    private static final Map<String, BiConsumer<InvDescriptionsDto, String>> DESCRIPTIONS_COLUMNS = descriptionsColumns();
+    private static final Map<String, BiConsumer<ContactsDto, String>> CONTACT_COLUMNS = contactColumns();
+
+    private final ColumnBinding[] bindings;
+    private final ContactsDto[] contactSlots;
+    private final StringBuilder quotedCell = new StringBuilder();
+
+    private InvestorDto investor;
+    private AddressDto hqLocation;
+    private FinancialsDto financials;
+    private InvDescriptionsDto descriptions;
+    private boolean hasContacts;
+    private int valueCount;
+
+    private CsvRowBinder(ColumnBinding[] bindings, int contactSlotCount) {
+        this.bindings = bindings;
+        this.contactSlots = new ContactsDto[contactSlotCount];
+    }
+
+
+    /**
+     * Compiles the binding plan for {@code headers}, which are expected to be trimmed.
+     * Unknown columns are ignored, as are contact columns whose index is not a number.
+     */
+    public static CsvRowBinder compile(String[] headers) {
+        ColumnBinding[] bindings = new ColumnBinding[headers.length];
+        Map<Integer, Integer> contactSlots = new HashMap<>();
+
+        for (int column = 0; column < headers.length; column++) {
+            String header = headers[column];
+
+            if (header.startsWith(HQ_LOCATION_PREFIX)) {
+                BiConsumer<AddressDto, String> setter =
+                        HQ_LOCATION_COLUMNS.get(header.substring(HQ_LOCATION_PREFIX.length()));
+                bindings[column] = setter != null
+                        ? (binder, value) -> setter.accept(binder.hqLocation(), value)
+                        : (binder, value) -> binder.hqLocation();
+            } else if (header.startsWith(FINANCIALS_PREFIX)) {
+                bindings[column] = financialsBinding(header,
+                        FINANCIALS_COLUMNS.get(header.substring(FINANCIALS_PREFIX.length())));
+            } else if (header.startsWith(DESCRIPTIONS_PREFIX)) {
+                BiConsumer<InvDescriptionsDto, String> setter =
+                        DESCRIPTIONS_COLUMNS.get(header.substring(DESCRIPTIONS_PREFIX.length()));
+                bindings[column] = setter != null
+                        ? (binder, value) -> setter.accept(binder.descriptions(), value)
+                        : (binder, value) -> binder.descriptions();
+            } else if (header.startsWith(CONTACTS_PREFIX)) {
+                bindings[column] = contactBinding(header, contactSlots);
+            } else {
+                bindings[column] = INVESTOR_COLUMNS.get(header);
+            }
+        }
+
+        return new CsvRowBinder(bindings, contactSlots.size());
+    }
+
+
+    /**
+     * Binds one CSV line to a new investor. Cells beyond the header are counted but
+     * ignored; a short row binds only the columns it has.
+     */
+    public InvestorDto bind(String line) {
+        investor = new InvestorDto();
+        hqLocation = null;
+        financials = null;
+        descriptions = null;
+
+        int column = 0;
+        int cellStart = 0;
+        boolean inQuotes = false;
+        boolean quoted = false;
+        int length = line.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = line.charAt(i);
+
+            if (c == '"') {
+                quoted = true;
+                if (i + 1 < length && line.charAt(i + 1) == '"') {
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                bindCell(column++, line, cellStart, i, quoted);
+                cellStart = i + 1;
+                quoted = false;
+            }
+        }
+        bindCell(column++, line, cellStart, length, quoted);
+        valueCount = column;
+
+        return finishRow();
+    }
+
+
+    /**
+     * Number of cells in the last bound line, for comparing against {@link #columnCount()}.
+     */
+    public int valueCount() {
+        return valueCount;
+    }
+
+
+    public int columnCount() {
+        return bindings.length;
+    }
+
+
+    private void bindCell(int column, String line, int start, int end, boolean quoted) {
+        if (column >= bindings.length || bindings[column] == null) {
+            return;
+        }
+
+        String value;
+        if (quoted) {
+            quotedCell.setLength(0);
+            for (int i = start; i < end; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    if (i + 1 < end && line.charAt(i + 1) == '"') {
+                        quotedCell.append('"');
+                        i++;
+                    }
+                } else {
+                    quotedCell.append(c);
+                }
+            }
+            value = trimmed(quotedCell, 0, quotedCell.length());
+        } else {
+            value = trimmed(line, start, end);
+        }
+
+        bindings[column].bind(this, value);
+    }
+
+
+    private InvestorDto finishRow() {
+        InvestorDto result = investor;
+        result.setHqLocation(hqLocation);
+        result.setFinancials(financials);
+        result.setDescriptions(descriptions);
+
+        if (hasContacts) {
+            Set<ContactsDto> contacts = null;
+            for (int slot = 0; slot < contactSlots.length; slot++) {
+                ContactsDto contact = contactSlots[slot];
+                if (contact != null && (contact.getFirstName() != null || contact.getLastName() != null)) {
+                    if (contacts == null) {
+                        contacts = new HashSet<>();
+                    }
+                    contacts.add(contact);
+                }
+            }
+            if (contacts != null) {
+                result.setContacts(contacts);
+            }
+            Arrays.fill(contactSlots, null);
+            hasContacts = false;
+        }
+
+        investor = null;
+        return result;
+    }
+
+
+    private AddressDto hqLocation() {
+        if (hqLocation == null) {
+            hqLocation = new AddressDto();
+        }
+        return hqLocation;
+    }
+
+
+    private FinancialsDto financials() {
+        if (financials == null) {
+            financials = new FinancialsDto();
+        }
+        return financials;
+    }
+
+
+    private InvDescriptionsDto descriptions() {
+        if (descriptions == null) {
+            descriptions = new InvDescriptionsDto();
+        }
+        return descriptions;
+    }
+
+
+    private ContactsDto contact(int slot) {
+        ContactsDto contact = contactSlots[slot];
+        if (contact == null) {
+            contact = new ContactsDto();
+            contactSlots[slot] = contact;
+            hasContacts = true;
+        }
+        return contact;
+    }
+
+
+    private static ColumnBinding financialsBinding(String header, BiConsumer<FinancialsDto, BigDecimal> setter) {
+        if (setter == null) {
+            return (binder, value) -> binder.financials();
+        }
+        return (binder, value) -> {
+            FinancialsDto financials = binder.financials();
+            if (value.isEmpty()) {
+                return;
+            }
+            try {
+                setter.accept(financials, new BigDecimal(value));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid number format for field {}: {}", header, value);
+            }
+        };
+    }
+
+
+    private static ColumnBinding contactBinding(String header, Map<Integer, Integer> contactSlots) {
+        int indexStart = CONTACTS_PREFIX.length();
+        int indexEnd = header.indexOf(']');
+        if (indexEnd <= indexStart || indexEnd + 2 > header.length()) {
+            return null;
+        }
+
+        Integer index = parseInt(header, indexStart, indexEnd);
+        if (index == null) {
+            logger.warn("Invalid contact index in key: {}", header);
+            return null;
+        }
+
+        int slot = contactSlots.computeIfAbsent(index, k -> contactSlots.size());
+        String field = header.substring(indexEnd + 2);
+
+        if (field.equals("orderNum")) {
+            return (binder, value) -> {
+                ContactsDto contact = binder.contact(slot);
+                Integer orderNum = parseInt(value, 0, value.length());
+                if (orderNum != null) {
+                    contact.setOrderNum(orderNum);
+                } else {
+                    logger.warn("Invalid orderNum for contact: {}", value);
+                }
+            };
+        }
+
+        BiConsumer<ContactsDto, String> setter = CONTACT_COLUMNS.get(field);
+        return setter != null
+                ? (binder, value) -> setter.accept(binder.contact(slot), value)
+                : (binder, value) -> binder.contact(slot);
+    }
+
+
+    private static String trimmed(CharSequence chars, int start, int end) {
+        while (start < end && chars.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && chars.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return "";
+        }
+        return chars instanceof String string ? string.substring(start, end) : chars.subSequence(start, end).toString();
+    }
+
+
+    /**
+     * Accepts exactly what {@link Integer#parseInt(String)} accepts, but returns
+     * {@code null} instead of throwing so a bad cell costs no stack trace.
+     */
+    static Integer parseInt(String value, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+
+        boolean negative = false;
+        char first = value.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++start == end) {
+                return null;
+            }
+        }
+
+        long result = 0;
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0) {
+                return null;
+            }
+            result = result * 10 + digit;
+            if (result > limit) {
+                return null;
+            }
+        }
+        return (int) (negative ? -result : result);
+    }
+
+
+    private static List<String> parseList(String value) {
+        List<String> items = new ArrayList<>();
+        int start = 0;
+        int separator;
+        while ((separator = value.indexOf('|', start)) >= 0) {
+            items.add(value.substring(start, separator));
+            start = separator + 1;
+        }
+        items.add(value.substring(start));
+
+        // Same result as value.split("\\|"): trailing empty items are dropped
+        int size = items.size();
+        while (size > 0 && items.get(size - 1).isEmpty()) {
+            items.remove(--size);
+        }
+        return items;
+    }
+
+
+    private static ColumnBinding integerColumn(String name, BiConsumer<InvestorDto, Integer> setter) {
+        return (binder, value) -> {
+            Integer parsed = parseInt(value, 0, value.length());
+            if (parsed != null) {
+                setter.accept(binder.investor, parsed);
+            } else {
+                logger.warn("Invalid {}: {}", name, value);
+            }
+        };
+    }
+
+
+    private static ColumnBinding listColumn(BiConsumer<InvestorDto, List<String>> setter) {
+        return (binder, value) -> setter.accept(binder.investor, parseList(value));
+    }
+
+
+    private static ColumnBinding stringColumn(BiConsumer<InvestorDto, String> setter) {
+        return (binder, value) -> setter.accept(binder.investor, value);
+    }
+
+
+    @FunctionalInterface
+    private interface ColumnBinding {
+        void bind(CsvRowBinder binder, String value);
+    }
+
+
+    private static Map<String, ColumnBinding> investorColumns() {
+        Map<String, ColumnBinding> columns = new LinkedHashMap<>();
+        columns.put("id", stringColumn(InvestorDto::setId));
+        columns.put("name", stringColumn(InvestorDto::setName));
+        columns.put("status", stringColumn(InvestorDto::setStatus));
+        columns.put("type", stringColumn(InvestorDto::setType));
+        columns.put("macroType", stringColumn(InvestorDto::setMacroType));
+        columns.put("website", stringColumn(InvestorDto::setWebsite));
+        columns.put("image", stringColumn(InvestorDto::setImage));
+        columns.put("creatorEmail", stringColumn(InvestorDto::setCreatorEmail));
+        columns.put("adminEmail", stringColumn(InvestorDto::setAdminEmail));
+        columns.put("isOld", (binder, value) -> binder.investor.setIsOld(Boolean.parseBoolean(value)));
+        columns.put("completenessScore", integerColumn("completenessScore", InvestorDto::setCompletenessScore));
+        columns.put("impressions", integerColumn("impressions", InvestorDto::setImpressions));
+        columns.put("preferredGeographicalAreas", listColumn(InvestorDto::setPreferredGeographicalAreas));
+        columns.put("preferredInvestmentTypes", listColumn(InvestorDto::setPreferredInvestmentTypes));
+        columns.put("sectors", listColumn(InvestorDto::setSectors));
+        columns.put("verticals", listColumn(InvestorDto::setVerticals));
+        columns.put("macroAreas", listColumn(InvestorDto::setMacroAreas));
+        return columns;
+    }
+
+
+    private static Map<String, BiConsumer<AddressDto, String>> hqLocationColumns() {
+        Map<String, BiConsumer<AddressDto, String>> columns = new LinkedHashMap<>();
+        columns.put("address", AddressDto::setAddress);
+        columns.put("city", AddressDto::setCity);
+        columns.put("state", AddressDto::setState);
+        columns.put("zip", AddressDto::setZip);
+        columns.put("country", AddressDto::setCountry);
+        columns.put("phone", AddressDto::setPhone);
+        columns.put("email", AddressDto::setEmail);
+        columns.put("fax", AddressDto::setFax);
+        columns.put("sn", AddressDto::setSn);
+        return columns;
+    }
+
+
+    private static Map<String, BiConsumer<FinancialsDto, BigDecimal>> financialsColumns() {
+        Map<String, BiConsumer<FinancialsDto, BigDecimal>> columns = new LinkedHashMap<>();
+        columns.put("invMin", FinancialsDto::setInvMin);
+        columns.put("invMax", FinancialsDto::setInvMax);
+        columns.put("invAvg", FinancialsDto::setInvAvg);
+        columns.put("dealMax", FinancialsDto::setDealMax);
+        columns.put("dealMin", FinancialsDto::setDealMin);
+        columns.put("cmpValMin", FinancialsDto::setCmpValMin);
+        columns.put("cmpValMax", FinancialsDto::setCmpValMax);
+        columns.put("ebitdaMin", FinancialsDto::setEbitdaMin);
+        columns.put("ebitdaMax", FinancialsDto::setEbitdaMax);
+        columns.put("ebitMin", FinancialsDto::setEbitMin);
+        columns.put("ebitMax", FinancialsDto::setEbitMax);
+        return columns;
+    }
+
+
+    private static Map<String, BiConsumer<InvDescriptionsDto, String>> descriptionsColumns() {
+        Map<String, BiConsumer<InvDescriptionsDto, String>> columns = new LinkedHashMap<>();
+        columns.put("it", InvDescriptionsDto::setIt);
+        columns.put("en", InvDescriptionsDto::setEn);
+        columns.put("fr", InvDescriptionsDto::setFr);
+        columns.put("de", InvDescriptionsDto::setDe);
+        columns.put("es", InvDescriptionsDto::setEs);
+        columns.put("ru", InvDescriptionsDto::setRu);
+        columns.put("ch", InvDescriptionsDto::setCh);
+        return columns;
+    }
+
+
+    private static Map<String, BiConsumer<ContactsDto, String>> contactColumns() {
+        Map<String, BiConsumer<ContactsDto, String>> columns = new LinkedHashMap<>();
+        columns.put("firstName", ContactsDto::setFirstName);
+        columns.put("lastName", ContactsDto::setLastName);
+        columns.put("email", ContactsDto::setEmail);
+        columns.put("phone", ContactsDto::setPhone);
+        columns.put("mobile", ContactsDto::setMobile);
+        columns.put("fax", ContactsDto::setFax);
+        columns.put("role", ContactsDto::setRole);
+        return columns;
+    }
+}
@@ -1,10 +1,7 @@
 package com.ucapital.sharkshub.investor.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ucapital.sharkshub.investor.dto.AddressDto;
-import com.ucapital.sharkshub.investor.dto.ContactsDto;
-import com.ucapital.sharkshub.investor.dto.FinancialsDto;
-import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
 import com.ucapital.sharkshub.investor.dto.InvestorDto;
 import com.ucapital.sharkshub.investor.exception.InvestorValidationException;
 import org.slf4j.Logger;
@@ -16,16 +13,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.function.Function;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 
 
 @Component
@@ -43,355 +36,202 @@ public class FileParser {
     }
 
 
+    /**
+     * Parses the whole file into memory. Prefer {@link #openReader} for anything
+     * larger than a few thousand rows.
+     */
     public List<InvestorDto> parseFile(MultipartFile file) throws IOException, InvestorValidationException {
-        String contentType = file.getContentType();
-        String filename = file.getOriginalFilename();
-
-        logger.info("Parsing file: {}, content type: {}", filename, contentType);
-
-        if (contentType == null) {
-            if (filename != null && filename.toLowerCase().endsWith(".csv")) {
-                contentType = CSV_CONTENT_TYPE;
-            } else if (filename != null && filename.toLowerCase().endsWith(".json")) {
-                contentType = JSON_CONTENT_TYPE;
-            } else {
-                throw new InvestorValidationException("Cannot determine file type. Supported formats: CSV, JSON");
-            }
-        }
-
-        if (contentType.equals(CSV_CONTENT_TYPE) || contentType.equals(CSV_ALTERNATIVE_TYPE) ||
-                (filename != null && filename.toLowerCase().endsWith(".csv"))) {
-            return parseCsv(file.getInputStream());
-        } else if (contentType.equals(JSON_CONTENT_TYPE) ||
-                (filename != null && filename.toLowerCase().endsWith(".json"))) {
-            return parseJson(file.getInputStream());
-        } else {
-            throw new InvestorValidationException("Unsupported file format: " + contentType
-                    + ". Supported formats: CSV, JSON");
-        }
-    }
-
-
-    private List<InvestorDto> parseCsv(InputStream inputStream) throws IOException {
         List<InvestorDto> investors = new ArrayList<>();
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                throw new IOException("CSV file is empty");
-            }
-
-            String[] headers = headerLine.split(",");
-            for (int i = 0; i < headers.length; i++) {
-                headers[i] = headers[i].trim();
-            }
-
-            String line;
-            int rowNumber = 1;
-
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-
-                Map<String, String> row = new HashMap<>();
-                String[] values = parseCsvLine(line);
-
-                if (values.length != headers.length) {
-                    logger.warn("Row {} has {} values, expected {} (headers). Row will be processed with available data.",
-                            rowNumber, values.length, headers.length);
-                }
-
-                for (int i = 0; i < Math.min(headers.length, values.length); i++) {
-                    row.put(headers[i], values[i]);
-                }
-
-                InvestorDto investor = convertMapToInvestorDto(row);
-                investors.add(investor);
-
-                rowNumber++;
+        try (StreamingElementReader<InvestorDto> reader = openReader(file)) {
+            while (reader.hasNext()) {
+                investors.add(reader.next());
             }
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to parse JSON as investor(s)", e);
+            throw new IOException("Failed to parse JSON: " + e.getOriginalMessage(), e);
         }
 
-        logger.info("Parsed {} investors from CSV", investors.size());
+        logger.info("Parsed {} investors from {}", investors.size(), file.getOriginalFilename());
 
         return investors;
     }
 
 
-    private String[] parseCsvLine(String line) {
-        List<String> result = new ArrayList<>();
-        StringBuilder currentValue = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    currentValue.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                result.add(currentValue.toString().trim());
-                currentValue = new StringBuilder();
-            } else {
-                currentValue.append(c);
-            }
+    /**
+     * Opens {@code file} as a stream of investors read one CSV row or JSON element at a
+     * time, so memory use does not grow with the file. JSON may be a top-level array or
+     * a single object. {@code .csv.gz}, {@code .json.gz} and {@code .zip} uploads are
+     * decompressed as they are read.
+     */
+    public StreamingElementReader<InvestorDto> openReader(MultipartFile file)
+            throws IOException, InvestorValidationException {
+        String filename = file.getOriginalFilename();
+        logger.info("Parsing file: {}, content type: {}", filename, file.getContentType());
+
+        if (CompressedInput.isCompressed(filename)) {
+            return openCompressedReader(filename, file.getInputStream());
+        } else if (isCsv(file)) {
+            return new CsvInvestorReader(file.getInputStream());
+        } else if (isJson(file)) {
+            return JsonArrayStreamReader.arrayOrObject(objectMapper, file.getInputStream(), InvestorDto.class);
+        } else if (file.getContentType() == null) {
+            throw new InvestorValidationException("Cannot determine file type. Supported formats: CSV, JSON");
+        } else {
+            throw new InvestorValidationException("Unsupported file format: " + file.getContentType()
+                    + ". Supported formats: CSV, JSON");
         }
-
-        result.add(currentValue.toString().trim());
-
-        return result.toArray(new String[0]);
     }
 
-    private InvestorDto convertMapToInvestorDto(Map<String, String> row) {
-        InvestorDto.InvestorDtoBuilder builder = InvestorDto.builder();
-
-        if (row.containsKey("id")) builder.id(row.get("id"));
-        if (row.containsKey("name")) builder.name(row.get("name"));
-        if (row.containsKey("status")) builder.status(row.get("status"));
-        if (row.containsKey("type")) builder.type(row.get("type"));
-        if (row.containsKey("macroType")) builder.macroType(row.get("macroType"));
-        if (row.containsKey("website")) builder.website(row.get("website"));
-        if (row.containsKey("image")) builder.image(row.get("image"));
-        if (row.containsKey("creatorEmail")) builder.creatorEmail(row.get("creatorEmail"));
-        if (row.containsKey("adminEmail")) builder.adminEmail(row.get("adminEmail"));
-
-        if (row.containsKey("isOld") && row.get("isOld") != null) {
-            builder.isOld(Boolean.parseBoolean(row.get("isOld")));
-        }
-
-        if (row.containsKey("completenessScore") && row.get("completenessScore") != null) {
-            try {
-                builder.completenessScore(Integer.parseInt(row.get("completenessScore")));
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid completenessScore: {}", row.get("completenessScore"));
-            }
-        }
-
-        if (row.containsKey("impressions") && row.get("impressions") != null) {
-            try {
-                builder.impressions(Integer.parseInt(row.get("impressions")));
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid impressions: {}", row.get("impressions"));
-            }
-        }
-
-        if (row.containsKey("preferredGeographicalAreas")) {
-            builder.preferredGeographicalAreas(parseListField(row.get("preferredGeographicalAreas")));
-        }
-
-        if (row.containsKey("preferredInvestmentTypes")) {
-            builder.preferredInvestmentTypes(parseListField(row.get("preferredInvestmentTypes")));
-        }
 
-        if (row.containsKey("sectors")) {
-            builder.sectors(parseListField(row.get("sectors")));
-        }
-
-        if (row.containsKey("verticals")) {
-            builder.verticals(parseListField(row.get("verticals")));
-        }
-
-        if (row.containsKey("macroAreas")) {
-            builder.macroAreas(parseListField(row.get("macroAreas")));
-        }
-
-        mapHqLocation(row, builder);
-        mapFinancials(row, builder);
-        mapDescriptions(row, builder);
-        mapContacts(row, builder);
-
-        return builder.build();
+    /**
+     * Opens a CSV already stored at {@code file} as a {@link MappedCsvReader}, which
+     * parses segments of the mapped file on {@code executor}, {@code parallelism} at a
+     * time, and yields rows in file order.
+     */
+    public StreamingElementReader<InvestorDto> openMappedCsvReader(Path file, Executor executor, int parallelism)
+            throws IOException {
+        logger.info("Parsing stored CSV {} on {} threads", file, parallelism);
+        return new MappedCsvReader(file, executor, parallelism, MappedCsvReader.DEFAULT_SEGMENT_BYTES);
     }
 
 
-    private List<String> parseListField(String value) {
-        if (value == null || value.isEmpty()) {
-            return new ArrayList<>();
+    /**
+     * Whether {@code file} is an uncompressed CSV.
+     */
+    public boolean isCsv(MultipartFile file) {
+        if (CompressedInput.isCompressed(file.getOriginalFilename())) {
+            return false;
         }
-
-        return new ArrayList<>(Arrays.asList(value.split("\\|")));
+        String contentType = file.getContentType();
+        return CSV_CONTENT_TYPE.equals(contentType) || CSV_ALTERNATIVE_TYPE.equals(contentType)
+                || hasExtension(file, ".csv");
     }
 
 
-    private void mapHqLocation(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
-        boolean hasHqLocation = row.keySet().stream()
-                .anyMatch(key -> key.startsWith("hqLocation."));
+    private StreamingElementReader<InvestorDto> openCompressedReader(String filename, InputStream compressed)
+            throws IOException, InvestorValidationException {
+        CompressedInput.Entry entry = CompressedInput.open(filename, compressed);
+        String contentName = entry.name().toLowerCase();
 
-        if (!hasHqLocation) {
-            return;
+        if (contentName.endsWith(".csv")) {
+            return new CsvInvestorReader(entry.stream());
+        } else if (contentName.endsWith(".json")) {
+            return JsonArrayStreamReader.arrayOrObject(objectMapper, entry.stream(), InvestorDto.class);
         }
 
-        AddressDto.AddressDtoBuilder addressBuilder = AddressDto.builder();
-
-        if (row.containsKey("hqLocation.address")) addressBuilder.address(row.get("hqLocation.address"));
-        if (row.containsKey("hqLocation.city")) addressBuilder.city(row.get("hqLocation.city"));
-        if (row.containsKey("hqLocation.state")) addressBuilder.state(row.get("hqLocation.state"));
-        if (row.containsKey("hqLocation.zip")) addressBuilder.zip(row.get("hqLocation.zip"));
-        if (row.containsKey("hqLocation.country")) addressBuilder.country(row.get("hqLocation.country"));
-        if (row.containsKey("hqLocation.phone")) addressBuilder.phone(row.get("hqLocation.phone"));
-        if (row.containsKey("hqLocation.email")) addressBuilder.email(row.get("hqLocation.email"));
-        if (row.containsKey("hqLocation.fax")) addressBuilder.fax(row.get("hqLocation.fax"));
-        if (row.containsKey("hqLocation.sn")) addressBuilder.sn(row.get("hqLocation.sn"));
-
-        builder.hqLocation(addressBuilder.build());
+        entry.close();
+        throw new InvestorValidationException("Unsupported file format inside " + filename + ": " + entry.name()
+                + ". Supported formats: CSV, JSON");
     }
 
 
-    private void mapFinancials(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
-        // Check if there are any financials fields
-        boolean hasFinancials = row.keySet().stream()
-                .anyMatch(key -> key.startsWith("financials."));
-
-        if (!hasFinancials) {
-            return;
-        }
-
-        FinancialsDto.FinancialsDtoBuilder financialsBuilder = FinancialsDto.builder();
-
-        mapBigDecimalField(row, "financials.invMin", financialsBuilder::invMin);
-        mapBigDecimalField(row, "financials.invMax", financialsBuilder::invMax);
-        mapBigDecimalField(row, "financials.invAvg", financialsBuilder::invAvg);
-        mapBigDecimalField(row, "financials.dealMax", financialsBuilder::dealMax);
-        mapBigDecimalField(row, "financials.dealMin", financialsBuilder::dealMin);
-        mapBigDecimalField(row, "financials.cmpValMin", financialsBuilder::cmpValMin);
-        mapBigDecimalField(row, "financials.cmpValMax", financialsBuilder::cmpValMax);
-        mapBigDecimalField(row, "financials.ebitdaMin", financialsBuilder::ebitdaMin);
-        mapBigDecimalField(row, "financials.ebitdaMax", financialsBuilder::ebitdaMax);
-        mapBigDecimalField(row, "financials.ebitMin", financialsBuilder::ebitMin);
-        mapBigDecimalField(row, "financials.ebitMax", financialsBuilder::ebitMax);
-
-        builder.financials(financialsBuilder.build());
+    private boolean isJson(MultipartFile file) {
+        return JSON_CONTENT_TYPE.equals(file.getContentType()) || hasExtension(file, ".json");
     }
 
 
-    private void mapBigDecimalField(Map<String, String> row, String fieldName,
-                                    Function<BigDecimal, FinancialsDto.FinancialsDtoBuilder> setter) {
-        if (row.containsKey(fieldName) && row.get(fieldName) != null && !row.get(fieldName).isEmpty()) {
-            try {
-                setter.apply(new BigDecimal(row.get(fieldName)));
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid number format for field {}: {}", fieldName, row.get(fieldName));
-            }
-        }
+    private static boolean hasExtension(MultipartFile file, String extension) {
+        String filename = file.getOriginalFilename();
+        return filename != null && filename.toLowerCase().endsWith(extension);
     }
 
 
-    private void mapDescriptions(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
-        boolean hasDescriptions = row.keySet().stream()
-                .anyMatch(key -> key.startsWith("descriptions."));
+    /**
+     * Reads a CSV with a header row one record at a time; a record continues onto the
+     * next line while a quoted field is open. Blank lines are skipped and do not count
+     * as elements. Rows are bound through a {@link CsvRowBinder} compiled from
+     * the header.
+     */
+    private class CsvInvestorReader implements StreamingElementReader<InvestorDto> {
 
-        if (!hasDescriptions) {
-            return;
-        }
-
-        InvDescriptionsDto.InvDescriptionsDtoBuilder descriptionsBuilder = InvDescriptionsDto.builder();
-
-        if (row.containsKey("descriptions.it")) descriptionsBuilder.it(row.get("descriptions.it"));
-        if (row.containsKey("descriptions.en")) descriptionsBuilder.en(row.get("descriptions.en"));
-        if (row.containsKey("descriptions.fr")) descriptionsBuilder.fr(row.get("descriptions.fr"));
-        if (row.containsKey("descriptions.de")) descriptionsBuilder.de(row.get("descriptions.de"));
-        if (row.containsKey("descriptions.es")) descriptionsBuilder.es(row.get("descriptions.es"));
-        if (row.containsKey("descriptions.ru")) descriptionsBuilder.ru(row.get("descriptions.ru"));
-        if (row.containsKey("descriptions.ch")) descriptionsBuilder.ch(row.get("descriptions.ch"));
-
-        builder.descriptions(descriptionsBuilder.build());
-    }
+        private final BufferedReader reader;
+        private CsvRowBinder binder;
+        private String nextLine;
+        private int index = -1;
 
+        private CsvInvestorReader(InputStream inputStream) {
+            this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        }
 
-    private void mapContacts(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
-        Map<Integer, Map<String, String>> contactsMap = new HashMap<>();
 
-        for (Map.Entry<String, String> entry : row.entrySet()) {
-            if (entry.getKey().startsWith("contacts[")) {
-                String key = entry.getKey();
-                int startIndex = key.indexOf('[') + 1;
-                int endIndex = key.indexOf(']');
+        @Override
+        public boolean hasNext() throws IOException {
+            if (binder == null) {
+                String headerLine = reader.readLine();
+                if (headerLine == null) {
+                    throw new IOException("CSV file is empty");
+                }
 
-                if (startIndex > 0 && endIndex > startIndex) {
-                    try {
-                        int index = Integer.parseInt(key.substring(startIndex, endIndex));
-                        String fieldName = key.substring(endIndex + 2);
+                String[] headers = headerLine.split(",");
+                for (int i = 0; i < headers.length; i++) {
+                    headers[i] = headers[i].trim();
+                }
+                binder = CsvRowBinder.compile(headers);
+            }
 
-                        contactsMap.computeIfAbsent(index, k -> new HashMap<>())
-                                .put(fieldName, entry.getValue());
-                    } catch (NumberFormatException e) {
-                        logger.warn("Invalid contact index in key: {}", key);
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                boolean quoted = hasOddQuotes(line);
+                while (quoted) {
+                    String continuation = reader.readLine();
+                    if (continuation == null) {
+                        break;
                     }
+                    line = line + '\n' + continuation;
+                    quoted ^= hasOddQuotes(continuation);
+                }
+                if (!line.trim().isEmpty()) {
+                    nextLine = line;
                 }
             }
+            return true;
         }
 
-        Set<ContactsDto> contacts = new HashSet<>();
-
-        for (Map.Entry<Integer, Map<String, String>> contactEntry : contactsMap.entrySet()) {
-            Map<String, String> contactFields = contactEntry.getValue();
 
-            ContactsDto.ContactsDtoBuilder contactBuilder = ContactsDto.builder();
-
-            if (contactFields.containsKey("firstName"))
-                contactBuilder.firstName(contactFields.get("firstName"));
-
-            if (contactFields.containsKey("lastName"))
-                contactBuilder.lastName(contactFields.get("lastName"));
-
-            if (contactFields.containsKey("email"))
-                contactBuilder.email(contactFields.get("email"));
-
-            if (contactFields.containsKey("phone"))
-                contactBuilder.phone(contactFields.get("phone"));
+        @Override
+        public InvestorDto next() throws IOException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in CSV file");
+            }
+            String line = nextLine;
+            nextLine = null;
+            index++;
 
-            if (contactFields.containsKey("mobile"))
-                contactBuilder.mobile(contactFields.get("mobile"));
+            InvestorDto investor = binder.bind(line);
 
-            if (contactFields.containsKey("fax"))
-                contactBuilder.fax(contactFields.get("fax"));
+            if (binder.valueCount() != binder.columnCount()) {
+                logger.warn("Row {} has {} values, expected {} (headers). Row will be processed with available data.",
+                        index + 1, binder.valueCount(), binder.columnCount());
+            }
 
-            if (contactFields.containsKey("role"))
-                contactBuilder.role(contactFields.get("role"));
+            return investor;
+        }
 
-            if (contactFields.containsKey("orderNum") && contactFields.get("orderNum") != null) {
-                try {
-                    contactBuilder.orderNum(Integer.parseInt(contactFields.get("orderNum")));
-                } catch (NumberFormatException e) {
-                    logger.warn("Invalid orderNum for contact: {}", contactFields.get("orderNum"));
-                }
-            }
 
-            ContactsDto contact = contactBuilder.build();
-            if (contact.getFirstName() != null || contact.getLastName() != null) {
-                contacts.add(contact);
-            }
+        @Override
+        public int index() {
+            return index;
         }
 
-        if (!contacts.isEmpty()) {
-            builder.contacts(contacts);
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
         }
     }
 
 
-    private List<InvestorDto> parseJson(InputStream inputStream) throws IOException {
-        List<InvestorDto> investors;
-
-        try {
-            investors = Arrays.asList(objectMapper.readValue(inputStream, InvestorDto[].class));
-        } catch (Exception e) {
-            investors = new ArrayList<>();
-            try {
-                InvestorDto investor = objectMapper.readValue(inputStream, InvestorDto.class);
-                investors.add(investor);
-            } catch (Exception e2) {
-                logger.error("Failed to parse JSON as investor(s)", e2);
-                throw new IOException("Failed to parse JSON: " + e2.getMessage(), e2);
+    private static boolean hasOddQuotes(String line) {
+        boolean odd = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                odd = !odd;
             }
         }
-
-        logger.info("Parsed {} investors from JSON", investors.size());
-
-        return investors;
+        return odd;
     }
-}
\ No newline at end of file
+}
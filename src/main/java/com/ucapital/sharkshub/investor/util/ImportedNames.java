@@ -0,0 +1,38 @@
+package com.ucapital.sharkshub.investor.util;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Investor names already taken by each running file import job. Every chunk
+ * thread of a job claims names against the same set, so an investor repeated in
+ * the file is inserted once no matter which thread reads each copy.
+ *
+ * <p>Sets are keyed by job execution id rather than held in a job-scoped bean:
+ * chunk threads only carry a step context, so a job-scoped proxy cannot resolve
+ * on them. Registered as a listener on the job, it drops a job's set when the
+ * job ends.
+ */
+public class ImportedNames implements JobExecutionListener {
+
+    private final Map<Long, Set<String>> namesByJob = new ConcurrentHashMap<>();
+
+
+    /**
+     * Claims {@code name} for the job, returning {@code false} if it was already claimed.
+     */
+    public boolean claim(long jobExecutionId, String name) {
+        return namesByJob.computeIfAbsent(jobExecutionId, id -> ConcurrentHashMap.newKeySet()).add(name);
+    }
+
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        namesByJob.remove(jobExecution.getId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.mongodb.WriteConcern;
+import lombok.Builder;
+import lombok.Value;
+
+
+/**
+ * A resolved ingest profile with its limits already capped by the server.
+ */
+@Value
+@Builder
+public class IngestProfile {
+
+    String name;
+    WriteConcern writeConcern;
+    boolean ordered;
+    int batchSize;
+    int concurrency;
+}
@@ -0,0 +1,97 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.mongodb.WriteConcern;
+import com.ucapital.sharkshub.config.IngestProperties;
+import com.ucapital.sharkshub.investor.exception.UnknownIngestProfileException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Resolves the ingest profile named on a bulk request. Profile limits are capped
+ * once at startup by {@code sharkshub.ingest.max-batch-size} and
+ * {@code sharkshub.bulk.write.max-concurrency}, so a request can only choose
+ * among what the server allows.
+ */
+@Component
+public class IngestProfiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(IngestProfiles.class);
+
+    private final Map<String, IngestProfile> profiles;
+    private final String defaultProfile;
+
+    public IngestProfiles(IngestProperties properties,
+                          @Value("${sharkshub.bulk.write.max-concurrency:8}") int maxConcurrency) {
+        Map<String, IngestProperties.Profile> configured = new LinkedHashMap<>(properties.getProfiles());
+        configured.putIfAbsent(properties.getDefaultProfile(), new IngestProperties.Profile());
+
+        Map<String, IngestProfile> resolved = new LinkedHashMap<>();
+        configured.forEach((name, profile) -> {
+            IngestProfile ingestProfile = IngestProfile.builder()
+                    .name(name)
+                    .writeConcern(writeConcern(profile))
+                    .ordered(profile.isOrdered())
+                    .batchSize(Math.min(Math.max(0, profile.getBatchSize()), properties.getMaxBatchSize()))
+                    .concurrency(Math.min(Math.max(1, profile.getConcurrency()), Math.max(1, maxConcurrency)))
+                    .build();
+            resolved.put(name, ingestProfile);
+            logger.info("Ingest profile '{}': {}", name, ingestProfile);
+        });
+
+        this.profiles = Collections.unmodifiableMap(resolved);
+        this.defaultProfile = properties.getDefaultProfile();
+    }
+
+
+    /**
+     * Returns the named profile, or the default one when {@code name} is blank.
+     *
+     * @throws UnknownIngestProfileException if no profile has that name
+     */
+    public IngestProfile resolve(String name) {
+        if (name == null || name.isBlank()) {
+            return profiles.get(defaultProfile);
+        }
+
+        IngestProfile profile = profiles.get(name.trim());
+        if (profile == null) {
+            throw new UnknownIngestProfileException(name, names());
+        }
+        return profile;
+    }
+
+
+    public Set<String> names() {
+        return profiles.keySet();
+    }
+
+
+    private static WriteConcern writeConcern(IngestProperties.Profile profile) {
+        String w = profile.getW() == null ? "majority" : profile.getW().trim();
+        WriteConcern writeConcern;
+        if (w.equalsIgnoreCase("majority")) {
+            writeConcern = WriteConcern.MAJORITY;
+        } else if (w.chars().allMatch(Character::isDigit) && !w.isEmpty()) {
+            writeConcern = new WriteConcern(Integer.parseInt(w));
+        } else {
+            writeConcern = new WriteConcern(w);
+        }
+
+        if (profile.getJournal() != null) {
+            writeConcern = writeConcern.withJournal(profile.getJournal());
+        }
+        if (profile.getWtimeoutMs() > 0) {
+            writeConcern = writeConcern.withWTimeout(profile.getWtimeoutMs(), TimeUnit.MILLISECONDS);
+        }
+        return writeConcern;
+    }
+}
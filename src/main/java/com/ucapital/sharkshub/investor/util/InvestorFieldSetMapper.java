@@ -0,0 +1,356 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.ucapital.sharkshub.investor.dto.AddressDto;
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.FinancialsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.file.LineCallbackHandler;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+
+/**
+ * Maps the batch CSV reader's field sets to {@link InvestorDto}s through a plan
+ * compiled once per file from its header row: each column index maps straight to the
+ * setter it feeds, so a row is one pass over its tokens by position. Columns may come
+ * in any order and any subset of {@link #LEGACY_COLUMNS}; unknown columns are ignored.
+ * A header that names none of the known columns is taken as a plain title row and the
+ * columns are read in the legacy order.
+ *
+ * <p>Values are trimmed and blank ones leave their field unset. Numbers are parsed
+ * without exceptions, an unparsable one leaving its field unset. {@code hqLocation},
+ * {@code financials}, {@code descriptions} and the contact only exist when at least one
+ * of their columns has a value. Lists split on {@code ;} or {@code ,}.
+ *
+ * <p>Register the mapper as the reader's skipped-lines callback so it sees the header.
+ * The compiled plan is immutable and the mapper is safe to share between threads.
+ */
+public class InvestorFieldSetMapper implements FieldSetMapper<InvestorDto>, LineCallbackHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvestorFieldSetMapper.class);
+
+    /**
+     * Column order of files without a recognised header.
+     */
+    public static final List<String> LEGACY_COLUMNS = List.of(
+            "name", "status", "preferredGeographicalAreas", "preferredInvestmentTypes", "sectors", "verticals",
+            "macroAreas", "type", "macroType", "website", "image", "isOld", "creatorEmail", "adminEmail",
+            "completenessScore", "impressions", "hqAddress", "hqCity", "hqState", "hqZip", "hqCountry",
+            "hqPhone", "hqEmail", "hqFax", "hqSn", "invMin", "invMax", "invAvg", "dealMax", "dealMin",
+            "cmpValMin", "cmpValMax", "ebitdaMin", "ebitdaMax", "ebitMin", "ebitMax",
+            "desc_it", "desc_en", "desc_fr", "desc_de", "desc_es", "desc_ru", "desc_ch",
+            "contact_firstName", "contact_lastName", "contact_email", "contact_phone",
+            "contact_mobile", "contact_fax", "contact_role", "contact_orderNum");
+
+    private static final Map<String, ColumnBinding> COLUMNS = columns();
+    private static final ColumnBinding[] LEGACY_PLAN = plan(LEGACY_COLUMNS.toArray(String[]::new));
+
+    private final DelimitedLineTokenizer headerTokenizer = new DelimitedLineTokenizer();
+    private volatile ColumnBinding[] plan = LEGACY_PLAN;
+
+    public InvestorFieldSetMapper() {
+        headerTokenizer.setQuoteCharacter('"');
+        headerTokenizer.setStrict(false);
+    }
+
+
+    /**
+     * Compiles the plan from the header row.
+     */
+    @Override
+    public void handleLine(String header) {
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        String[] names = headerTokenizer.tokenize(header).getValues();
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].trim();
+        }
+
+        if (Arrays.stream(names).noneMatch(COLUMNS::containsKey)) {
+            logger.warn("CSV header names none of the known columns, reading columns in the legacy order");
+            plan = LEGACY_PLAN;
+            return;
+        }
+        plan = plan(names);
+    }
+
+
+    @Override
+    public InvestorDto mapFieldSet(FieldSet fieldSet) {
+        ColumnBinding[] bindings = plan;
+        Row row = new Row();
+
+        int columns = Math.min(bindings.length, fieldSet.getFieldCount());
+        for (int column = 0; column < columns; column++) {
+            ColumnBinding binding = bindings[column];
+            if (binding == null) {
+                continue;
+            }
+            String value = trimToNull(fieldSet.readRawString(column));
+            if (value != null) {
+                binding.bind(row, value);
+            }
+        }
+
+        return row.finish();
+    }
+
+
+    private static ColumnBinding[] plan(String[] names) {
+        ColumnBinding[] bindings = new ColumnBinding[names.length];
+        for (int column = 0; column < names.length; column++) {
+            bindings[column] = COLUMNS.get(names[column]);
+        }
+        return bindings;
+    }
+
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start == end ? null : value.substring(start, end);
+    }
+
+
+    private static List<String> splitToList(String value) {
+        List<String> items = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == ';' || value.charAt(i) == ',') {
+                String item = trimToNull(value.substring(start, i));
+                if (item != null) {
+                    items.add(item);
+                }
+                start = i + 1;
+            }
+        }
+        return items;
+    }
+
+
+    /**
+     * Parses a plain decimal such as {@code -12}, {@code 1000.50} or {@code 1.5e6},
+     * returning {@code null} for anything else instead of throwing.
+     */
+    static BigDecimal parseBigDecimal(String value) {
+        int length = value.length();
+        int i = 0;
+        if (value.charAt(i) == '-' || value.charAt(i) == '+') {
+            i++;
+        }
+
+        int digits = 0;
+        boolean point = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+
+        if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            for (; i < length && value.charAt(i) >= '0' && value.charAt(i) <= '9'; i++) {
+                exponentDigits++;
+            }
+            // Nine digits keep the exponent inside the int range BigDecimal requires
+            if (exponentDigits == 0 || exponentDigits > 9) {
+                return null;
+            }
+        }
+
+        return i == length ? new BigDecimal(value) : null;
+    }
+
+
+    @FunctionalInterface
+    private interface ColumnBinding {
+        void bind(Row row, String value);
+    }
+
+
+    /**
+     * One row's investor and its nested objects, created on the first value they receive.
+     */
+    private static final class Row {
+
+        private final InvestorDto investor = new InvestorDto();
+        private AddressDto hqLocation;
+        private FinancialsDto financials;
+        private InvDescriptionsDto descriptions;
+        private ContactsDto contact;
+
+        AddressDto hqLocation() {
+            if (hqLocation == null) {
+                hqLocation = new AddressDto();
+            }
+            return hqLocation;
+        }
+
+        FinancialsDto financials() {
+            if (financials == null) {
+                financials = new FinancialsDto();
+            }
+            return financials;
+        }
+
+        InvDescriptionsDto descriptions() {
+            if (descriptions == null) {
+                descriptions = new InvDescriptionsDto();
+            }
+            return descriptions;
+        }
+
+        ContactsDto contact() {
+            if (contact == null) {
+                contact = new ContactsDto();
+            }
+            return contact;
+        }
+
+        InvestorDto finish() {
+            investor.setHqLocation(hqLocation);
+            investor.setFinancials(financials);
+            investor.setDescriptions(descriptions);
+            if (contact != null) {
+                Set<ContactsDto> contacts = new HashSet<>();
+                contacts.add(contact);
+                investor.setContacts(contacts);
+            }
+            return investor;
+        }
+    }
+
+
+    private static Map<String, ColumnBinding> columns() {
+        Map<String, ColumnBinding> columns = new HashMap<>();
+
+        columns.put("name", investor(InvestorDto::setName));
+        columns.put("status", investor(InvestorDto::setStatus));
+        columns.put("type", investor(InvestorDto::setType));
+        columns.put("macroType", investor(InvestorDto::setMacroType));
+        columns.put("website", investor(InvestorDto::setWebsite));
+        columns.put("image", investor(InvestorDto::setImage));
+        columns.put("creatorEmail", investor(InvestorDto::setCreatorEmail));
+        columns.put("adminEmail", investor(InvestorDto::setAdminEmail));
+        columns.put("isOld", (row, value) -> row.investor.setIsOld("true".equals(value)));
+        columns.put("completenessScore", integer(InvestorDto::setCompletenessScore));
+        columns.put("impressions", integer(InvestorDto::setImpressions));
+        columns.put("preferredGeographicalAreas", list(InvestorDto::setPreferredGeographicalAreas));
+        columns.put("preferredInvestmentTypes", list(InvestorDto::setPreferredInvestmentTypes));
+        columns.put("sectors", list(InvestorDto::setSectors));
+        columns.put("verticals", list(InvestorDto::setVerticals));
+        columns.put("macroAreas", list(InvestorDto::setMacroAreas));
+
+        columns.put("hqAddress", (row, value) -> row.hqLocation().setAddress(value));
+        columns.put("hqCity", (row, value) -> row.hqLocation().setCity(value));
+        columns.put("hqState", (row, value) -> row.hqLocation().setState(value));
+        columns.put("hqZip", (row, value) -> row.hqLocation().setZip(value));
+        columns.put("hqCountry", (row, value) -> row.hqLocation().setCountry(value));
+        columns.put("hqPhone", (row, value) -> row.hqLocation().setPhone(value));
+        columns.put("hqEmail", (row, value) -> row.hqLocation().setEmail(value));
+        columns.put("hqFax", (row, value) -> row.hqLocation().setFax(value));
+        columns.put("hqSn", (row, value) -> row.hqLocation().setSn(value));
+
+        columns.put("invMin", financial(FinancialsDto::setInvMin));
+        columns.put("invMax", financial(FinancialsDto::setInvMax));
+        columns.put("invAvg", financial(FinancialsDto::setInvAvg));
+        columns.put("dealMax", financial(FinancialsDto::setDealMax));
+        columns.put("dealMin", financial(FinancialsDto::setDealMin));
+        columns.put("cmpValMin", financial(FinancialsDto::setCmpValMin));
+        columns.put("cmpValMax", financial(FinancialsDto::setCmpValMax));
+        columns.put("ebitdaMin", financial(FinancialsDto::setEbitdaMin));
+        columns.put("ebitdaMax", financial(FinancialsDto::setEbitdaMax));
+        columns.put("ebitMin", financial(FinancialsDto::setEbitMin));
+        columns.put("ebitMax", financial(FinancialsDto::setEbitMax));
+
+        columns.put("desc_it", (row, value) -> row.descriptions().setIt(value));
+        columns.put("desc_en", (row, value) -> row.descriptions().setEn(value));
+        columns.put("desc_fr", (row, value) -> row.descriptions().setFr(value));
+        columns.put("desc_de", (row, value) -> row.descriptions().setDe(value));
+        columns.put("desc_es", (row, value) -> row.descriptions().setEs(value));
+        columns.put("desc_ru", (row, value) -> row.descriptions().setRu(value));
+        columns.put("desc_ch", (row, value) -> row.descriptions().setCh(value));
+
+        columns.put("contact_firstName", (row, value) -> row.contact().setFirstName(value));
+        columns.put("contact_lastName", (row, value) -> row.contact().setLastName(value));
+        columns.put("contact_email", (row, value) -> row.contact().setEmail(value));
+        columns.put("contact_phone", (row, value) -> row.contact().setPhone(value));
+        columns.put("contact_mobile", (row, value) -> row.contact().setMobile(value));
+        columns.put("contact_fax", (row, value) -> row.contact().setFax(value));
+        columns.put("contact_role", (row, value) -> row.contact().setRole(value));
+        columns.put("contact_orderNum", (row, value) -> {
+            Integer orderNum = CsvRowBinder.parseInt(value, 0, value.length());
+            if (orderNum != null) {
+                row.contact().setOrderNum(orderNum);
+            }
+        });
+
+        return columns;
+    }
+
+
+    private static ColumnBinding investor(BiConsumer<InvestorDto, String> setter) {
+        return (row, value) -> setter.accept(row.investor, value);
+    }
+
+
+    private static ColumnBinding integer(BiConsumer<InvestorDto, Integer> setter) {
+        return (row, value) -> {
+            Integer parsed = CsvRowBinder.parseInt(value, 0, value.length());
+            if (parsed != null) {
+                setter.accept(row.investor, parsed);
+            }
+        };
+    }
+
+
+    private static ColumnBinding list(BiConsumer<InvestorDto, List<String>> setter) {
+        return (row, value) -> setter.accept(row.investor, splitToList(value));
+    }
+
+
+    private static ColumnBinding financial(BiConsumer<FinancialsDto, BigDecimal> setter) {
+        return (row, value) -> {
+            BigDecimal parsed = parseBigDecimal(value);
+            if (parsed != null) {
+                setter.accept(row.financials(), parsed);
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Processor of the file import step. It drops rows without a name and, for plain
+ * inserts, rows whose name the job already claimed or that already exist in the
+ * collection. Upsert modes resolve existing names in the writer, so they only get
+ * the blank-name check.
+ *
+ * <p>Registered as an {@link ItemReadListener} on the same step, it collects the
+ * names of a chunk as they are read and resolves them all with one {@code $in}
+ * lookup on the {@code name} index when the chunk's first item is processed,
+ * instead of one existence query per item. Dropped rows are filtered, so they
+ * show up in the step's filter count. A chunk is read in full before any of it is
+ * processed, and on one thread, so the collected names are kept per thread. As a
+ * {@link ChunkListener} it drops them when the chunk ends, so pooled threads do not
+ * hold on to a chunk of names after the step.
+ */
+public class InvestorImportProcessor
+        implements ItemProcessor<InvestorDto, InvestorDto>, ItemReadListener<InvestorDto>, ChunkListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvestorImportProcessor.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final String collection;
+    private final ImportedNames importedNames;
+    private final long jobExecutionId;
+    private final boolean insert;
+    private final ThreadLocal<Set<String>> pendingNames = ThreadLocal.withInitial(HashSet::new);
+    private final ThreadLocal<Set<String>> existingNames = ThreadLocal.withInitial(Set::of);
+
+    public InvestorImportProcessor(MongoTemplate mongoTemplate, String collection, ImportedNames importedNames,
+                                   long jobExecutionId, WriteMode mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = collection;
+        this.importedNames = importedNames;
+        this.jobExecutionId = jobExecutionId;
+        this.insert = !mode.isUpsert();
+    }
+
+
+    @Override
+    public void afterRead(InvestorDto item) {
+        String name = name(item);
+        if (insert && name != null) {
+            pendingNames.get().add(name);
+        }
+    }
+
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        clear();
+    }
+
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        clear();
+    }
+
+
+    @Override
+    public InvestorDto process(InvestorDto item) {
+        String name = name(item);
+        if (name == null) {
+            return null;
+        }
+        if (!insert) {
+            return item;
+        }
+
+        if (!importedNames.claim(jobExecutionId, name)) {
+            logger.debug("Skipping duplicate in file: {}", name);
+            return null;
+        }
+        if (existingNames().contains(name)) {
+            logger.debug("Skipping - already in database: {}", name);
+            return null;
+        }
+        return item;
+    }
+
+
+    /**
+     * Names of the current chunk that are already stored, looked up once for the
+     * names read since the last lookup. The step keeps processed items across a
+     * rollback, so a chunk is not looked up again when it is retried.
+     */
+    private Set<String> existingNames() {
+        Set<String> pending = pendingNames.get();
+        if (!pending.isEmpty()) {
+            Query query = new Query(Criteria.where("name").in(List.copyOf(pending)));
+            existingNames.set(new HashSet<>(mongoTemplate.findDistinct(query, "name", collection, String.class)));
+            pending.clear();
+        }
+        return existingNames.get();
+    }
+
+    private void clear() {
+        pendingNames.remove();
+        existingNames.remove();
+    }
+
+    private static String name(InvestorDto item) {
+        if (item == null || item.getName() == null || item.getName().trim().isEmpty()) {
+            return null;
+        }
+        return item.getName().trim();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.data.MongoItemWriter;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * {@link MongoItemWriter} for the file import job that upserts by investor name
+ * according to a {@link WriteMode} instead of saving by id. The chunk is still
+ * buffered until the step transaction commits, then sent as one unordered bulk write,
+ * with only the last occurrence of each name in the chunk.
+ */
+public class InvestorUpsertItemWriter extends MongoItemWriter<InvestorDto> {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvestorUpsertItemWriter.class);
+
+    private final MongoTemplate template;
+    private final WriteMode mode;
+    private final WriteConcern writeConcern;
+
+    public InvestorUpsertItemWriter(MongoTemplate template, String collection, WriteMode mode,
+                                    WriteConcern writeConcern) {
+        this.template = template;
+        this.mode = mode;
+        this.writeConcern = writeConcern;
+        setTemplate(template);
+        setCollection(collection);
+    }
+
+
+    @Override
+    protected void doWrite(Chunk<? extends InvestorDto> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Last occurrence of a name wins: two upserts of one missing name in the same unordered
+        // write race, and one could fail on the unique name index
+        Map<String, InvestorDto> lastByName = new LinkedHashMap<>();
+        for (InvestorDto dto : chunk) {
+            if (lastByName.put(dto.getName(), dto) != null) {
+                logger.warn("Investor '{}' occurs more than once in a chunk; keeping its last occurrence",
+                        dto.getName());
+            }
+        }
+
+        CodecRegistry codecRegistry = template.getDb().getCodecRegistry();
+        List<WriteModel<BsonDocument>> models = new ArrayList<>(lastByName.size());
+        for (InvestorDto dto : lastByName.values()) {
+            Document document = new Document();
+            template.getConverter().write(dto, document);
+            models.add(UpsertModels.toWriteModel(mode, document.toBsonDocument(BsonDocument.class, codecRegistry)));
+        }
+
+        MongoCollection<BsonDocument> collection = template.getCollection(getCollection())
+                .withDocumentClass(BsonDocument.class);
+        if (writeConcern != null) {
+            collection = collection.withWriteConcern(writeConcern);
+        }
+
+        BulkWriteResult result = collection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+        logger.debug("Bulk {} of {} investors: {} upserted, {} matched, {} modified",
+                mode, chunk.size(), result.getUpserts().size(), result.getMatchedCount(), result.getModifiedCount());
+    }
+}
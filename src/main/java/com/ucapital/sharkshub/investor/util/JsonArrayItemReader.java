@@ -1,31 +1,52 @@
 package com.ucapital.sharkshub.investor.util;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ucapital.sharkshub.investor.dto.InvestorDto;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.NonTransientResourceException;
-import org.springframework.batch.item.ParseException;
-import org.springframework.batch.item.UnexpectedInputException;
+import org.springframework.batch.core.step.skip.NonSkippableReadException;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.core.io.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Iterator;
-import java.util.List;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 
 /**
- * Custom ItemReader that can handle both JSON arrays and single JSON objects
+ * Batch reader over a JSON file holding either an array of investors or a single
+ * investor. Elements are streamed one at a time through a {@link JsonArrayStreamReader},
+ * so memory stays flat however large the file is.
+ *
+ * <p>JSON {@code null} elements are skipped. An element that cannot be bound is thrown
+ * as its {@link JsonMappingException} after being consumed, so the step's skip policy
+ * can move past it; malformed JSON cannot be read past and fails the step.
+ *
+ * <p>On every commit the number of elements consumed and the byte offset just past the
+ * last of them are saved in the step's {@link ExecutionContext}. A restarted step skips
+ * straight to that offset and carries on parsing from there, instead of re-reading every
+ * element before it.
  */
-public class JsonArrayItemReader implements ItemReader<InvestorDto> {
+public class JsonArrayItemReader implements ItemStreamReader<InvestorDto> {
 
     private static final Logger logger = LoggerFactory.getLogger(JsonArrayItemReader.class);
 
+    static final String READ_COUNT_KEY = "JsonArrayItemReader.read.count";
+    static final String BYTE_OFFSET_KEY = "JsonArrayItemReader.byte.offset";
+
+    private static final byte[] ARRAY_START = {'['};
+
     private final ObjectMapper objectMapper;
     private Resource resource;
-    private Iterator<InvestorDto> iterator;
-    private boolean initialized = false;
+    private JsonArrayStreamReader<InvestorDto> reader;
+    // Where the current reader's input starts in the file, and how many elements came before it
+    private long baseOffset;
+    private long baseCount;
 
     public JsonArrayItemReader(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -36,49 +57,136 @@ public class JsonArrayItemReader implements ItemReader<InvestorDto> {
     }
 
     @Override
-    public InvestorDto read() throws Exception, UnexpectedInputException, ParseException, NonTransientResourceException {
-        if (!initialized) {
-            initialize();
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            if (executionContext.containsKey(BYTE_OFFSET_KEY)) {
+                resumeReader(executionContext.getLong(READ_COUNT_KEY, 0), executionContext.getLong(BYTE_OFFSET_KEY));
+            } else {
+                openReader();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open JSON resource " + resource, e);
         }
+    }
 
-        if (iterator != null && iterator.hasNext()) {
-            return iterator.next();
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // Until an element is consumed a restart simply starts over
+        if (reader == null || baseCount + reader.index() + 1 == 0) {
+            return;
         }
+        executionContext.putLong(READ_COUNT_KEY, baseCount + reader.index() + 1);
+        executionContext.putLong(BYTE_OFFSET_KEY, baseOffset + reader.byteOffset());
+    }
 
+    @Override
+    public InvestorDto read() throws Exception {
+        if (reader == null) {
+            openReader();
+        }
+
+        try {
+            while (reader.hasNext()) {
+                InvestorDto investor = reader.next();
+                if (investor != null) {
+                    return investor;
+                }
+            }
+        } catch (JsonMappingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new NonSkippableReadException("Unreadable JSON after " + (baseCount + reader.index() + 1)
+                    + " elements of " + resource.getFilename() + ": " + message(e), e);
+        }
+
+        logger.info("Finished reading {} JSON elements from {}", baseCount + reader.index() + 1,
+                resource.getFilename());
         return null;
     }
 
-    private void initialize() throws IOException {
+    @Override
+    public void close() throws ItemStreamException {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close JSON resource " + resource, e);
+        } finally {
+            reader = null;
+            baseOffset = 0;
+            baseCount = 0;
+        }
+    }
+
+    private void openReader() throws IOException {
         if (resource == null || !resource.exists()) {
             throw new IllegalStateException("Resource must be set and exist");
         }
+        if (reader != null) {
+            return;
+        }
 
-        logger.info("Initializing JsonArrayItemReader with resource: {}", resource.getFilename());
+        logger.info("Streaming JSON investors from resource: {}", resource.getFilename());
+        reader = JsonArrayStreamReader.arrayOrObject(objectMapper, resource.getInputStream(), InvestorDto.class);
+    }
+
+    /**
+     * Reopens the file past the first {@code count} elements, which end at
+     * {@code offset}. What follows is either a comma and the remaining elements or the
+     * end of the array, so the comma is swapped for a {@code [} and the rest is parsed
+     * as a fresh array.
+     */
+    private void resumeReader(long count, long offset) throws IOException {
+        if (resource == null || !resource.exists()) {
+            throw new IllegalStateException("Resource must be set and exist");
+        }
 
+        InputStream input = new BufferedInputStream(resource.getInputStream());
         try {
+            skip(input, offset);
+            long position = offset;
+            int next;
+            while ((next = input.read()) != -1 && Character.isWhitespace(next)) {
+                position++;
+            }
+
+            if (next == ',') {
+                input = new SequenceInputStream(new ByteArrayInputStream(ARRAY_START), input);
+            } else {
+                // Nothing left after the last checkpointed element
+                input.close();
+                input = new ByteArrayInputStream(new byte[]{'[', ']'});
+            }
 
-            List<InvestorDto> investors = objectMapper.readValue(
-                    resource.getInputStream(),
-                    new TypeReference<List<InvestorDto>>() {}
-            );
-            iterator = investors.iterator();
-            logger.info("Successfully parsed JSON array with {} investors", investors.size());
-        } catch (Exception e) {
-            logger.warn("Failed to parse as JSON array, trying single object: {}", e.getMessage());
-            try {
-
-                InvestorDto singleInvestor = objectMapper.readValue(
-                        resource.getInputStream(),
-                        InvestorDto.class
-                );
-                iterator = List.of(singleInvestor).iterator();
-                logger.info("Successfully parsed single JSON object");
-            } catch (Exception e2) {
-                logger.error("Failed to parse JSON as either array or single object", e2);
-                throw new IOException("Failed to parse JSON as either array or single object", e2);
+            reader = JsonArrayStreamReader.arrayOrObject(objectMapper, input, InvestorDto.class);
+            baseOffset = position;
+            baseCount = count;
+            logger.info("Resuming JSON investors from {} after {} elements at byte {}",
+                    resource.getFilename(), count, offset);
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    // Stops quietly at end of input, which then reads as nothing left
+    private static void skip(InputStream input, long bytes) throws IOException {
+        long remaining = bytes;
+        while (remaining > 0) {
+            long skipped = input.skip(remaining);
+            if (skipped <= 0) {
+                if (input.read() == -1) {
+                    return;
+                }
+                skipped = 1;
             }
+            remaining -= skipped;
         }
+    }
 
-        initialized = true;
+    private static String message(IOException e) {
+        return e instanceof JsonParseException parseException ? parseException.getOriginalMessage() : e.getMessage();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Reads a top-level JSON array one element at a time with a {@link JsonParser},
+ * so only the current element is ever held in memory.
+ *
+ * <p>An element that is well-formed JSON but cannot be bound to the target type
+ * is consumed in full before its {@link JsonMappingException} is thrown, leaving
+ * the reader on the next element. Malformed JSON surfaces as a
+ * {@link JsonParseException} and ends the stream.
+ *
+ * <p>Readers created with {@link #arrayOrObject} also accept a single top-level
+ * object, read as a one-element stream.
+ */
+public class JsonArrayStreamReader<T> implements StreamingElementReader<T> {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final Class<T> type;
+    private final boolean allowSingleObject;
+    private boolean started;
+    private boolean singleObject;
+    private JsonToken peeked;
+    private int index = -1;
+
+    public JsonArrayStreamReader(ObjectMapper objectMapper, InputStream inputStream, Class<T> type)
+            throws IOException {
+        this(objectMapper, inputStream, type, false);
+    }
+
+    private JsonArrayStreamReader(ObjectMapper objectMapper, InputStream inputStream, Class<T> type,
+                                  boolean allowSingleObject) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.createParser(inputStream);
+        this.type = type;
+        this.allowSingleObject = allowSingleObject;
+    }
+
+
+    public static <T> JsonArrayStreamReader<T> arrayOrObject(ObjectMapper objectMapper, InputStream inputStream,
+                                                             Class<T> type) throws IOException {
+        return new JsonArrayStreamReader<>(objectMapper, inputStream, type, true);
+    }
+
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (!started) {
+            started = true;
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.START_OBJECT && allowSingleObject) {
+                singleObject = true;
+                peeked = first;
+            } else if (first != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, allowSingleObject
+                        ? "Expected a top-level JSON array or object"
+                        : "Expected a top-level JSON array");
+            }
+        }
+        if (singleObject) {
+            return index < 0;
+        }
+        if (peeked == null) {
+            peeked = parser.nextToken();
+            if (peeked == null) {
+                throw new JsonParseException(parser, "Unexpected end of input inside JSON array");
+            }
+        }
+        return peeked != JsonToken.END_ARRAY;
+    }
+
+
+    @Override
+    public T next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more elements in JSON input");
+        }
+        peeked = null;
+        index++;
+
+        // Reading a tree first consumes the whole element even when binding fails
+        JsonNode node = parser.readValueAsTree();
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        return objectMapper.treeToValue(node, type);
+    }
+
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+
+    /**
+     * Bytes of input consumed so far. Between elements this is the position just past
+     * the element most recently read.
+     */
+    public long byteOffset() {
+        return parser.currentLocation().getByteOffset();
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
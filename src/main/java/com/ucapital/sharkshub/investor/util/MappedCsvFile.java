@@ -0,0 +1,137 @@
+package com.ucapital.sharkshub.investor.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+
+/**
+ * A stored CSV file mapped into memory, with the record boundary search shared by
+ * {@link MappedCsvReader} and {@link CsvRangePartitioner}, so the sync and batch
+ * imports split a file at the same places.
+ *
+ * <p>A record ends at the first newline outside quotes. Quote parity at any offset is
+ * the parity of all quotes before it, which {@link #quoteParityAtCuts} takes from
+ * per-range counts; an escaped {@code ""} counts twice and leaves it unchanged. A
+ * {@code \r} before the newline stays with its record for the reader to drop.
+ */
+final class MappedCsvFile {
+
+    // A single MappedByteBuffer cannot exceed 2GB, so larger files are mapped in windows
+    private static final int WINDOW_SHIFT = 30;
+    private static final long WINDOW_MASK = (1L << WINDOW_SHIFT) - 1;
+    // Quotes are counted a block at a time, so a range may be larger than an array
+    private static final int COUNT_BLOCK_BYTES = 1 << 20;
+
+    private final MappedByteBuffer[] windows;
+    private final long length;
+
+    private MappedCsvFile(MappedByteBuffer[] windows, long length) {
+        this.windows = windows;
+        this.length = length;
+    }
+
+
+    static MappedCsvFile map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            MappedByteBuffer[] windows = new MappedByteBuffer[(int) ((length + WINDOW_MASK) >>> WINDOW_SHIFT)];
+            for (int i = 0; i < windows.length; i++) {
+                long offset = (long) i << WINDOW_SHIFT;
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(1L << WINDOW_SHIFT, length - offset));
+            }
+            return new MappedCsvFile(windows, length);
+        }
+    }
+
+
+    long length() {
+        return length;
+    }
+
+
+    /**
+     * Whether each of the ascending offsets in {@code cuts}, the first of which is 0,
+     * falls inside a quoted field, from quote counts taken per range on
+     * {@code executor}.
+     */
+    boolean[] quoteParityAtCuts(long[] cuts, Executor executor) {
+        List<CompletableFuture<Long>> counts = new ArrayList<>(cuts.length - 1);
+        for (int range = 0; range < cuts.length - 1; range++) {
+            long from = cuts[range];
+            long to = cuts[range + 1];
+            counts.add(CompletableFuture.supplyAsync(() -> countQuotes(from, to), executor));
+        }
+
+        boolean[] quoted = new boolean[cuts.length];
+        long quotes = 0;
+        for (int range = 0; range < counts.size(); range++) {
+            try {
+                quotes += counts.get(range).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            quoted[range + 1] = (quotes & 1) == 1;
+        }
+        return quoted;
+    }
+
+
+    /**
+     * Position just after the first newline at or past {@code from} that is outside
+     * quotes, or the end of the file; {@code quoted} is the parity at {@code from}.
+     * Ranges cut with this at both ends hold each record exactly once.
+     */
+    long recordStart(long from, boolean quoted) {
+        for (long i = from; i < length; i++) {
+            byte b = byteAt(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+
+
+    byte[] read(long from, long to) {
+        byte[] bytes = new byte[Math.toIntExact(to - from)];
+        int copied = 0;
+        while (copied < bytes.length) {
+            long offset = from + copied;
+            MappedByteBuffer window = windows[(int) (offset >>> WINDOW_SHIFT)];
+            int windowOffset = (int) (offset & WINDOW_MASK);
+            int length = Math.min(bytes.length - copied, window.capacity() - windowOffset);
+            window.get(windowOffset, bytes, copied, length);
+            copied += length;
+        }
+        return bytes;
+    }
+
+
+    private long countQuotes(long from, long to) {
+        long quotes = 0;
+        for (long block = from; block < to; block += COUNT_BLOCK_BYTES) {
+            for (byte b : read(block, Math.min(to, block + COUNT_BLOCK_BYTES))) {
+                if (b == '"') {
+                    quotes++;
+                }
+            }
+        }
+        return quotes;
+    }
+
+
+    private byte byteAt(long offset) {
+        return windows[(int) (offset >>> WINDOW_SHIFT)].get((int) (offset & WINDOW_MASK));
+    }
+}
@@ -0,0 +1,216 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Reads a stored CSV file by memory-mapping it and parsing fixed-size byte segments in
+ * parallel, while still yielding rows in file order with the same indexes as a
+ * line-by-line read.
+ *
+ * <p>Segment cuts are moved to record boundaries without a sequential pre-pass: each
+ * segment's quotes are counted in parallel, a prefix sum gives the quote parity at
+ * every cut, and a record then starts after the first newline past the cut that is
+ * outside quotes, as found by {@link MappedCsvFile}. Quoted fields may therefore
+ * contain newlines. Only
+ * {@code parallelism} segments are parsed ahead of the consumer, so memory follows
+ * the segment size rather than the file size.
+ *
+ * <p>Blank records are skipped, a trailing {@code \r} is dropped, and rows are bound
+ * through a {@link CsvRowBinder} compiled from the header row.
+ */
+public final class MappedCsvReader implements StreamingElementReader<InvestorDto> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedCsvReader.class);
+
+    public static final int DEFAULT_SEGMENT_BYTES = 4 << 20;
+
+    private final MappedCsvFile csv;
+    private final long[] cuts;
+    private final boolean[] quotedAtCut;
+    private final String[] headers;
+    private final Executor executor;
+    private final int lookahead;
+
+    private final Deque<CompletableFuture<List<InvestorDto>>> inFlight = new ArrayDeque<>();
+    private int nextSegment;
+    private List<InvestorDto> current = List.of();
+    private int position;
+    private int index = -1;
+
+    public MappedCsvReader(Path file, Executor executor, int parallelism, int segmentBytes) throws IOException {
+        this.executor = executor;
+        this.lookahead = Math.max(1, parallelism);
+
+        csv = MappedCsvFile.map(file);
+        long length = csv.length();
+        if (length == 0) {
+            throw new IOException("CSV file is empty");
+        }
+
+        int segments = (int) Math.max(1, (length + segmentBytes - 1) / segmentBytes);
+        cuts = new long[segments + 1];
+        for (int i = 0; i <= segments; i++) {
+            cuts[i] = Math.min(length, (long) i * segmentBytes);
+        }
+        quotedAtCut = csv.quoteParityAtCuts(cuts, executor);
+        headers = readHeaders();
+
+        logger.info("Mapped {} bytes of CSV into {} segments, parsing {} ahead", length, segments, lookahead);
+    }
+
+
+    @Override
+    public boolean hasNext() throws IOException {
+        while (position == current.size()) {
+            while (inFlight.size() < lookahead && nextSegment < cuts.length - 1) {
+                int segment = nextSegment++;
+                inFlight.add(CompletableFuture.supplyAsync(() -> parseSegment(segment), executor));
+            }
+            if (inFlight.isEmpty()) {
+                return false;
+            }
+            current = await(inFlight.poll());
+            position = 0;
+        }
+        return true;
+    }
+
+
+    @Override
+    public InvestorDto next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in CSV file");
+        }
+        index++;
+        // Released here so a consumed segment is only held by the chunk it went into
+        return current.set(position++, null);
+    }
+
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+
+    @Override
+    public void close() {
+        inFlight.forEach(segment -> segment.cancel(false));
+        inFlight.clear();
+        nextSegment = cuts.length - 1;
+        current = List.of();
+        position = 0;
+    }
+
+
+    private String[] readHeaders() {
+        byte[] bytes = csv.read(0, csv.recordStart(0, false));
+        int headerLength = bytes.length;
+        if (headerLength > 0 && bytes[headerLength - 1] == '\n') {
+            headerLength--;
+        }
+        if (headerLength > 0 && bytes[headerLength - 1] == '\r') {
+            headerLength--;
+        }
+
+        String[] names = new String(bytes, 0, headerLength, StandardCharsets.UTF_8).split(",");
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].trim();
+        }
+        return names;
+    }
+
+
+    /**
+     * Parses the records that start inside segment {@code segment}. The first segment's
+     * range starts after the header row. The range is copied out of the map in one bulk
+     * read, so each record decodes straight from that array.
+     */
+    private List<InvestorDto> parseSegment(int segment) {
+        // Every segment finds its start and end the same way, so each record belongs to exactly one
+        long start = csv.recordStart(cuts[segment], quotedAtCut[segment]);
+        long end = csv.recordStart(cuts[segment + 1], quotedAtCut[segment + 1]);
+        List<InvestorDto> rows = new ArrayList<>();
+        if (start >= end) {
+            return rows;
+        }
+
+        CsvRowBinder binder = CsvRowBinder.compile(headers);
+        byte[] bytes = csv.read(start, end);
+        int recordStart = 0;
+        boolean quoted = false;
+
+        for (int i = 0; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                bindRecord(binder, bytes, recordStart, i, start, rows);
+                recordStart = i + 1;
+            }
+        }
+        bindRecord(binder, bytes, recordStart, bytes.length, start, rows);
+
+        return rows;
+    }
+
+
+    private void bindRecord(CsvRowBinder binder, byte[] bytes, int from, int to, long rangeOffset,
+                            List<InvestorDto> rows) {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        if (isBlank(bytes, from, to)) {
+            return;
+        }
+
+        rows.add(binder.bind(new String(bytes, from, to - from, StandardCharsets.UTF_8)));
+
+        if (binder.valueCount() != binder.columnCount()) {
+            logger.warn("Row at byte {} has {} values, expected {} (headers). Row will be processed with available data.",
+                    rangeOffset + from, binder.valueCount(), binder.columnCount());
+        }
+    }
+
+
+    // Same test as String.trim().isEmpty(); UTF-8 continuation bytes are never <= ' '
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((bytes[i] & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Reads newline-delimited JSON, one element per line. Blank lines are skipped and
+ * do not count as elements. Every line is parsed on its own, so a malformed line
+ * is reported like a binding failure and reading continues with the next line.
+ */
+public class NdjsonStreamReader<T> implements StreamingElementReader<T> {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedReader reader;
+    private final Class<T> type;
+    private String nextLine;
+    private int index = -1;
+
+    public NdjsonStreamReader(ObjectMapper objectMapper, InputStream inputStream, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.type = type;
+    }
+
+
+    @Override
+    public boolean hasNext() throws IOException {
+        while (nextLine == null) {
+            String line = reader.readLine();
+            if (line == null) {
+                return false;
+            }
+            if (!line.isBlank()) {
+                nextLine = line;
+            }
+        }
+        return true;
+    }
+
+
+    @Override
+    public T next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more lines in NDJSON stream");
+        }
+        String line = nextLine;
+        nextLine = null;
+        index++;
+
+        try {
+            return objectMapper.readValue(line, type);
+        } catch (JsonParseException e) {
+            // A bad line does not corrupt the lines after it
+            throw new JsonMappingException(null, "Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ucapital.sharkshub.investor.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+
+/**
+ * Pull-style reader over a streamed payload that yields one element at a time.
+ *
+ * <p>{@link #next()} throws a {@link com.fasterxml.jackson.databind.JsonMappingException}
+ * for an element that is well-formed but cannot be bound; the element is consumed
+ * and reading can continue. A {@link com.fasterxml.jackson.core.JsonParseException}
+ * means the payload itself is malformed and no further elements can be read.
+ */
+public interface StreamingElementReader<T> extends Closeable {
+
+    boolean hasNext() throws IOException;
+
+    /**
+     * Returns the next element, which may be {@code null} for a JSON {@code null}.
+     */
+    T next() throws IOException;
+
+    /**
+     * Zero-based index of the element most recently read, or -1 before the first.
+     */
+    int index();
+}
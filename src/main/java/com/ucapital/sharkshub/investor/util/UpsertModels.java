@@ -0,0 +1,137 @@
+package com.ucapital.sharkshub.investor.util;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.bulk.BulkWriteResult;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Builds the bulk write model for an encoded investor under a {@link WriteMode}.
+ * Every mode except {@link WriteMode#INSERT} is an upsert filtered on {@code name},
+ * so a refresh needs no separate existence lookup.
+ */
+public final class UpsertModels {
+
+    private static final String ID = "_id";
+    private static final String NAME = "name";
+    private static final String CREATED_AT = "createdAt";
+
+    private static final UpdateOptions UPDATE_UPSERT = new UpdateOptions().upsert(true);
+
+    private UpsertModels() {
+    }
+
+
+    /**
+     * For {@link WriteMode#REPLACE} the document should only carry an {@code _id} when the
+     * caller supplied one, since the server rejects a replacement that changes it. The
+     * replacement keeps the stored {@code createdAt}, so a refresh does not reset it.
+     */
+    public static <T extends BsonDocument> WriteModel<T> toWriteModel(WriteMode mode, T document) {
+        return switch (mode) {
+            case INSERT -> new InsertOneModel<>(document);
+            case REPLACE -> new UpdateOneModel<>(filter(document), List.of(replaceStage(document)), UPDATE_UPSERT);
+            case MERGE -> new UpdateOneModel<>(filter(document), mergeUpdate(document), UPDATE_UPSERT);
+            case INSERT_IF_ABSENT -> new UpdateOneModel<>(filter(document),
+                    new BsonDocument("$setOnInsert", document), UPDATE_UPSERT);
+        };
+    }
+
+
+    /**
+     * Number of documents a bulk write inserted, upserted or matched.
+     */
+    public static int acknowledged(BulkWriteResult result) {
+        return result.getInsertedCount() + result.getMatchedCount() + result.getUpserts().size();
+    }
+
+
+    private static Bson filter(BsonDocument document) {
+        return Filters.eq(NAME, document.get(NAME));
+    }
+
+
+    /**
+     * Pipeline stage that replaces the stored document with {@code document}, wrapped in
+     * {@code $literal} so none of its values are read as expressions. The stored
+     * {@code _id} is kept unless the document carries one, and the stored
+     * {@code createdAt} is kept whenever there is one; the document's only applies when
+     * the upsert inserts.
+     */
+    private static BsonDocument replaceStage(BsonDocument document) {
+        BsonValue createdAt = document.containsKey(CREATED_AT)
+                ? new BsonDocument("$ifNull", new BsonArray(List.of(
+                        field(CREATED_AT), new BsonDocument("$literal", document.get(CREATED_AT)))))
+                : field(CREATED_AT);
+
+        BsonArray merged = new BsonArray(List.of(
+                new BsonDocument(ID, field(ID)),
+                new BsonDocument("$literal", document),
+                new BsonDocument(CREATED_AT, createdAt)));
+        return new BsonDocument("$replaceWith", new BsonDocument("$mergeObjects", merged));
+    }
+
+
+    private static BsonString field(String name) {
+        return new BsonString("$" + name);
+    }
+
+
+    /**
+     * {@code $set} for every field the document carries (nested documents flattened to
+     * dotted paths so sibling fields survive, empty arrays and documents skipped), with
+     * {@code _id} and {@code createdAt} only set when the upsert inserts.
+     */
+    private static BsonDocument mergeUpdate(BsonDocument document) {
+        BsonDocument set = new BsonDocument();
+        BsonDocument setOnInsert = new BsonDocument();
+
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(ID) || key.equals(CREATED_AT)) {
+                setOnInsert.put(key, entry.getValue());
+            } else if (!key.equals(NAME)) {
+                flatten(key, entry.getValue(), set);
+            }
+        }
+
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        // The server rejects an update without operators
+        if (update.isEmpty() && setOnInsert.isEmpty()) {
+            setOnInsert.put(NAME, document.get(NAME));
+        }
+        if (!setOnInsert.isEmpty()) {
+            update.put("$setOnInsert", setOnInsert);
+        }
+        return update;
+    }
+
+
+    private static void flatten(String path, BsonValue value, BsonDocument set) {
+        if (value.isNull() || (value.isArray() && value.asArray().isEmpty())) {
+            return;
+        }
+        if (value.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                flatten(path + "." + entry.getKey(), entry.getValue(), set);
+            }
+            return;
+        }
+        set.put(path, value);
+    }
+}
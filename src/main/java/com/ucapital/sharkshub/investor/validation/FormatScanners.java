@@ -0,0 +1,150 @@
+package com.ucapital.sharkshub.investor.validation;
+
+
+/**
+ * Single left-to-right scanners for the email and website formats the validator
+ * used to check with regular expressions. They accept exactly the same strings as
+ *
+ * <pre>
+ * email: ^[a-zA-Z0-9_+&amp;*-]+(?:\.[a-zA-Z0-9_+&amp;*-]+)*@(?:[a-zA-Z0-9-]+\.)+[a-zA-Z]{2,7}$
+ * url:   ^(https?://)?([a-zA-Z0-9]([a-zA-Z0-9\-]{0,61}[a-zA-Z0-9])?\.)+[a-zA-Z]{2,}(/.*)?$
+ * </pre>
+ *
+ * under {@link java.util.regex.Matcher#matches()}, but never backtrack, so hostile
+ * input costs one pass over the string. This holds for input ending in a line
+ * terminator too: {@code $} may match before a final terminator, but
+ * {@code matches()} must still consume it and neither pattern can, so both reject it.
+ */
+public final class FormatScanners {
+
+    private static final int MAX_HOST_LABEL_LENGTH = 63;
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int MAX_EMAIL_TLD_LENGTH = 7;
+
+    private FormatScanners() {
+    }
+
+
+    public static boolean isEmail(String value) {
+        int length = value.length();
+        int i = 0;
+
+        // Local part: runs of allowed characters separated by single dots
+        boolean afterDot = true;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (afterDot) {
+                    return false;
+                }
+                afterDot = true;
+            } else if (isAsciiLetterOrDigit(c) || c == '_' || c == '+' || c == '&' || c == '*' || c == '-') {
+                afterDot = false;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || afterDot) {
+            return false;
+        }
+
+        // Domain: non-empty labels, at least one dot, letters-only TLD of 2 to 7 characters
+        int labelStart = ++i;
+        int lastDot = -1;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (i == labelStart) {
+                    return false;
+                }
+                lastDot = i;
+                labelStart = i + 1;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (lastDot < 0) {
+            return false;
+        }
+
+        int tldLength = length - lastDot - 1;
+        return tldLength >= MIN_TLD_LENGTH && tldLength <= MAX_EMAIL_TLD_LENGTH
+                && isAsciiLetters(value, lastDot + 1, length);
+    }
+
+
+    public static boolean isUrl(String value) {
+        int length = value.length();
+        int i = 0;
+        if (value.startsWith("https://")) {
+            i = 8;
+        } else if (value.startsWith("http://")) {
+            i = 7;
+        }
+
+        int hostEnd = value.indexOf('/', i);
+        if (hostEnd < 0) {
+            hostEnd = length;
+        }
+
+        // Every label before the last dot: 1-63 characters, alphanumeric at both ends
+        int labelStart = i;
+        int labels = 0;
+        for (; i < hostEnd; i++) {
+            if (value.charAt(i) == '.') {
+                if (!isHostLabel(value, labelStart, i)) {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+            }
+        }
+        if (labels == 0 || hostEnd - labelStart < MIN_TLD_LENGTH || !isAsciiLetters(value, labelStart, hostEnd)) {
+            return false;
+        }
+
+        // Path: anything up to a line terminator, which '.' does not match
+        for (i = hostEnd; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean isHostLabel(String value, int from, int to) {
+        int labelLength = to - from;
+        if (labelLength < 1 || labelLength > MAX_HOST_LABEL_LENGTH
+                || !isAsciiLetterOrDigit(value.charAt(from)) || !isAsciiLetterOrDigit(value.charAt(to - 1))) {
+            return false;
+        }
+        for (int i = from + 1; i < to - 1; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean isAsciiLetters(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,327 @@
+package com.ucapital.sharkshub.investor.validation;
+
+import com.ucapital.sharkshub.investor.dto.AddressDto;
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.exception.InvestorValidationException.ValidationError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+
+/**
+ * Field rules for an investor compiled into flat arrays, so validating a row is a
+ * single walk over the investor's fields followed by a single walk over its
+ * contacts. Rules are declared per field path as a list of specs:
+ *
+ * <ul>
+ *   <li>{@code required} - the value must contain non-whitespace text</li>
+ *   <li>{@code max-length:N} - at most N characters</li>
+ *   <li>{@code email} / {@code url} - checked with {@link FormatScanners}</li>
+ * </ul>
+ *
+ * Paths under {@code contacts.} apply to every contact, and a trailing {@code .*}
+ * expands to every known field under that prefix (e.g. {@code descriptions.*}).
+ * A specific path such as {@code descriptions.en} replaces the wildcard's rules for
+ * that field rather than adding to them. Unknown paths or specs fail at startup.
+ */
+public final class InvestorRuleSet {
+
+    /** The rules the validator has always enforced. */
+    public static final Map<String, List<String>> DEFAULT_RULES = defaultRules();
+
+    private static final String CONTACTS_PREFIX = "contacts.";
+    private static final int REJECTED_VALUE_PREVIEW = 50;
+
+    private static final Map<String, Function<InvestorDto, String>> INVESTOR_FIELDS = investorFields();
+    private static final Map<String, Function<ContactsDto, String>> CONTACT_FIELDS = contactFields();
+    private static final Map<String, String> LABELS = Map.of(
+            "name", "Investor name",
+            "status", "Status",
+            "type", "Type",
+            "website", "Website URL",
+            "contacts.firstName", "Contact first name",
+            "contacts.lastName", "Contact last name");
+
+    private final FieldRule<InvestorDto>[] investorRules;
+    private final FieldRule<ContactsDto>[] contactRules;
+
+    private InvestorRuleSet(FieldRule<InvestorDto>[] investorRules, FieldRule<ContactsDto>[] contactRules) {
+        this.investorRules = investorRules;
+        this.contactRules = contactRules;
+    }
+
+
+    public static InvestorRuleSet defaults() {
+        return compile(DEFAULT_RULES);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    public static InvestorRuleSet compile(Map<String, List<String>> rules) {
+        List<FieldRule<InvestorDto>> investorRules = new ArrayList<>();
+        List<FieldRule<ContactsDto>> contactRules = new ArrayList<>();
+
+        // One rule per field: a specific path replaces what a wildcard gave it, whichever comes first
+        Map<String, List<String>> specsByPath = new LinkedHashMap<>();
+        Set<String> specificPaths = new HashSet<>();
+        for (Map.Entry<String, List<String>> entry : rules.entrySet()) {
+            List<String> specs = entry.getValue() != null ? entry.getValue() : List.of();
+            boolean wildcard = isWildcard(entry.getKey());
+            for (String path : expand(entry.getKey())) {
+                if (!wildcard) {
+                    specsByPath.put(path, specs);
+                    specificPaths.add(path);
+                } else if (!specificPaths.contains(path)) {
+                    specsByPath.put(path, specs);
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<String>> entry : specsByPath.entrySet()) {
+            String path = entry.getKey();
+            if (path.startsWith(CONTACTS_PREFIX)) {
+                String field = path.substring(CONTACTS_PREFIX.length());
+                addRule(contactRules, field, path, CONTACT_FIELDS.get(path), entry.getValue());
+            } else {
+                addRule(investorRules, path, path, INVESTOR_FIELDS.get(path), entry.getValue());
+            }
+        }
+
+        return new InvestorRuleSet(investorRules.toArray(FieldRule[]::new), contactRules.toArray(FieldRule[]::new));
+    }
+
+
+    /**
+     * Appends a {@link ValidationError} to {@code errors} for every rule {@code investor} breaks.
+     */
+    public void validate(InvestorDto investor, List<ValidationError> errors) {
+        for (FieldRule<InvestorDto> rule : investorRules) {
+            rule.check(investor, -1, errors);
+        }
+
+        if (contactRules.length == 0 || investor.getContacts() == null) {
+            return;
+        }
+
+        int contactIndex = 0;
+        for (ContactsDto contact : investor.getContacts()) {
+            if (contact != null) {
+                for (FieldRule<ContactsDto> rule : contactRules) {
+                    rule.check(contact, contactIndex, errors);
+                }
+            }
+            contactIndex++;
+        }
+    }
+
+
+    private static <T> void addRule(List<FieldRule<T>> rules, String fieldName, String path,
+                                    Function<T, String> accessor, List<String> specs) {
+        if (accessor == null) {
+            throw new IllegalArgumentException("Unknown investor field in validation rules: " + path);
+        }
+        if (specs.isEmpty()) {
+            return;
+        }
+
+        boolean required = false;
+        boolean email = false;
+        boolean url = false;
+        int maxLength = -1;
+
+        for (String spec : specs) {
+            String trimmed = spec.trim();
+            if (trimmed.equals("required")) {
+                required = true;
+            } else if (trimmed.equals("email")) {
+                email = true;
+            } else if (trimmed.equals("url")) {
+                url = true;
+            } else if (trimmed.startsWith("max-length:")) {
+                maxLength = Integer.parseInt(trimmed.substring("max-length:".length()).trim());
+            } else if (!trimmed.isEmpty()) {
+                throw new IllegalArgumentException("Unknown validation rule '" + trimmed + "' for " + path);
+            }
+        }
+
+        // Messages are built once here rather than per rejected row
+        String label = label(path);
+        rules.add(new FieldRule<>(fieldName, accessor, required, maxLength, email, url,
+                label + " is required",
+                label + " must not exceed " + maxLength + " characters",
+                "Invalid " + Character.toLowerCase(label.charAt(0)) + label.substring(1) + " format"));
+    }
+
+
+    private static boolean isWildcard(String path) {
+        return path.endsWith(".*");
+    }
+
+
+    private static List<String> expand(String path) {
+        if (!isWildcard(path)) {
+            return List.of(path);
+        }
+
+        String prefix = path.substring(0, path.length() - 1);
+        List<String> paths = new ArrayList<>();
+        for (String known : INVESTOR_FIELDS.keySet()) {
+            if (known.startsWith(prefix)) {
+                paths.add(known);
+            }
+        }
+        for (String known : CONTACT_FIELDS.keySet()) {
+            if (known.startsWith(prefix)) {
+                paths.add(known);
+            }
+        }
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("No investor fields match validation rule path: " + path);
+        }
+        return paths;
+    }
+
+
+    private static String label(String path) {
+        String label = LABELS.get(path);
+        if (label != null) {
+            return label;
+        }
+        return path.startsWith("descriptions.") ? "Description" : path;
+    }
+
+
+    private static boolean hasText(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private record FieldRule<T>(String fieldName, Function<T, String> accessor, boolean required, int maxLength,
+                                boolean email, boolean url, String requiredMessage, String maxLengthMessage,
+                                String urlMessage) {
+
+        /**
+         * @param contactIndex position in the contacts set, or -1 for an investor field
+         */
+        void check(T target, int contactIndex, List<ValidationError> errors) {
+            String value = accessor.apply(target);
+            if (!hasText(value)) {
+                if (required) {
+                    errors.add(ValidationError.of(path(contactIndex), null, requiredMessage));
+                }
+                return;
+            }
+
+            if (maxLength >= 0 && value.length() > maxLength) {
+                errors.add(ValidationError.of(path(contactIndex), preview(value), maxLengthMessage));
+            }
+            if (email && !FormatScanners.isEmail(value)) {
+                errors.add(ValidationError.of(path(contactIndex), value, "Invalid email format"));
+            }
+            if (url && !FormatScanners.isUrl(value)) {
+                errors.add(ValidationError.of(path(contactIndex), value, urlMessage));
+            }
+        }
+
+        // Only built for rejected values, so valid rows allocate nothing here
+        private String path(int contactIndex) {
+            return contactIndex < 0 ? fieldName : "contacts[" + contactIndex + "]." + fieldName;
+        }
+
+        private static String preview(String value) {
+            return value.length() > REJECTED_VALUE_PREVIEW ? value.substring(0, REJECTED_VALUE_PREVIEW) + "..." : value;
+        }
+    }
+
+
+    private static Map<String, List<String>> defaultRules() {
+        Map<String, List<String>> rules = new LinkedHashMap<>();
+        rules.put("name", List.of("required", "max-length:200"));
+        rules.put("status", List.of("required"));
+        rules.put("type", List.of("required"));
+        rules.put("website", List.of("max-length:500", "url"));
+        rules.put("creatorEmail", List.of("email"));
+        rules.put("adminEmail", List.of("email"));
+        rules.put("hqLocation.email", List.of("email"));
+        rules.put("descriptions.*", List.of("max-length:5000"));
+        rules.put("contacts.firstName", List.of("required"));
+        rules.put("contacts.lastName", List.of("required"));
+        rules.put("contacts.email", List.of("email"));
+        return Collections.unmodifiableMap(rules);
+    }
+
+
+    private static Map<String, Function<InvestorDto, String>> investorFields() {
+        Map<String, Function<InvestorDto, String>> fields = new LinkedHashMap<>();
+        fields.put("name", InvestorDto::getName);
+        fields.put("status", InvestorDto::getStatus);
+        fields.put("type", InvestorDto::getType);
+        fields.put("macroType", InvestorDto::getMacroType);
+        fields.put("website", InvestorDto::getWebsite);
+        fields.put("image", InvestorDto::getImage);
+        fields.put("creatorEmail", InvestorDto::getCreatorEmail);
+        fields.put("adminEmail", InvestorDto::getAdminEmail);
+
+        address(fields, "address", AddressDto::getAddress);
+        address(fields, "city", AddressDto::getCity);
+        address(fields, "state", AddressDto::getState);
+        address(fields, "zip", AddressDto::getZip);
+        address(fields, "country", AddressDto::getCountry);
+        address(fields, "phone", AddressDto::getPhone);
+        address(fields, "email", AddressDto::getEmail);
+        address(fields, "fax", AddressDto::getFax);
+        address(fields, "sn", AddressDto::getSn);
+
+        description(fields, "it", InvDescriptionsDto::getIt);
+        description(fields, "en", InvDescriptionsDto::getEn);
+        description(fields, "fr", InvDescriptionsDto::getFr);
+        description(fields, "de", InvDescriptionsDto::getDe);
+        description(fields, "es", InvDescriptionsDto::getEs);
+        description(fields, "ru", InvDescriptionsDto::getRu);
+        description(fields, "ch", InvDescriptionsDto::getCh);
+        return fields;
+    }
+
+
+    private static void address(Map<String, Function<InvestorDto, String>> fields, String name,
+                                Function<AddressDto, String> accessor) {
+        fields.put("hqLocation." + name,
+                dto -> dto.getHqLocation() != null ? accessor.apply(dto.getHqLocation()) : null);
+    }
+
+
+    private static void description(Map<String, Function<InvestorDto, String>> fields, String language,
+                                    Function<InvDescriptionsDto, String> accessor) {
+        fields.put("descriptions." + language,
+                dto -> dto.getDescriptions() != null ? accessor.apply(dto.getDescriptions()) : null);
+    }
+
+
+    private static Map<String, Function<ContactsDto, String>> contactFields() {
+        Map<String, Function<ContactsDto, String>> fields = new LinkedHashMap<>();
+        fields.put("contacts.firstName", ContactsDto::getFirstName);
+        fields.put("contacts.lastName", ContactsDto::getLastName);
+        fields.put("contacts.email", ContactsDto::getEmail);
+        fields.put("contacts.phone", ContactsDto::getPhone);
+        fields.put("contacts.mobile", ContactsDto::getMobile);
+        fields.put("contacts.fax", ContactsDto::getFax);
+        fields.put("contacts.role", ContactsDto::getRole);
+        return fields;
+    }
+}
@@ -1,9 +1,8 @@
 package com.ucapital.sharkshub.investor.validation;
 
-import com.ucapital.sharkshub.investor.dto.ContactsDto;
-import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
 import com.ucapital.sharkshub.investor.dto.InvestorDto;
 import com.ucapital.sharkshub.investor.exception.InvestorValidationException;
+import com.ucapital.sharkshub.investor.model.Investor;
 import com.ucapital.sharkshub.investor.repository.InvestorRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,8 +10,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
 
 
 @Component
@@ -20,20 +22,16 @@ public class InvestorValidator {
 
     private static final Logger logger = LoggerFactory.getLogger(InvestorValidator.class);
 
-    private static final int NAME_MAX_LENGTH = 200;
-    private static final int WEBSITE_MAX_LENGTH = 500;
-    private static final int DESCRIPTION_MAX_LENGTH = 5000;
+    private static final String NULL_INVESTOR_MESSAGE = "Investor data cannot be null";
 
-    private static final Pattern URL_PATTERN = Pattern.compile(
-            "^(https?://)?([a-zA-Z0-9]([a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9])?\\.)+[a-zA-Z]{2,}(/.*)?$");
-
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+    private static final ThreadLocal<ValidationResult> RESULTS = ThreadLocal.withInitial(ValidationResult::new);
 
     private final InvestorRepository investorRepository;
+    private final InvestorRuleSet ruleSet;
 
-    public InvestorValidator(InvestorRepository investorRepository) {
+    public InvestorValidator(InvestorRepository investorRepository, InvestorRuleSet ruleSet) {
         this.investorRepository = investorRepository;
+        this.ruleSet = ruleSet;
     }
 
 
@@ -41,197 +39,98 @@ public class InvestorValidator {
             throws InvestorValidationException {
 
         if (investorDto == null) {
-            throw new InvestorValidationException("Investor data cannot be null");
+            throw new InvestorValidationException(NULL_INVESTOR_MESSAGE);
         }
 
-        List<InvestorValidationException.ValidationError> errors = new ArrayList<>();
-
-        validateRequiredFields(investorDto, errors);
-
-        validateStringLengths(investorDto, errors);
-
-        validateEmails(investorDto, errors);
-
-        validateWebsite(investorDto, errors);
-
-        validateNestedObjects(investorDto, errors);
+        ValidationResult result = check(investorDto);
 
-        if (!errors.isEmpty()) {
+        if (!result.isValid()) {
             String message = String.format("Validation failed for investor at index %d", index);
-            throw new InvestorValidationException(message, index, investorDto.getName(), errors);
+            throw new InvestorValidationException(message, index, investorDto.getName(),
+                    new ArrayList<>(result.getErrors()));
         }
         if (checkDuplicates && StringUtils.hasText(investorDto.getName())) {
             validateUniqueName(investorDto, index);
         }
     }
 
-    private void validateRequiredFields(InvestorDto investorDto,
-                                        List<InvestorValidationException.ValidationError> errors) {
 
-        if (!StringUtils.hasText(investorDto.getName())) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("name")
-                    .errorMessage("Investor name is required")
-                    .build());
-        }
-
-        if (!StringUtils.hasText(investorDto.getStatus())) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("status")
-                    .errorMessage("Status is required")
-                    .build());
-        }
+    /**
+     * Checks the field rules without throwing, for bulk paths where many rows may be
+     * rejected. The returned result is this thread's reusable accumulator: it is
+     * cleared by the next call on the same thread, so copy the errors out before
+     * checking another investor. Name uniqueness is not checked here.
+     */
+    public ValidationResult check(InvestorDto investorDto) {
+        ValidationResult result = RESULTS.get().reset();
 
-        if (!StringUtils.hasText(investorDto.getType())) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("type")
-                    .errorMessage("Type is required")
-                    .build());
+        if (investorDto == null) {
+            result.accumulator().add(InvestorValidationException.ValidationError.of(null, null, NULL_INVESTOR_MESSAGE));
+        } else {
+            ruleSet.validate(investorDto, result.accumulator());
         }
+        return result;
     }
 
-    private void validateStringLengths(InvestorDto investorDto,
-                                       List<InvestorValidationException.ValidationError> errors) {
-
-        if (StringUtils.hasText(investorDto.getName()) && investorDto.getName().length() > NAME_MAX_LENGTH) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("name")
-                    .errorMessage(String.format("Name must not exceed %d characters", NAME_MAX_LENGTH))
-                    .rejectedValue(investorDto.getName())
-                    .build());
-        }
-
-        if (StringUtils.hasText(investorDto.getWebsite()) && investorDto.getWebsite().length() > WEBSITE_MAX_LENGTH) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("website")
-                    .errorMessage(String.format("Website URL must not exceed %d characters", WEBSITE_MAX_LENGTH))
-                    .rejectedValue(investorDto.getWebsite())
-                    .build());
-        }
-
-        if (investorDto.getDescriptions() != null) {
-            InvDescriptionsDto desc = investorDto.getDescriptions();
+    private void validateUniqueName(InvestorDto investorDto, int index)
+            throws InvestorValidationException {
 
-            validateDescriptionLength(desc.getIt(), "descriptions.it", errors);
-            validateDescriptionLength(desc.getEn(), "descriptions.en", errors);
-            validateDescriptionLength(desc.getFr(), "descriptions.fr", errors);
-            validateDescriptionLength(desc.getDe(), "descriptions.de", errors);
-            validateDescriptionLength(desc.getEs(), "descriptions.es", errors);
-            validateDescriptionLength(desc.getRu(), "descriptions.ru", errors);
-            validateDescriptionLength(desc.getCh(), "descriptions.ch", errors);
+        if (investorRepository.existsByName(investorDto.getName())) {
+            throw InvestorValidationException.duplicateName(investorDto.getName(), index);
         }
     }
 
-
-    private void validateDescriptionLength(String description, String fieldName,
-                                           List<InvestorValidationException.ValidationError> errors) {
-
-        if (StringUtils.hasText(description) && description.length() > DESCRIPTION_MAX_LENGTH) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName(fieldName)
-                    .errorMessage(String.format("Description must not exceed %d characters", DESCRIPTION_MAX_LENGTH))
-                    .rejectedValue(description.substring(0, 50) + "...")
-                    .build());
+    /**
+     * Resolves name uniqueness for a whole chunk with a single {@code $in} lookup on the
+     * {@code name} index. {@code seenNames} carries the names accepted by earlier chunks
+     * of the same payload (name -> item index) so in-payload duplicates are caught too;
+     * accepted names of this chunk are added to it.
+     *
+     * @return one exception per rejected item, in chunk order
+     */
+    public List<InvestorValidationException> validateUniqueNames(List<InvestorDto> investorDtos,
+                                                                 List<Integer> indexes,
+                                                                 Map<String, Integer> seenNames) {
+        Set<String> lookup = new HashSet<>();
+        for (InvestorDto investorDto : investorDtos) {
+            if (!seenNames.containsKey(investorDto.getName())) {
+                lookup.add(investorDto.getName());
+            }
         }
-    }
-
 
-    private void validateEmails(InvestorDto investorDto,
-                                List<InvestorValidationException.ValidationError> errors) {
+        Set<String> existingNames = findExistingNames(lookup);
+        List<InvestorValidationException> failures = new ArrayList<>();
 
-        if (StringUtils.hasText(investorDto.getCreatorEmail())
-                && !isValidEmail(investorDto.getCreatorEmail())) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("creatorEmail")
-                    .errorMessage("Invalid email format")
-                    .rejectedValue(investorDto.getCreatorEmail())
-                    .build());
-        }
-
-        if (StringUtils.hasText(investorDto.getAdminEmail())
-                && !isValidEmail(investorDto.getAdminEmail())) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("adminEmail")
-                    .errorMessage("Invalid email format")
-                    .rejectedValue(investorDto.getAdminEmail())
-                    .build());
-        }
+        for (int i = 0; i < investorDtos.size(); i++) {
+            String name = investorDtos.get(i).getName();
+            int index = indexes.get(i);
 
-        if (investorDto.getHqLocation() != null && StringUtils.hasText(investorDto.getHqLocation().getEmail())
-                && !isValidEmail(investorDto.getHqLocation().getEmail())) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("hqLocation.email")
-                    .errorMessage("Invalid email format")
-                    .rejectedValue(investorDto.getHqLocation().getEmail())
-                    .build());
-        }
+            if (existingNames.contains(name)) {
+                failures.add(InvestorValidationException.duplicateName(name, index));
+                continue;
+            }
 
-        // Validate contact emails if provided
-        if (investorDto.getContacts() != null) {
-            int contactIndex = 0;
-            for (ContactsDto contact : investorDto.getContacts()) {
-                if (StringUtils.hasText(contact.getEmail()) && !isValidEmail(contact.getEmail())) {
-                    errors.add(InvestorValidationException.ValidationError.builder()
-                            .fieldName("contacts[" + contactIndex + "].email")
-                            .errorMessage("Invalid email format")
-                            .rejectedValue(contact.getEmail())
-                            .build());
-                }
-                contactIndex++;
+            Integer firstIndex = seenNames.putIfAbsent(name, index);
+            if (firstIndex != null) {
+                failures.add(InvestorValidationException.duplicateNameInPayload(name, index, firstIndex));
             }
         }
-    }
 
-
-    private boolean isValidEmail(String email) {
-        return EMAIL_PATTERN.matcher(email).matches();
+        return failures;
     }
 
 
-    private void validateWebsite(InvestorDto investorDto,
-                                 List<InvestorValidationException.ValidationError> errors) {
-
-        if (StringUtils.hasText(investorDto.getWebsite())
-                && !URL_PATTERN.matcher(investorDto.getWebsite()).matches()) {
-            errors.add(InvestorValidationException.ValidationError.builder()
-                    .fieldName("website")
-                    .errorMessage("Invalid website URL format")
-                    .rejectedValue(investorDto.getWebsite())
-                    .build());
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Set.of();
         }
-    }
-
-
-    private void validateUniqueName(InvestorDto investorDto, int index)
-            throws InvestorValidationException {
 
-        if (investorRepository.existsByName(investorDto.getName())) {
-            throw InvestorValidationException.duplicateName(investorDto.getName(), index);
+        Set<String> existingNames = new HashSet<>();
+        for (Investor investor : investorRepository.findNamesIn(names)) {
+            existingNames.add(investor.getName());
         }
-    }
 
-    private void validateNestedObjects(InvestorDto investorDto,
-                                       List<InvestorValidationException.ValidationError> errors) {
-
-        if (investorDto.getContacts() != null) {
-            int contactIndex = 0;
-            for (ContactsDto contact : investorDto.getContacts()) {
-                if (!StringUtils.hasText(contact.getFirstName())) {
-                    errors.add(InvestorValidationException.ValidationError.builder()
-                            .fieldName("contacts[" + contactIndex + "].firstName")
-                            .errorMessage("Contact first name is required")
-                            .build());
-                }
-
-                if (!StringUtils.hasText(contact.getLastName())) {
-                    errors.add(InvestorValidationException.ValidationError.builder()
-                            .fieldName("contacts[" + contactIndex + "].lastName")
-                            .errorMessage("Contact last name is required")
-                            .build());
-                }
-
-                contactIndex++;
-            }
-        }
+        logger.debug("Name lookup: {} of {} names already exist", existingNames.size(), names.size());
+        return existingNames;
     }
-}
\ No newline at end of file
+}
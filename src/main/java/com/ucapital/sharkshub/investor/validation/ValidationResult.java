@@ -0,0 +1,40 @@
+package com.ucapital.sharkshub.investor.validation;
+
+import com.ucapital.sharkshub.investor.exception.InvestorValidationException.ValidationError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Field errors collected for one investor by {@link InvestorValidator#check}.
+ * Instances are reused per thread, so the errors are only valid until the same
+ * thread checks its next investor.
+ */
+public final class ValidationResult {
+
+    private final List<ValidationError> errors = new ArrayList<>();
+    private final List<ValidationError> view = Collections.unmodifiableList(errors);
+
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+
+    public List<ValidationError> getErrors() {
+        return view;
+    }
+
+
+    List<ValidationError> accumulator() {
+        return errors;
+    }
+
+
+    ValidationResult reset() {
+        errors.clear();
+        return this;
+    }
+}
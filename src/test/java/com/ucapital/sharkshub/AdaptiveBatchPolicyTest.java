@@ -0,0 +1,78 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveBatchPolicy Tests")
+class AdaptiveBatchPolicyTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AdaptiveBatchPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        policy = new AdaptiveBatchPolicy("test", 1000, 100, 2000, 16 * 1024 * 1024,
+                Duration.ofMillis(100), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should shrink the target proportionally, at most by half, when batches are slow")
+    void record_WithSlowBatch_ShouldShrinkTarget() {
+        // When
+        policy.record(1000, 1_000_000, 160 * MILLIS);
+
+        // Then
+        assertThat(policy.targetDocuments()).isEqualTo(625);
+
+        // When
+        policy.record(625, 625_000, 1000 * MILLIS);
+
+        // Then
+        assertThat(policy.targetDocuments()).isEqualTo(312);
+    }
+
+    @Test
+    @DisplayName("Should grow the target only after a full batch well under the target latency")
+    void record_WithFastBatch_ShouldGrowTarget() {
+        // When
+        policy.record(10, 10_000, 5 * MILLIS);
+
+        // Then
+        assertThat(policy.targetDocuments()).isEqualTo(1000);
+
+        // When
+        policy.record(1000, 1_000_000, 50 * MILLIS);
+
+        // Then
+        assertThat(policy.targetDocuments()).isEqualTo(1250);
+    }
+
+    @Test
+    @DisplayName("Should clamp the byte cap to the driver message limit and publish its decisions")
+    void constructor_ShouldClampBytesAndRegisterMeters() {
+        // Given
+        AdaptiveBatchPolicy unbounded = new AdaptiveBatchPolicy("unbounded", 10, 1, 10, Long.MAX_VALUE,
+                Duration.ofMillis(100), meterRegistry);
+
+        // When
+        policy.record(1000, 1_000_000, 1000 * MILLIS);
+
+        // Then
+        assertThat(unbounded.maxBytes()).isEqualTo(AdaptiveBatchPolicy.MAX_MESSAGE_BYTES);
+        assertThat(meterRegistry.get("sharkshub.ingest.batch.target.documents").tag("policy", "test")
+                .gauge().value()).isEqualTo(500);
+        assertThat(meterRegistry.get("sharkshub.ingest.batch.adjustments").tag("direction", "shrink")
+                .counter().count()).isEqualTo(1);
+    }
+}
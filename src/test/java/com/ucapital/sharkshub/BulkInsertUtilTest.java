@@ -0,0 +1,407 @@
+package com.ucapital.sharkshub;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.ucapital.sharkshub.investor.codec.InvestorCodec;
+import com.ucapital.sharkshub.investor.dto.BulkError;
+import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import com.ucapital.sharkshub.investor.model.Investor;
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import com.ucapital.sharkshub.investor.util.BulkInsertUtil;
+import com.ucapital.sharkshub.investor.util.IngestProfile;
+import com.ucapital.sharkshub.util.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkInsertUtil Tests")
+class BulkInsertUtilTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> documentCollection;
+
+    @Mock
+    private MongoCollection<RawBsonDocument> collection;
+
+    private AdaptiveBatchPolicy batchPolicy;
+
+    private BulkInsertUtil bulkInsertUtil;
+
+    private final List<BulkInsertUtil> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(Investor.class)).thenReturn("investors");
+        when(mongoTemplate.getCollection("investors")).thenReturn(documentCollection);
+        when(documentCollection.withDocumentClass(RawBsonDocument.class)).thenReturn(collection);
+
+        batchPolicy = new AdaptiveBatchPolicy("test", 1000, 1, 1000, 16 * 1024 * 1024,
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+        bulkInsertUtil = createBulkInsertUtil(batchPolicy, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.forEach(BulkInsertUtil::shutdown);
+    }
+
+    /**
+     * Creates a util with its own write executor, shut down after each test.
+     */
+    private BulkInsertUtil createBulkInsertUtil(AdaptiveBatchPolicy policy, int maxConcurrency) {
+        BulkInsertUtil util = new BulkInsertUtil(mongoTemplate, new InvestorCodec(), policy, 1, maxConcurrency,
+                2, 1, false);
+        created.add(util);
+        return util;
+    }
+
+    @Test
+    @DisplayName("Should report only the documents rejected by the server")
+    void bulkInsert_WithPartialFailure_ShouldAttributeErrorsToOriginalIndexes() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(4);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(bulkWriteException(3, new BulkWriteError(11000,
+                        "E11000 duplicate key error collection: investors index: name_1 dup key",
+                        new BsonDocument(), 2)));
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkInsert(investors, 10, 1);
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(2);
+        assertThat(response.getErrors()).extracting(BulkError::getErrorCode).containsExactly("DUPLICATE_KEY");
+        assertThat(response.getWarnings()).isEmpty();
+        verify(collection, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should retry only the documents that failed transiently")
+    @SuppressWarnings("unchecked")
+    void bulkInsert_WithTransientFailure_ShouldRetryFailedDocumentsOnly() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(3);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(bulkWriteException(2, new BulkWriteError(91, "Server shutting down",
+                        new BsonDocument(), 1)))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkInsert(investors, 10, 1);
+
+        // Then
+        ArgumentCaptor<List<WriteModel<RawBsonDocument>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(collection, times(2)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+        assertThat(captor.getAllValues().get(1)).hasSize(1);
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getErrors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count documents committed before a lost acknowledgement as successful")
+    void bulkInsert_WithNetworkErrorAfterCommit_ShouldNotReportDuplicateIds() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(2);
+        investors.forEach(investor -> investor.setId(null));
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(new MongoSocketReadException("Connection reset", new ServerAddress()))
+                .thenThrow(bulkWriteException(1, new BulkWriteError(11000,
+                        "E11000 duplicate key error collection: investors index: name_1 dup key",
+                        new BsonDocument(), 0)));
+        storedIds(true);
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkInsert(investors, 10, 1);
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getErrors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report a retried generated id that is not stored as a duplicate")
+    void bulkInsert_WithRetryCollidingOnAnotherInvestor_ShouldReportDuplicate() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(2);
+        investors.forEach(investor -> investor.setId(null));
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(new MongoSocketReadException("Connection reset", new ServerAddress()))
+                .thenThrow(bulkWriteException(1, new BulkWriteError(11000,
+                        "E11000 duplicate key error collection: investors index: name_1 dup key",
+                        new BsonDocument(), 1)));
+        storedIds(false);
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkInsert(investors, 10, 1);
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(1);
+        assertThat(response.getErrors()).extracting(BulkError::getErrorCode).containsExactly("DUPLICATE_KEY");
+    }
+
+    @Test
+    @DisplayName("Should report a retried caller-supplied id conflict as a duplicate")
+    void bulkInsert_WithRetryOnSuppliedId_ShouldReportDuplicateWithoutLookup() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(2);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(new MongoSocketReadException("Connection reset", new ServerAddress()))
+                .thenThrow(bulkWriteException(1, new BulkWriteError(11000,
+                        "E11000 duplicate key error collection: investors index: _id_ dup key",
+                        new BsonDocument(), 0)));
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkInsert(investors, 10, 1);
+
+        // Then
+        verify(collection, never()).find(any(Bson.class));
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(0);
+        assertThat(response.getErrors()).extracting(BulkError::getErrorCode).containsExactly("DUPLICATE_KEY");
+    }
+
+    @Test
+    @DisplayName("Should cut batches before they exceed the encoded byte cap")
+    @SuppressWarnings("unchecked")
+    void bulkInsert_WithByteCap_ShouldSplitBatchesBySize() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(6);
+        int documentBytes = new RawBsonDocument(investors.get(0), new InvestorCodec()).getByteBuffer().remaining();
+        AdaptiveBatchPolicy smallBatches = new AdaptiveBatchPolicy("small", 1000, 1, 1000,
+                documentBytes * 2L + documentBytes / 2, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        BulkInsertUtil byteCapped = createBulkInsertUtil(smallBatches, 1);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()));
+
+        // When
+        BulkOperationResponse response = byteCapped.bulkInsert(investors);
+
+        // Then
+        ArgumentCaptor<List<WriteModel<RawBsonDocument>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(collection, times(3)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+        assertThat(captor.getAllValues()).allSatisfy(models -> assertThat(models).hasSize(2));
+        assertThat(response.getSuccessCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should follow the adaptive document target when no batch size is given")
+    void bulkInsert_WithAdaptiveBatchSize_ShouldUsePolicyTarget() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(5);
+        AdaptiveBatchPolicy twoPerBatch = new AdaptiveBatchPolicy("two", 2, 2, 2, 16 * 1024 * 1024,
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+        BulkInsertUtil adaptive = createBulkInsertUtil(twoPerBatch, 1);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()))
+                .thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+
+        // When
+        BulkOperationResponse response = adaptive.bulkInsert(investors);
+
+        // Then
+        verify(collection, times(3)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+        assertThat(response.getSuccessCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should merge the results of batches written concurrently under their original indexes")
+    void bulkInsert_WithConcurrentBatches_ShouldMergeResultsByOriginalIndex() throws InterruptedException {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(8);
+        BulkInsertUtil concurrent = createBulkInsertUtil(batchPolicy, 4);
+        CountDownLatch allInFlight = new CountDownLatch(3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            threads.add(Thread.currentThread().getName());
+            allInFlight.countDown();
+            try {
+                allInFlight.await(5, TimeUnit.SECONDS);
+                // The second document of every batch collides with a stored investor
+                throw bulkWriteException(1, new BulkWriteError(11000,
+                        "E11000 duplicate key error collection: investors index: name_1 dup key",
+                        new BsonDocument(), 1));
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        // When
+        BulkOperationResponse response = concurrent.bulkInsert(investors, 2, 3);
+
+        // Then
+        verify(collection, times(4)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+        assertThat(allInFlight.await(0, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isEqualTo(3);
+        assertThat(threads).allSatisfy(thread -> assertThat(thread).startsWith("bulk-write-"));
+        assertThat(response.getSuccessCount()).isEqualTo(4);
+        assertThat(response.getFailureCount()).isEqualTo(4);
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(1, 3, 5, 7);
+        assertThat(response.getErrors()).extracting(BulkError::getInvestorName)
+                .containsExactly(investors.get(1).getName(), investors.get(3).getName(),
+                        investors.get(5).getName(), investors.get(7).getName());
+    }
+
+    @Test
+    @DisplayName("Should keep no more batches in flight than the configured maximum")
+    void bulkInsert_WithConcurrencyAboveMaximum_ShouldCapBatchesInFlight() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(12);
+        BulkInsertUtil capped = createBulkInsertUtil(batchPolicy, 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return BulkWriteResult.acknowledged(invocation.getArgument(0, List.class).size(),
+                        0, 0, 0, List.of(), List.of());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        // When
+        BulkOperationResponse response = capped.bulkInsert(investors, 2, 10);
+
+        // Then
+        verify(collection, times(6)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+        assertThat(response.getSuccessCount()).isEqualTo(12);
+        assertThat(response.getErrors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply the ingest profile and report documents skipped by an ordered batch")
+    void bulkInsert_WithOrderedProfile_ShouldUseWriteConcernAndReportSkippedDocuments() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(4);
+        IngestProfile profile = IngestProfile.builder()
+                .name("safe")
+                .writeConcern(WriteConcern.MAJORITY.withJournal(true))
+                .ordered(true)
+                .batchSize(10)
+                .concurrency(1)
+                .build();
+        when(collection.withWriteConcern(profile.getWriteConcern())).thenReturn(collection);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(bulkWriteException(1, new BulkWriteError(11000,
+                        "E11000 duplicate key error collection: investors index: name_1 dup key",
+                        new BsonDocument(), 1)));
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkInsert(investors, profile);
+
+        // Then
+        ArgumentCaptor<BulkWriteOptions> options = ArgumentCaptor.forClass(BulkWriteOptions.class);
+        verify(collection).bulkWrite(anyList(), options.capture());
+        assertThat(options.getValue().isOrdered()).isTrue();
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(1, 2, 3);
+        assertThat(response.getErrors()).extracting(BulkError::getErrorCode)
+                .containsExactly("DUPLICATE_KEY", "NOT_ATTEMPTED", "NOT_ATTEMPTED");
+    }
+
+    @Test
+    @DisplayName("Should upsert by name and count matched investors as successful")
+    @SuppressWarnings("unchecked")
+    void bulkWrite_WithMergeMode_ShouldUpsertByName() {
+        // Given
+        List<Investor> investors = TestDataBuilder.createInvestorList(3);
+        IngestProfile profile = IngestProfile.builder()
+                .name("standard")
+                .batchSize(10)
+                .concurrency(1)
+                .build();
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 1,
+                        List.of(new BulkWriteUpsert(2, new BsonObjectId())), List.of()));
+
+        // When
+        BulkOperationResponse response = bulkInsertUtil.bulkWrite(investors, profile, WriteMode.MERGE);
+
+        // Then
+        ArgumentCaptor<List<WriteModel<RawBsonDocument>>> models = ArgumentCaptor.forClass(List.class);
+        verify(collection).bulkWrite(models.capture(), any(BulkWriteOptions.class));
+        assertThat(models.getValue()).hasSize(3).allSatisfy(model -> {
+            assertThat(model).isInstanceOf(UpdateOneModel.class);
+            assertThat(((UpdateOneModel<RawBsonDocument>) model).getOptions().isUpsert()).isTrue();
+        });
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getErrors()).isEmpty();
+    }
+
+    /**
+     * Answers the id lookup with every id in its filter when {@code stored}, else none.
+     */
+    @SuppressWarnings("unchecked")
+    private void storedIds(boolean stored) {
+        FindIterable<RawBsonDocument> found = mock(FindIterable.class);
+        when(collection.find(any(Bson.class))).thenAnswer(invocation -> {
+            BsonArray ids = invocation.getArgument(0, Bson.class).toBsonDocument()
+                    .getDocument("_id").getArray("$in");
+            when(found.into(anyList())).thenAnswer(into -> {
+                List<RawBsonDocument> documents = into.getArgument(0);
+                if (stored) {
+                    ids.forEach(id -> documents.add(RawBsonDocument.parse(new BsonDocument("_id", id).toJson())));
+                }
+                return documents;
+            });
+            return found;
+        });
+        when(found.projection(any(Bson.class))).thenReturn(found);
+    }
+
+    private static MongoBulkWriteException bulkWriteException(int insertedCount, BulkWriteError error) {
+        return new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(insertedCount, 0, 0, 0, List.of(), List.of()),
+                List.of(error), null, new ServerAddress(), Set.of());
+    }
+}
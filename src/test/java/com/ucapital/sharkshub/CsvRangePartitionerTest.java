@@ -0,0 +1,204 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.config.IngestProperties;
+import com.ucapital.sharkshub.config.InvestorBatchConfig;
+import com.ucapital.sharkshub.config.InvestorBatchConfig.DelegatingFileItemReader;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import com.ucapital.sharkshub.investor.util.CsvRangePartitioner;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CsvRangePartitioner Tests")
+class CsvRangePartitionerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should cut contiguous record-aligned ranges that together read the whole file")
+    void partition_WithQuotedNewlines_ShouldCoverEveryRecordOnce() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("name,desc_en\r\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append("Investor ").append(i).append(',')
+                    .append(i % 3 == 0 ? "\"Line one\nline, \"\"two\"\"\"" : "Plain").append("\r\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("investors.csv"), csv);
+
+        // When
+        Map<String, ExecutionContext> partitions = new CsvRangePartitioner(file).partition(4);
+
+        // Then
+        assertThat(partitions).hasSize(4);
+        List<String> names = new ArrayList<>();
+        long expectedStart = partitions.get("partition0").getLong(CsvRangePartitioner.HEADER_END_KEY);
+        for (ExecutionContext partition : partitions.values()) {
+            assertThat(partition.getLong(CsvRangePartitioner.START_KEY)).isEqualTo(expectedStart);
+            expectedStart = partition.getLong(CsvRangePartitioner.END_KEY);
+
+            DelegatingFileItemReader reader = new DelegatingFileItemReader(file.toString());
+            reader.setByteRange(partition.getLong(CsvRangePartitioner.HEADER_END_KEY),
+                    partition.getLong(CsvRangePartitioner.START_KEY), partition.getLong(CsvRangePartitioner.END_KEY));
+            reader.open(new ExecutionContext());
+            try {
+                InvestorDto investor;
+                while ((investor = reader.read()) != null) {
+                    names.add(investor.getName());
+                    if (investor.getDescriptions().getEn().startsWith("Line")) {
+                        assertThat(investor.getDescriptions().getEn()).isEqualTo("Line one\nline, \"two\"");
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        assertThat(expectedStart).isEqualTo(Files.size(file));
+        assertThat(names).hasSize(200).doesNotHaveDuplicates().startsWith("Investor 0").endsWith("Investor 199");
+    }
+
+    @Test
+    @DisplayName("Should rerun only the failed partition from its last commit when the job is restarted")
+    void restart_WithOneFailedPartition_ShouldResumeOnlyThatPartition() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("name,status\n");
+        for (int i = 0; i < 4000; i++) {
+            csv.append("Investor ").append(i).append(",active\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("investors.csv"), csv);
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("filePath", file.toString())
+                .addLong("partitions", 4L, false)
+                .toJobParameters();
+
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(PartitionedJobConfig.class)) {
+            // A synchronous launcher, so each run returns once the job has finished
+            TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+            jobLauncher.setJobRepository(context.getBean(JobRepository.class));
+            jobLauncher.afterPropertiesSet();
+            Job job = context.getBean("investorBulkJob", Job.class);
+            List<String> written = context.getBean(PartitionedJobConfig.class).written;
+
+            // When
+            JobExecution failed = jobLauncher.run(job, parameters);
+            int writtenBeforeRestart = written.size();
+            context.getBean(PartitionedJobConfig.class).outage.set(false);
+            JobExecution restarted = jobLauncher.run(job, parameters);
+
+            // Then
+            assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+            assertThat(workers(failed)).hasSize(4)
+                    .filteredOn(step -> step.getStatus() == BatchStatus.FAILED).hasSize(1);
+            assertThat(writtenBeforeRestart).isBetween(3000, 3999);
+
+            assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(workers(restarted)).singleElement()
+                    .satisfies(step -> assertThat(step.getReadCount()).isEqualTo(4000 - writtenBeforeRestart));
+            assertThat(written).hasSize(4000).doesNotHaveDuplicates();
+        }
+    }
+
+    // On restart the splitter also lists unsaved executions for the partitions it skips
+    private static List<StepExecution> workers(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+                .filter(step -> step.getId() != null)
+                .filter(step -> !InvestorBatchConfig.PARTITIONED_STEP_NAME.equals(step.getStepName()))
+                .toList();
+    }
+
+    @Configuration
+    @EnableBatchProcessing
+    @Import(InvestorBatchConfig.class)
+    static class PartitionedJobConfig {
+
+        private final List<String> written = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean outage = new AtomicBoolean(true);
+
+        @Bean
+        public DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("/org/springframework/batch/core/schema-h2.sql")
+                    .build();
+        }
+
+        @Bean
+        public JdbcTransactionManager transactionManager(DataSource dataSource) {
+            return new JdbcTransactionManager(dataSource);
+        }
+
+        @Bean
+        public MongoTemplate mongoTemplate() {
+            MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+            when(mongoTemplate.findDistinct(any(Query.class), eq("name"), anyString(), eq(String.class)))
+                    .thenReturn(List.of());
+            return mongoTemplate;
+        }
+
+        @Bean
+        public IngestProfiles ingestProfiles() {
+            return new IngestProfiles(new IngestProperties(), 8);
+        }
+
+        @Bean
+        public AdaptiveBatchPolicy batchChunkPolicy() {
+            return new AdaptiveBatchPolicy("batch-chunk", 100, 100, 100, 1 << 20, Duration.ofSeconds(1),
+                    new SimpleMeterRegistry());
+        }
+
+        // Replaces the Mongo writer; fails any write holding "Investor 2500" until the outage ends
+        @Bean
+        public ItemWriter<InvestorDto> writer() {
+            return chunk -> {
+                if (chunk.getItems().stream().anyMatch(investor -> "Investor 2500".equals(investor.getName()))
+                        && outage.get()) {
+                    // The step skips any Exception, so only an Error fails it
+                    throw new Error("Simulated outage");
+                }
+                chunk.forEach(investor -> written.add(investor.getName()));
+            };
+        }
+    }
+}
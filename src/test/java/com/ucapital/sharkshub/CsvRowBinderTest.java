@@ -0,0 +1,65 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.CsvRowBinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvRowBinder Tests")
+class CsvRowBinderTest {
+
+    @Test
+    @DisplayName("Should bind quoted cells, lists, numbers and nested objects through the compiled header")
+    void bind_WithFullRow_ShouldPopulateInvestor() {
+        // Given
+        CsvRowBinder binder = CsvRowBinder.compile(new String[]{
+                "name", "isOld", "impressions", "sectors", "hqLocation.city", "hqLocation.unknown",
+                "financials.invMin", "descriptions.en", "contacts[3].firstName", "contacts[3].orderNum",
+                "contacts[7].email", "nickname"});
+
+        // When
+        InvestorDto investor = binder.bind(" \"Beta, \"\"Inc.\"\"\" ,TRUE,42,Fintech|SaaS|,Milan,x,"
+                + "1000.50, ,Ada,2,nobody@example.com,Bee");
+
+        // Then
+        assertThat(investor.getName()).isEqualTo("Beta, \"Inc.\"");
+        assertThat(investor.getIsOld()).isTrue();
+        assertThat(investor.getImpressions()).isEqualTo(42);
+        assertThat(investor.getSectors()).containsExactly("Fintech", "SaaS");
+        assertThat(investor.getHqLocation().getCity()).isEqualTo("Milan");
+        assertThat(investor.getFinancials().getInvMin()).isEqualTo(new BigDecimal("1000.50"));
+        assertThat(investor.getDescriptions().getEn()).isEmpty();
+        assertThat(investor.getContacts()).containsExactly(ContactsDto.builder().firstName("Ada").orderNum(2).build());
+        assertThat(binder.valueCount()).isEqualTo(binder.columnCount());
+    }
+
+    @Test
+    @DisplayName("Should bind only the columns a short row has and keep defaults for bad numbers")
+    void bind_WithShortRowAndBadNumbers_ShouldKeepDefaults() {
+        // Given
+        CsvRowBinder binder = CsvRowBinder.compile(new String[]{
+                "name", "impressions", "completenessScore", "financials.invMax", "hqLocation.city",
+                "contacts[0].lastName"});
+
+        // When
+        InvestorDto first = binder.bind("Alpha,lots,99999999999,");
+        InvestorDto second = binder.bind("Gamma,,,,,Hopper");
+
+        // Then
+        assertThat(binder.valueCount()).isEqualTo(6);
+        assertThat(first.getImpressions()).isZero();
+        assertThat(first.getCompletenessScore()).isNull();
+        assertThat(first.getFinancials()).isNotNull();
+        assertThat(first.getFinancials().getInvMax()).isNull();
+        assertThat(first.getHqLocation()).isNull();
+        assertThat(first.getContacts()).isEmpty();
+        assertThat(first.getSectors()).isEmpty();
+        assertThat(second.getHqLocation().getCity()).isEmpty();
+        assertThat(second.getContacts()).extracting(ContactsDto::getLastName).containsExactly("Hopper");
+    }
+}
@@ -0,0 +1,96 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.FileParser;
+import com.ucapital.sharkshub.investor.util.StreamingElementReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FileParser Tests")
+class FileParserTest {
+
+    private final FileParser fileParser = new FileParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should stream CSV rows one at a time, skipping blank lines")
+    void openReader_WithCsv_ShouldYieldRowsInOrder() throws Exception {
+        // Given
+        MockMultipartFile file = file("investors.csv", "text/csv",
+                "name,type,hqLocation.city,contacts[0].firstName,contacts[0].lastName\n"
+                        + "Alpha,VC,Milan,Ada,Lovelace\n\n"
+                        + "\"Beta, Inc.\",PE,,,\n");
+
+        // When / Then
+        try (StreamingElementReader<InvestorDto> reader = fileParser.openReader(file)) {
+            InvestorDto alpha = reader.next();
+            assertThat(alpha.getHqLocation().getCity()).isEqualTo("Milan");
+            assertThat(alpha.getContacts()).hasSize(1);
+            InvestorDto beta = reader.next();
+            assertThat(beta.getName()).isEqualTo("Beta, Inc.");
+            assertThat(reader.index()).isEqualTo(1);
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept a JSON array or a single object and reject an empty CSV")
+    void parseFile_WithJsonArrayOrObject_ShouldReturnInvestors() throws Exception {
+        // When
+        List<InvestorDto> array = fileParser.parseFile(
+                file("investors.json", "application/json", "[{\"name\":\"Alpha\"},{\"name\":\"Beta\"}]"));
+        List<InvestorDto> single = fileParser.parseFile(
+                file("investor.json", "application/json", "{\"name\":\"Gamma\"}"));
+
+        // Then
+        assertThat(array).extracting(InvestorDto::getName).containsExactly("Alpha", "Beta");
+        assertThat(single).extracting(InvestorDto::getName).containsExactly("Gamma");
+        assertThatThrownBy(() -> fileParser.parseFile(file("empty.csv", "text/csv", "")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("empty");
+    }
+
+    @Test
+    @DisplayName("Should decompress gzip and zip uploads while parsing, picking the format from the inner name")
+    void openReader_WithCompressedUploads_ShouldParseDecompressedContent() throws Exception {
+        // Given
+        byte[] csv = "name,type\nAlpha,VC\nBeta,PE\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(csv);
+        }
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zipped)) {
+            out.putNextEntry(new ZipEntry("export/"));
+            out.putNextEntry(new ZipEntry("export/investors.json"));
+            out.write("[{\"name\":\"Gamma\"}]".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // When
+        List<InvestorDto> fromGzip = fileParser.parseFile(new MockMultipartFile("file", "investors.csv.gz",
+                "application/gzip", gzipped.toByteArray()));
+        List<InvestorDto> fromZip = fileParser.parseFile(new MockMultipartFile("file", "investors.zip",
+                "application/zip", zipped.toByteArray()));
+
+        // Then
+        assertThat(fromGzip).extracting(InvestorDto::getName).containsExactly("Alpha", "Beta");
+        assertThat(fromZip).extracting(InvestorDto::getName).containsExactly("Gamma");
+        assertThat(fileParser.isCsv(new MockMultipartFile("file", "investors.csv.gz", "text/csv", csv))).isFalse();
+    }
+
+    private static MockMultipartFile file(String name, String contentType, String content) {
+        return new MockMultipartFile("file", name, contentType, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,303 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.exception.IdempotencyConflictException;
+import com.ucapital.sharkshub.investor.model.IdempotencyRecord;
+import com.ucapital.sharkshub.investor.repository.IdempotencyRecordRepository;
+import com.ucapital.sharkshub.investor.service.IdempotencyService;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.indexOps(IdempotencyRecord.class)).thenReturn(indexOperations);
+        lenient().when(repository.insert(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            if (records.putIfAbsent(record.getKey(), record) != null) {
+                throw new DuplicateKeyException(record.getKey());
+            }
+            return record;
+        });
+        lenient().when(repository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(records.get(invocation.<String>getArgument(0))));
+        lenient().when(mongoTemplate.remove(any(Query.class), eq(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            Document criteria = invocation.<Query>getArgument(0).getQueryObject();
+            AtomicBoolean removed = new AtomicBoolean();
+            records.computeIfPresent(criteria.getString("_id"), (key, record) -> {
+                removed.set(matches(record, criteria));
+                return removed.get() ? null : record;
+            });
+            return DeleteResult.acknowledged(removed.get() ? 1 : 0);
+        });
+        lenient().when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(IdempotencyRecord.class)))
+                .thenAnswer(invocation -> {
+                    Document criteria = invocation.<Query>getArgument(0).getQueryObject();
+                    Document set = (Document) invocation.<Update>getArgument(1).getUpdateObject().get("$set");
+                    AtomicBoolean updated = new AtomicBoolean();
+                    records.computeIfPresent(criteria.getString("_id"), (key, record) -> {
+                        if (!matches(record, criteria)) {
+                            return record;
+                        }
+                        updated.set(true);
+                        IdempotencyRecord copy = new IdempotencyRecord(record.getKey(), record.getFingerprint(),
+                                record.getOwner(), record.getStatus(), record.getResponse(),
+                                record.getCreatedAt(), record.getExpiresAt());
+                        if (set.containsKey("status")) {
+                            copy.setStatus((IdempotencyRecord.Status) set.get("status"));
+                        }
+                        if (set.containsKey("response")) {
+                            copy.setResponse(set.getString("response"));
+                        }
+                        if (set.containsKey("expiresAt")) {
+                            copy.setExpiresAt((Instant) set.get("expiresAt"));
+                        }
+                        return copy;
+                    });
+                    int matched = updated.get() ? 1 : 0;
+                    return UpdateResult.acknowledged(matched, (long) matched, null);
+                });
+
+        idempotencyService = new IdempotencyService(repository, mongoTemplate, new ObjectMapper().findAndRegisterModules(),
+                24, 1800, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response and reject the key for a different payload")
+    void execute_WithRepeatedKey_ShouldReplayResponse() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        BulkOperationResponse original = BulkOperationResponse.builder().totalProcessed(3).successCount(2).build();
+        original.addError(1, "Duplicate", "DUPLICATE_KEY", "duplicate");
+
+        // When
+        IdempotencyService.Outcome first = idempotencyService.execute("key-1", "a", () -> {
+            runs.incrementAndGet();
+            return original;
+        });
+        IdempotencyService.Outcome retry = idempotencyService.execute("key-1", "a", () -> {
+            runs.incrementAndGet();
+            return BulkOperationResponse.builder().build();
+        });
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response().getSuccessCount()).isEqualTo(2);
+        assertThat(retry.response().getErrorSummary().getFailedItemRanges()).isEqualTo("1");
+        assertThat(retry.response().getErrors()).hasSize(1);
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", "b", BulkOperationResponse::new))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .extracting("status").isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @DisplayName("Should make a concurrent duplicate wait for the first request instead of running")
+    void execute_WithConcurrentDuplicate_ShouldWaitForFirst() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IdempotencyService.BulkOperation slowImport = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            awaitQuietly(release);
+            return BulkOperationResponse.builder().totalProcessed(5).successCount(5).build();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<IdempotencyService.Outcome> first = executor.submit(() -> idempotencyService.execute("key-2", "a", slowImport));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<IdempotencyService.Outcome> duplicate = executor.submit(() -> idempotencyService.execute("key-2", "a", slowImport));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+            assertThat(duplicate.get().response().getSuccessCount()).isEqualTo(5);
+            assertThat(runs).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should release the key when the request fails so a retry runs it again")
+    void execute_WhenOperationFails_ShouldReleaseKey() throws Exception {
+        // When
+        assertThatThrownBy(() -> idempotencyService.execute("key-3", "a", () -> {
+            throw new IOException("upload interrupted");
+        })).isInstanceOf(IOException.class);
+        IdempotencyService.Outcome retry = idempotencyService.execute("key-3", "a",
+                () -> BulkOperationResponse.builder().successCount(1).build());
+
+        // Then
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.response().getSuccessCount()).isEqualTo(1);
+        assertThat(records.get("key-3").getStatus()).isEqualTo(IdempotencyRecord.Status.COMPLETED);
+        verify(indexOperations, times(1)).ensureIndex(any());
+    }
+
+    @Test
+    @DisplayName("Should take over an expired claim only once when two retries see it")
+    void execute_WithExpiredClaim_ShouldNotRemoveNewClaim() throws Exception {
+        // Given
+        Instant past = Instant.now().minusSeconds(60);
+        IdempotencyRecord expired = new IdempotencyRecord("key-4", "a", "dead-owner",
+                IdempotencyRecord.Status.IN_PROGRESS, null, past, past);
+        records.put("key-4", expired);
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        IdempotencyService.Outcome outcome = idempotencyService.execute("key-4", "a", () -> {
+            runs.incrementAndGet();
+            // A second retry that read the same expired record now tries to take it over
+            mongoTemplate.remove(Query.query(where("_id").is("key-4").and("expiresAt").is(expired.getExpiresAt())),
+                    IdempotencyRecord.class);
+            assertThat(records.get("key-4").getOwner()).isNotEqualTo("dead-owner");
+            return BulkOperationResponse.builder().successCount(1).build();
+        });
+
+        // Then
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(runs).hasValue(1);
+        assertThat(records.get("key-4").getStatus()).isEqualTo(IdempotencyRecord.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should leave the claim of a request that took over the key untouched")
+    void execute_WhenClaimTakenOver_ShouldNotReleaseOrOverwriteNewOwner() throws Exception {
+        // Given
+        Instant later = Instant.now().plusSeconds(600);
+        IdempotencyRecord takeover = new IdempotencyRecord("key-5", "a", "new-owner",
+                IdempotencyRecord.Status.IN_PROGRESS, null, Instant.now(), later);
+
+        // When
+        assertThatThrownBy(() -> idempotencyService.execute("key-5", "a", () -> {
+            records.put("key-5", takeover);
+            throw new IOException("upload interrupted");
+        })).isInstanceOf(IOException.class);
+        idempotencyService.execute("key-6", "a", () -> {
+            records.put("key-6", takeover);
+            return BulkOperationResponse.builder().successCount(1).build();
+        });
+
+        // Then
+        assertThat(records.get("key-5")).isSameAs(takeover);
+        assertThat(records.get("key-6")).isSameAs(takeover);
+    }
+
+    @Test
+    @DisplayName("Should renew the lease so a long request is not taken over and run again")
+    void execute_WithRequestOutlivingLease_ShouldRenewLease() throws Exception {
+        // Given
+        idempotencyService.shutdown();
+        idempotencyService = new IdempotencyService(repository, mongoTemplate, new ObjectMapper().findAndRegisterModules(),
+                24, 1, 5);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        IdempotencyService.BulkOperation longImport = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                Thread.sleep(2500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return BulkOperationResponse.builder().successCount(7).build();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<IdempotencyService.Outcome> first = executor.submit(() -> idempotencyService.execute("key-7", "a", longImport));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(1500);
+            Future<IdempotencyService.Outcome> retry = executor.submit(() -> idempotencyService.execute("key-7", "a", longImport));
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+            assertThat(retry.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+            assertThat(retry.get().response().getSuccessCount()).isEqualTo(7);
+            assertThat(runs).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean matches(IdempotencyRecord record, Document criteria) {
+        return (!criteria.containsKey("owner") || Objects.equals(criteria.get("owner"), record.getOwner()))
+                && (!criteria.containsKey("expiresAt") || Objects.equals(criteria.get("expiresAt"), record.getExpiresAt()))
+                && (!criteria.containsKey("status") || Objects.equals(criteria.get("status"), record.getStatus()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
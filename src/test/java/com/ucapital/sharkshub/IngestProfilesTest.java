@@ -0,0 +1,80 @@
+package com.ucapital.sharkshub;
+
+import com.mongodb.WriteConcern;
+import com.ucapital.sharkshub.config.IngestProperties;
+import com.ucapital.sharkshub.investor.exception.UnknownIngestProfileException;
+import com.ucapital.sharkshub.investor.util.IngestProfile;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IngestProfiles Tests")
+class IngestProfilesTest {
+
+    private IngestProfiles ingestProfiles;
+
+    @BeforeEach
+    void setUp() {
+        IngestProperties properties = new IngestProperties();
+        properties.setMaxBatchSize(2000);
+
+        IngestProperties.Profile bulkLoad = new IngestProperties.Profile();
+        bulkLoad.setW("1");
+        bulkLoad.setJournal(false);
+        bulkLoad.setBatchSize(50000);
+        bulkLoad.setConcurrency(32);
+        properties.getProfiles().put("bulk-load", bulkLoad);
+
+        IngestProperties.Profile safe = new IngestProperties.Profile();
+        safe.setJournal(true);
+        safe.setOrdered(true);
+        safe.setBatchSize(500);
+        safe.setConcurrency(2);
+        properties.getProfiles().put("safe", safe);
+
+        ingestProfiles = new IngestProfiles(properties, 8);
+    }
+
+    @Test
+    @DisplayName("Should build write concerns and cap limits to what the server allows")
+    void resolve_WithConfiguredProfiles_ShouldApplyServerCaps() {
+        // When
+        IngestProfile bulkLoad = ingestProfiles.resolve("bulk-load");
+        IngestProfile safe = ingestProfiles.resolve("safe");
+
+        // Then
+        assertThat(bulkLoad.getWriteConcern()).isEqualTo(new WriteConcern(1).withJournal(false));
+        assertThat(bulkLoad.getBatchSize()).isEqualTo(2000);
+        assertThat(bulkLoad.getConcurrency()).isEqualTo(8);
+        assertThat(safe.getWriteConcern()).isEqualTo(WriteConcern.MAJORITY.withJournal(true));
+        assertThat(safe.isOrdered()).isTrue();
+        assertThat(safe.getBatchSize()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default profile when none is requested")
+    void resolve_WithoutName_ShouldReturnDefaultProfile() {
+        // When
+        IngestProfile profile = ingestProfiles.resolve(" ");
+
+        // Then
+        assertThat(profile.getName()).isEqualTo("standard");
+        assertThat(profile.getWriteConcern()).isEqualTo(WriteConcern.MAJORITY);
+        assertThat(profile.getBatchSize()).isZero();
+        assertThat(ingestProfiles.names()).containsExactly("bulk-load", "safe", "standard");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown profile names")
+    void resolve_WithUnknownName_ShouldThrow() {
+        // When / Then
+        assertThatThrownBy(() -> ingestProfiles.resolve("turbo"))
+                .isInstanceOf(UnknownIngestProfileException.class)
+                .hasMessageContaining("turbo")
+                .hasMessageContaining("bulk-load");
+    }
+}
@@ -0,0 +1,146 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.config.InvestorBatchConfig;
+import com.ucapital.sharkshub.config.InvestorBatchConfig.DelegatingFileItemReader;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import com.ucapital.sharkshub.investor.util.AdaptiveChunkPolicy;
+import com.ucapital.sharkshub.investor.util.ImportedNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Investor Bulk Step Tests")
+class InvestorBulkStepTest {
+
+    private final InvestorBatchConfig batchConfig = new InvestorBatchConfig();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should write every distinct name once across chunk threads without checkpointing the reader")
+    void run_WithFourThreads_ShouldDedupeAcrossThreadsAndKeepNoReadState() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("name,status\n");
+        for (int i = 0; i < 2000; i++) {
+            csv.append("Investor ").append(i % 1500).append(",active\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("investors.csv"), csv);
+
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("name"), anyString(), eq(String.class)))
+                .thenReturn(List.of());
+
+        Set<String> writtenBy = ConcurrentHashMap.newKeySet();
+        List<String> written = new CopyOnWriteArrayList<>();
+        ItemWriter<InvestorDto> writer = chunk -> {
+            writtenBy.add(Thread.currentThread().getName());
+            chunk.forEach(investor -> written.add(investor.getName()));
+        };
+
+        JobRepository jobRepository = new ResourcelessJobRepository();
+        AdaptiveChunkPolicy chunkPolicy = new AdaptiveChunkPolicy(new AdaptiveBatchPolicy("test", 100, 50, 100,
+                1 << 20, Duration.ofSeconds(1), new SimpleMeterRegistry()), 100);
+        DelegatingFileItemReader reader = batchConfig.fileItemReader(file.toString(), 4L, null, null, null, 4);
+
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.afterPropertiesSet();
+
+        // When
+        JobExecution execution = launcher.run(new JobBuilder("investorBulkJob", jobRepository)
+                .start(batchConfig.investorBulkStep(jobRepository, new ResourcelessTransactionManager(), reader,
+                        batchConfig.processor(mongoTemplate, new ImportedNames(), 1L, null), writer, chunkPolicy,
+                        4L, 4, false))
+                .build(), new JobParameters());
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution step = execution.getStepExecutions().iterator().next();
+        assertThat(step.getReadCount()).isEqualTo(2000);
+        assertThat(step.getFilterCount()).isEqualTo(500);
+        assertThat(written).hasSize(1500).doesNotHaveDuplicates();
+        assertThat(writtenBy).allMatch(thread -> thread.startsWith("bulk-file-"));
+        assertThat(step.getExecutionContext().containsKey("FlatFileItemReader.read.count")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write every item of a rolled-back chunk instead of dropping its claimed names")
+    void run_WithRolledBackChunk_ShouldNotReprocessClaimedNames() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("name,status\n");
+        for (int i = 0; i < 300; i++) {
+            csv.append("Investor ").append(i).append(",active\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("investors.csv"), csv);
+
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("name"), anyString(), eq(String.class)))
+                .thenReturn(List.of());
+
+        // Fails the second chunk once, so it is rolled back and then written item by item
+        AtomicBoolean failed = new AtomicBoolean();
+        List<String> written = new CopyOnWriteArrayList<>();
+        ItemWriter<InvestorDto> writer = chunk -> {
+            if (chunk.getItems().stream().anyMatch(investor -> "Investor 150".equals(investor.getName()))
+                    && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Simulated write failure");
+            }
+            chunk.forEach(investor -> written.add(investor.getName()));
+        };
+
+        JobRepository jobRepository = new ResourcelessJobRepository();
+        AdaptiveChunkPolicy chunkPolicy = new AdaptiveChunkPolicy(new AdaptiveBatchPolicy("test", 100, 100, 100,
+                1 << 20, Duration.ofSeconds(1), new SimpleMeterRegistry()), 100);
+        DelegatingFileItemReader reader = batchConfig.fileItemReader(file.toString(), null, null, null, null, 4);
+
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.afterPropertiesSet();
+
+        // When
+        JobExecution execution = launcher.run(new JobBuilder("investorBulkJob", jobRepository)
+                .start(batchConfig.investorBulkStep(jobRepository, new ResourcelessTransactionManager(), reader,
+                        batchConfig.processor(mongoTemplate, new ImportedNames(), 1L, null), writer, chunkPolicy,
+                        null, 4, false))
+                .build(), new JobParameters());
+
+        // Then
+        assertThat(failed).isTrue();
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution step = execution.getStepExecutions().iterator().next();
+        assertThat(step.getRollbackCount()).isPositive();
+        assertThat(step.getFilterCount()).isZero();
+        assertThat(written).hasSize(300).doesNotHaveDuplicates();
+    }
+}
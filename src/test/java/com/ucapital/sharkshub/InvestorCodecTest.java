@@ -0,0 +1,221 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.investor.codec.InvestorCodec;
+import com.ucapital.sharkshub.investor.codec.InvestorDtoCodec;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.model.Investor;
+import com.ucapital.sharkshub.investor.service.InvestorServiceImpl;
+import com.ucapital.sharkshub.util.TestDataBuilder;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoClientSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvestorCodec Tests")
+class InvestorCodecTest {
+
+    private static final CodecRegistry DEFAULT_REGISTRY = MongoClientSettings.getDefaultCodecRegistry();
+
+    private InvestorServiceImpl investorService;
+
+    private MappingMongoConverter converter;
+    private InvestorCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        codec = new InvestorCodec();
+
+        // Only the DTO/entity conversion is exercised, which needs no collaborators
+        investorService = new InvestorServiceImpl(null, null, null, null, null, null, null, null, null, null,
+                new ObjectMapper(), null, 1000, -1, 1, false);
+    }
+
+    @Nested
+    @DisplayName("Entity Codec Tests")
+    class EntityCodecTests {
+
+        @Test
+        @DisplayName("Should write the same document as MappingMongoConverter for a complete investor")
+        void encode_WithCompleteInvestor_ShouldMatchConverter() {
+            // Given
+            Investor investor = completeInvestor();
+
+            // When & Then
+            assertThat(encode(investor)).isEqualTo(convert(investor));
+        }
+
+        @Test
+        @DisplayName("Should write the same document as MappingMongoConverter for a minimal investor")
+        void encode_WithMinimalInvestor_ShouldMatchConverter() {
+            // Given
+            Investor investor = new Investor();
+            investor.setId("inv-1");
+            investor.setName("Minimal Investor");
+
+            // When & Then
+            assertThat(encode(investor)).isEqualTo(convert(investor));
+        }
+
+        @Test
+        @DisplayName("Should store ObjectId-shaped ids as ObjectId like the converter")
+        void encode_WithObjectIdString_ShouldWriteObjectId() {
+            // Given
+            Investor investor = completeInvestor();
+            investor.setId(new ObjectId().toHexString());
+
+            // When
+            BsonDocument encoded = encode(investor);
+
+            // Then
+            assertThat(encoded.get("_id").isObjectId()).isTrue();
+            assertThat(encoded).isEqualTo(convert(investor));
+        }
+
+        @Test
+        @DisplayName("Should generate an ObjectId when the investor has no id")
+        void encode_WithoutId_ShouldGenerateObjectId() {
+            // Given
+            Investor investor = completeInvestor();
+            investor.setId(null);
+
+            // When
+            BsonDocument encoded = encode(investor);
+
+            // Then
+            assertThat(encoded.get("_id").isObjectId()).isTrue();
+            encoded.remove("_id");
+            assertThat(encoded).isEqualTo(convert(investor));
+        }
+
+        @Test
+        @DisplayName("Should decode what it encodes")
+        void decode_AfterEncode_ShouldRoundTrip() {
+            // Given
+            Investor investor = completeInvestor();
+
+            // When
+            RawBsonDocument raw = new RawBsonDocument(investor, codec);
+            Investor decoded = codec.decode(raw.asBsonReader(), DecoderContext.builder().build());
+
+            // Then
+            assertThat(decoded).isEqualTo(investor);
+        }
+    }
+
+    @Nested
+    @DisplayName("DTO Codec Tests")
+    class DtoCodecTests {
+
+        @Test
+        @DisplayName("Should write the same document as converting the DTO to an entity first")
+        void encode_WithCompleteDto_ShouldMatchEntityEncoding() {
+            // Given
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            InvestorDto dto = TestDataBuilder.createCompleteInvestorDto();
+            Investor investor = investorService.convertToEntity(dto);
+            investor.setCreatedAt(now);
+            investor.setUpdatedAt(now);
+
+            // When
+            BsonDocument fromDto = mutable(new InvestorDtoCodec(Clock.fixed(now, ZoneOffset.UTC))
+                    .toRawDocument(dto));
+
+            // Then
+            BsonDocument expected = convert(investor);
+            assertThat(contacts(fromDto)).isEqualTo(contacts(expected));
+            fromDto.remove("contacts");
+            expected.remove("contacts");
+            assertThat(fromDto).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should default missing lists and contacts like the entity does")
+        void encode_WithMinimalDto_ShouldMatchEntityEncoding() {
+            // Given
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            InvestorDto dto = new InvestorDto();
+            dto.setId("inv-2");
+            dto.setName("Minimal Investor");
+            Investor investor = investorService.convertToEntity(dto);
+            investor.setCreatedAt(now);
+            investor.setUpdatedAt(now);
+
+            // When
+            BsonDocument fromDto = mutable(new InvestorDtoCodec(Clock.fixed(now, ZoneOffset.UTC))
+                    .toRawDocument(dto));
+
+            // Then
+            assertThat(fromDto).isEqualTo(convert(investor));
+        }
+    }
+
+    private BsonDocument encode(Investor investor) {
+        return mutable(new RawBsonDocument(investor, codec));
+    }
+
+    private static BsonDocument mutable(RawBsonDocument raw) {
+        return new BsonDocumentCodec().decode(raw.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    private BsonDocument convert(Investor investor) {
+        Document document = new Document();
+        converter.write(investor, document);
+        return document.toBsonDocument(BsonDocument.class, DEFAULT_REGISTRY);
+    }
+
+    private static Set<BsonValue> contacts(BsonDocument document) {
+        BsonArray contacts = document.getArray("contacts");
+        return new HashSet<>(contacts.getValues());
+    }
+
+    private static Investor completeInvestor() {
+        Investor investor = TestDataBuilder.InvestorBuilder.anInvestor().withDefaults().build();
+        investor.setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        investor.setUpdatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        investor.setHqLocation(Investor.Address.builder()
+                .address("1 Main St").city("Milan").country("Italy").email("hq@test.com").build());
+        investor.setFinancials(Investor.Financials.builder()
+                .invMin(new BigDecimal("100000.50")).invMax(new BigDecimal("1E+7")).ebitMax(BigDecimal.ZERO).build());
+        investor.setDescriptions(Investor.InvDescriptions.builder().it("Descrizione").en("Description").build());
+        investor.setContacts(new HashSet<>(List.of(
+                Investor.Contacts.builder().firstName("Ada").lastName("Lovelace").orderNum(1).build(),
+                Investor.Contacts.builder().firstName("Alan").lastName("Turing").email("alan@test.com").build())));
+        return investor;
+    }
+}
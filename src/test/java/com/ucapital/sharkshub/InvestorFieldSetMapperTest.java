@@ -0,0 +1,93 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.config.InvestorBatchConfig.DelegatingFileItemReader;
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvestorFieldSetMapper Tests")
+class InvestorFieldSetMapperTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should map a reordered subset of columns by header and leave empty nested objects unset")
+    void read_WithReorderedSubsetHeader_ShouldMapByName() throws Exception {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("investors.csv"),
+                "contact_lastName,invMax,nickname,name,hqCity,isOld,sectors,impressions\n"
+                        + "Hopper,1.5e6,Bee,\" Alpha, Inc. \",Milan,true,Fintech; SaaS,42\n"
+                        + ",12abc,,Beta,,TRUE,,lots\n");
+
+        // When
+        List<InvestorDto> investors = readAll(file);
+
+        // Then
+        assertThat(investors).hasSize(2);
+
+        InvestorDto alpha = investors.get(0);
+        assertThat(alpha.getName()).isEqualTo("Alpha, Inc.");
+        assertThat(alpha.getHqLocation().getCity()).isEqualTo("Milan");
+        assertThat(alpha.getFinancials().getInvMax()).isEqualByComparingTo(new BigDecimal("1500000"));
+        assertThat(alpha.getIsOld()).isTrue();
+        assertThat(alpha.getSectors()).containsExactly("Fintech", "SaaS");
+        assertThat(alpha.getContacts()).extracting(ContactsDto::getLastName).containsExactly("Hopper");
+        assertThat(alpha.getImpressions()).isEqualTo(42);
+        assertThat(alpha.getDescriptions()).isNull();
+
+        InvestorDto beta = investors.get(1);
+        assertThat(beta.getName()).isEqualTo("Beta");
+        assertThat(beta.getIsOld()).isFalse();
+        assertThat(beta.getImpressions()).isZero();
+        assertThat(beta.getFinancials()).isNull();
+        assertThat(beta.getHqLocation()).isNull();
+        assertThat(beta.getContacts()).isEmpty();
+        assertThat(beta.getSectors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read columns in the legacy order when the header names no known column")
+    void read_WithUnrecognisedHeader_ShouldUseLegacyOrder() throws Exception {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("legacy.csv"),
+                "Investor export,,\n"
+                        + "Gamma,active,Europe;Asia\n");
+
+        // When
+        List<InvestorDto> investors = readAll(file);
+
+        // Then
+        assertThat(investors).singleElement().satisfies(investor -> {
+            assertThat(investor.getName()).isEqualTo("Gamma");
+            assertThat(investor.getStatus()).isEqualTo("active");
+            assertThat(investor.getPreferredGeographicalAreas()).containsExactly("Europe", "Asia");
+        });
+    }
+
+    private static List<InvestorDto> readAll(Path file) throws Exception {
+        DelegatingFileItemReader reader = new DelegatingFileItemReader(file.toString());
+        reader.open(new ExecutionContext());
+        try {
+            List<InvestorDto> investors = new ArrayList<>();
+            InvestorDto investor;
+            while ((investor = reader.read()) != null) {
+                investors.add(investor);
+            }
+            return investors;
+        } finally {
+            reader.close();
+        }
+    }
+}
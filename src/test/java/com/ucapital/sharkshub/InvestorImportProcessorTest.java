@@ -0,0 +1,112 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import com.ucapital.sharkshub.investor.util.ImportedNames;
+import com.ucapital.sharkshub.investor.util.InvestorImportProcessor;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("InvestorImportProcessor Tests")
+class InvestorImportProcessorTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Test
+    @DisplayName("Should resolve a chunk's names with one lookup and drop stored and repeated names")
+    void process_WithInsertMode_ShouldLookUpChunkOnce() {
+        // Given
+        when(mongoTemplate.findDistinct(any(Query.class), eq("name"), eq("investors"), eq(String.class)))
+                .thenReturn(List.of("Beta"));
+        InvestorImportProcessor processor =
+                new InvestorImportProcessor(mongoTemplate, "investors", new ImportedNames(), 1L, WriteMode.INSERT);
+        List<InvestorDto> chunk = Stream.of("Alpha", " Beta ", "Alpha", "", "Gamma")
+                .map(name -> InvestorDto.builder().name(name).build())
+                .toList();
+
+        // When
+        chunk.forEach(processor::afterRead);
+        List<String> kept = new ArrayList<>();
+        for (InvestorDto investor : chunk) {
+            InvestorDto output = processor.process(investor);
+            if (output != null) {
+                kept.add(output.getName());
+            }
+        }
+
+        // Then
+        assertThat(kept).containsExactly("Alpha", "Gamma");
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findDistinct(query.capture(), eq("name"), eq("investors"), eq(String.class));
+        assertThat(query.getValue().getQueryObject().get("name", Document.class).getList("$in", String.class))
+                .containsExactlyInAnyOrder("Alpha", "Beta", "Gamma");
+        verify(mongoTemplate, never()).exists(any(Query.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should forget a chunk's names and lookup once the chunk ends")
+    void afterChunk_ShouldClearChunkState() {
+        // Given
+        when(mongoTemplate.findDistinct(any(Query.class), eq("name"), eq("investors"), eq(String.class)))
+                .thenReturn(List.of("Beta", "Delta"));
+        InvestorImportProcessor processor =
+                new InvestorImportProcessor(mongoTemplate, "investors", new ImportedNames(), 1L, WriteMode.INSERT);
+        InvestorDto beta = InvestorDto.builder().name("Beta").build();
+        InvestorDto delta = InvestorDto.builder().name("Delta").build();
+        InvestorDto gamma = InvestorDto.builder().name("Gamma").build();
+
+        // When
+        processor.afterRead(beta);
+        processor.afterRead(gamma);
+        processor.afterChunkError(null);
+        processor.afterRead(beta);
+        InvestorDto storedBeta = processor.process(beta);
+        processor.afterChunk(null);
+
+        // Then
+        assertThat(storedBeta).isNull();
+        assertThat(processor.process(delta)).isSameAs(delta);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findDistinct(query.capture(), eq("name"), eq("investors"), eq(String.class));
+        assertThat(query.getValue().getQueryObject().get("name", Document.class).getList("$in", String.class))
+                .containsExactly("Beta");
+    }
+
+    @Test
+    @DisplayName("Should only drop blank names in upsert modes, without any lookup")
+    void process_WithUpsertMode_ShouldNotLookUpNames() {
+        // Given
+        InvestorImportProcessor processor =
+                new InvestorImportProcessor(mongoTemplate, "investors", new ImportedNames(), 1L, WriteMode.MERGE);
+        InvestorDto alpha = InvestorDto.builder().name("Alpha").build();
+        InvestorDto blank = InvestorDto.builder().name(" ").build();
+
+        // When
+        processor.afterRead(alpha);
+        processor.afterRead(blank);
+
+        // Then
+        assertThat(processor.process(alpha)).isSameAs(alpha);
+        assertThat(processor.process(alpha)).isSameAs(alpha);
+        assertThat(processor.process(blank)).isNull();
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.exception.InvestorValidationException.ValidationError;
+import com.ucapital.sharkshub.investor.validation.FormatScanners;
+import com.ucapital.sharkshub.investor.validation.InvestorRuleSet;
+import com.ucapital.sharkshub.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InvestorRuleSet Tests")
+class InvestorRuleSetTest {
+
+    private static final Pattern URL_PATTERN = Pattern.compile(
+            "^(https?://)?([a-zA-Z0-9]([a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9])?\\.)+[a-zA-Z]{2,}(/.*)?$");
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+
+    @Test
+    @DisplayName("Should accept exactly what the previous email and URL regexes accepted")
+    void formatScanners_ShouldMatchPreviousRegexes() {
+        // Given
+        List<String> samples = List.of(
+                "a@b.co", "first.last@example.com", "a..b@example.com", ".a@example.com", "a.@example.com",
+                "a@example", "a@example.c", "a@example.abcdefgh", "a@ex_ample.com", "a@-x.com", "a@x..com",
+                "a@x.com.", "a+b&c*d-e_f@sub.example.org", "a@b@c.com", "@example.com", "a@.com", "a@x.c0m",
+                "example.com", "https://example.com", "http://example.com/path?q=1", "ftp://example.com",
+                "https://-bad.com", "https://bad-.com", "https://a.b", "https://a.bc/", "https://a.bc/x\ny",
+                "https://" + "a".repeat(63) + ".com", "https://" + "a".repeat(64) + ".com", "a-b.c-d.io",
+                "https://example", "https:/example.com", "https://exa mple.com", "https://example.com/ x",
+                "localhost", "x.y.z.travel", "HTTPS://example.com", "https://example.com\r", "a.b1",
+                "a@b.co\n", "a@b.co\r\n", "example.com\n", "https://example.com/x\n", "https://a.bc/\r\n",
+                "a.bc\u0085", "a.bc\n\n");
+
+        // Then
+        for (String sample : samples) {
+            assertThat(FormatScanners.isEmail(sample)).as("email %s", sample)
+                    .isEqualTo(EMAIL_PATTERN.matcher(sample).matches());
+            assertThat(FormatScanners.isUrl(sample)).as("url %s", sample)
+                    .isEqualTo(URL_PATTERN.matcher(sample).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report every broken rule in one pass, including each contact")
+    void validate_WithInvalidInvestor_ShouldCollectAllErrors() {
+        // Given
+        InvestorDto dto = TestDataBuilder.createValidInvestorDto();
+        dto.setStatus(" ");
+        dto.setWebsite("not a url");
+        dto.setAdminEmail("admin@");
+        dto.setContacts(Set.of(ContactsDto.builder().firstName("Ada").email("ada@").build()));
+        List<ValidationError> errors = new ArrayList<>();
+
+        // When
+        InvestorRuleSet.defaults().validate(dto, errors);
+
+        // Then
+        assertThat(errors).extracting(ValidationError::getFieldName).containsExactly(
+                "status", "website", "adminEmail", "contacts[0].lastName", "contacts[0].email");
+        assertThat(errors).extracting(ValidationError::getErrorMessage).contains(
+                "Status is required", "Invalid website URL format", "Contact last name is required");
+    }
+
+    @Test
+    @DisplayName("Should compile configured rules and reject unknown fields or rules")
+    void compile_WithCustomRules_ShouldApplyThemAndFailFast() {
+        // Given
+        Map<String, List<String>> rules = new LinkedHashMap<>(InvestorRuleSet.DEFAULT_RULES);
+        rules.put("status", List.of());
+        rules.put("hqLocation.city", List.of("required", "max-length:3"));
+        InvestorDto dto = TestDataBuilder.createValidInvestorDto();
+        dto.setStatus(null);
+        dto.setHqLocation(null);
+        List<ValidationError> errors = new ArrayList<>();
+
+        // When
+        InvestorRuleSet.compile(rules).validate(dto, errors);
+
+        // Then
+        assertThat(errors).extracting(ValidationError::getFieldName).containsExactly("hqLocation.city");
+        assertThatThrownBy(() -> InvestorRuleSet.compile(Map.of("nickname", List.of("required"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nickname");
+        assertThatThrownBy(() -> InvestorRuleSet.compile(Map.of("name", List.of("unique"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unique");
+    }
+
+    @Test
+    @DisplayName("Should let a specific field rule replace the wildcard rule for that field")
+    void compile_WithSpecificRuleUnderWildcard_ShouldReportEachErrorOnce() {
+        // Given
+        Map<String, List<String>> rules = new LinkedHashMap<>(InvestorRuleSet.DEFAULT_RULES);
+        rules.put("descriptions.en", List.of("max-length:10"));
+        InvestorDto dto = TestDataBuilder.createValidInvestorDto();
+        dto.setDescriptions(InvDescriptionsDto.builder().en("x".repeat(20)).it("y".repeat(20)).build());
+        List<ValidationError> errors = new ArrayList<>();
+
+        // When
+        InvestorRuleSet.compile(rules).validate(dto, errors);
+
+        // Then
+        assertThat(errors).extracting(ValidationError::getFieldName).containsExactly("descriptions.en");
+        assertThat(errors).extracting(ValidationError::getErrorMessage)
+                .containsExactly("Description must not exceed 10 characters");
+    }
+}
@@ -0,0 +1,203 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.WriteConcern;
+import com.ucapital.sharkshub.investor.dto.BulkError;
+import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.dto.ErrorSummary;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.dto.OperationStatus;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import com.ucapital.sharkshub.investor.model.Investor;
+import com.ucapital.sharkshub.investor.repository.InvestorRepository;
+import com.ucapital.sharkshub.investor.service.ErrorReportStore;
+import com.ucapital.sharkshub.investor.service.InvestorServiceImpl;
+import com.ucapital.sharkshub.investor.util.BulkInsertUtil;
+import com.ucapital.sharkshub.investor.util.IngestProfile;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
+import com.ucapital.sharkshub.investor.validation.InvestorRuleSet;
+import com.ucapital.sharkshub.investor.validation.InvestorValidator;
+import com.ucapital.sharkshub.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvestorService Bulk Insert Tests")
+class InvestorServiceBulkInsertTest {
+
+    private static final IngestProfile PROFILE = IngestProfile.builder()
+            .name("standard")
+            .writeConcern(WriteConcern.MAJORITY)
+            .concurrency(1)
+            .build();
+
+    @Mock
+    private InvestorRepository investorRepository;
+
+    @Mock
+    private BulkInsertUtil bulkInsertUtil;
+
+    @Mock
+    private IngestProfiles ingestProfiles;
+
+    @TempDir
+    private Path reportDir;
+
+    private InvestorServiceImpl investorService;
+
+    @BeforeEach
+    void setUp() {
+        when(ingestProfiles.resolve(null)).thenReturn(PROFILE);
+        investorService = service(100);
+    }
+
+    private InvestorServiceImpl service(int errorSampleSize) {
+        InvestorValidator investorValidator = new InvestorValidator(investorRepository, InvestorRuleSet.defaults());
+        ErrorReportStore errorReportStore = new ErrorReportStore(new ObjectMapper(), reportDir.toString(),
+                errorSampleSize, 24);
+        return new InvestorServiceImpl(null, null, investorValidator, null, bulkInsertUtil, null, null,
+                null, null, ingestProfiles, new ObjectMapper(), errorReportStore, 1000, -1, 4, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        investorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should keep payload indexes and order when preparing in parallel")
+    @SuppressWarnings("unchecked")
+    void bulkInsert_WithParallelPreparation_ShouldPreserveIndexes() {
+        // Given
+        List<InvestorDto> dtos = TestDataBuilder.createInvestorDtoList(1500);
+        Set<Integer> invalid = Set.of(7, 999, 1000, 1499);
+        for (int index : invalid) {
+            dtos.get(index).setStatus(null);
+        }
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT))).thenAnswer(invocation ->
+                BulkOperationResponse.builder().successCount(((List<?>) invocation.getArgument(0)).size()).build());
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsert(dtos, null, WriteMode.INSERT);
+
+        // Then
+        ArgumentCaptor<List<Investor>> written = ArgumentCaptor.forClass(List.class);
+        verify(bulkInsertUtil, times(2)).bulkWrite(written.capture(), eq(PROFILE), eq(WriteMode.INSERT));
+        List<Investor> investors = written.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(written.getAllValues()).extracting(List::size).containsExactly(998, 498);
+        assertThat(investors.get(7).getName()).isEqualTo("Test Investor 8");
+        assertThat(investors).extracting(Investor::getName).doesNotContain(
+                "Test Investor 7", "Test Investor 999", "Test Investor 1000", "Test Investor 1499");
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex)
+                .containsExactly(7, 999, 1000, 1499);
+        assertThat(response.getErrors()).extracting(BulkError::getFieldName).containsOnly("status");
+        assertThat(response.getSuccessCount()).isEqualTo(1496);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.PARTIAL_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("Should write each chunk while the next one is prepared")
+    void bulkInsert_WithSeveralChunks_ShouldOverlapWritesWithPreparation() {
+        // Given
+        List<InvestorDto> dtos = TestDataBuilder.createInvestorDtoList(2500);
+        CountDownLatch nextChunkLookedUp = new CountDownLatch(2);
+        List<String> writerThreads = new CopyOnWriteArrayList<>();
+        when(investorRepository.findNamesIn(anyCollection())).thenAnswer(invocation -> {
+            nextChunkLookedUp.countDown();
+            return List.of();
+        });
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT))).thenAnswer(invocation -> {
+            writerThreads.add(Thread.currentThread().getName());
+            // The first chunk's write only returns once the second chunk has been prepared
+            nextChunkLookedUp.await(5, TimeUnit.SECONDS);
+            return BulkOperationResponse.builder().successCount(((List<?>) invocation.getArgument(0)).size()).build();
+        });
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsert(dtos, null, WriteMode.INSERT);
+
+        // Then
+        assertThat(nextChunkLookedUp.getCount()).isZero();
+        assertThat(writerThreads).hasSize(3).allSatisfy(thread -> assertThat(thread).startsWith("bulk-chunk-"));
+        assertThat(response.getSuccessCount()).isEqualTo(2500);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should upsert only the last occurrence of a repeated name and warn about the others")
+    @SuppressWarnings("unchecked")
+    void bulkInsert_WithRepeatedNameInUpsertMode_ShouldKeepLastOccurrence() {
+        // Given
+        List<InvestorDto> dtos = TestDataBuilder.createInvestorDtoList(5);
+        dtos.get(1).setName("Acme Capital");
+        dtos.get(3).setName("Acme Capital");
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.MERGE))).thenAnswer(invocation ->
+                BulkOperationResponse.builder().successCount(((List<?>) invocation.getArgument(0)).size()).build());
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsert(dtos, null, WriteMode.MERGE);
+
+        // Then
+        ArgumentCaptor<List<Investor>> written = ArgumentCaptor.forClass(List.class);
+        verify(bulkInsertUtil).bulkWrite(written.capture(), eq(PROFILE), eq(WriteMode.MERGE));
+        assertThat(written.getValue()).extracting(Investor::getName)
+                .containsExactly("Test Investor 0", "Test Investor 2", "Acme Capital", "Test Investor 4");
+        assertThat(response.getWarnings()).singleElement().asString()
+                .contains("'Acme Capital' at index 1", "index 3");
+        assertThat(response.getErrors()).isEmpty();
+        assertThat(response.getSuccessCount()).isEqualTo(5);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should embed only sample errors and spill the full list to a downloadable report")
+    void bulkInsert_WithManyFailures_ShouldSummarizeAndSpillErrors() throws Exception {
+        // Given
+        investorService.shutdown();
+        investorService = service(2);
+        List<InvestorDto> dtos = TestDataBuilder.createInvestorDtoList(10);
+        for (int index : List.of(0, 1, 2, 3, 7)) {
+            dtos.get(index).setStatus(null);
+        }
+        dtos.get(7).setType(null);
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT))).thenAnswer(invocation ->
+                BulkOperationResponse.builder().successCount(((List<?>) invocation.getArgument(0)).size()).build());
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsert(dtos, null, WriteMode.INSERT);
+
+        // Then
+        ErrorSummary summary = response.getErrorSummary();
+        assertThat(response.getErrors()).hasSize(2);
+        assertThat(summary.isTruncated()).isTrue();
+        assertThat(summary.getByCode()).containsEntry("VALIDATION_ERROR", 6);
+        assertThat(summary.getByField()).containsEntry("status", 5).containsEntry("type", 1);
+        assertThat(summary.getFailedItems()).isEqualTo(5);
+        assertThat(summary.getFailedItemRanges()).isEqualTo("0-3,7");
+
+        Path report = investorService.findErrorReport(summary.getReportId()).orElseThrow();
+        assertThat(Files.readAllLines(report)).hasSize(6);
+        assertThat(investorService.findErrorReport("../" + summary.getReportId())).isEmpty();
+    }
+}
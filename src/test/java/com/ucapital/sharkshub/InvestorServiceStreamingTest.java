@@ -0,0 +1,232 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.WriteConcern;
+import com.ucapital.sharkshub.investor.dto.BulkError;
+import com.ucapital.sharkshub.investor.dto.BulkOperationResponse;
+import com.ucapital.sharkshub.investor.dto.BulkProgress;
+import com.ucapital.sharkshub.investor.dto.OperationStatus;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import com.ucapital.sharkshub.investor.model.Investor;
+import com.ucapital.sharkshub.investor.service.ErrorReportStore;
+import com.ucapital.sharkshub.investor.service.InvestorServiceImpl;
+import com.ucapital.sharkshub.investor.util.BulkInsertUtil;
+import com.ucapital.sharkshub.investor.util.FileParser;
+import com.ucapital.sharkshub.investor.util.IngestProfile;
+import com.ucapital.sharkshub.investor.util.IngestProfiles;
+import com.ucapital.sharkshub.investor.validation.InvestorValidator;
+import com.ucapital.sharkshub.investor.validation.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvestorService Streaming Tests")
+class InvestorServiceStreamingTest {
+
+    private static final IngestProfile PROFILE = IngestProfile.builder()
+            .name("standard")
+            .writeConcern(WriteConcern.MAJORITY)
+            .concurrency(1)
+            .build();
+
+    @Mock
+    private InvestorValidator investorValidator;
+
+    @Mock
+    private BulkInsertUtil bulkInsertUtil;
+
+    @Mock
+    private IngestProfiles ingestProfiles;
+
+    private InvestorServiceImpl investorService;
+
+    @BeforeEach
+    void setUp() {
+        when(ingestProfiles.resolve(null)).thenReturn(PROFILE);
+        investorService = new InvestorServiceImpl(null, null, investorValidator, new FileParser(new ObjectMapper()),
+                bulkInsertUtil, null, null,
+                null, null, ingestProfiles, new ObjectMapper(),
+                new ErrorReportStore(new ObjectMapper(), "", 100, 24), 2, -1, 1, true);
+    }
+
+    @Test
+    @DisplayName("Should write the payload in fixed-size chunks as it is read")
+    @SuppressWarnings("unchecked")
+    void bulkInsertStream_ShouldWriteFixedSizeChunks() throws Exception {
+        // Given
+        when(investorValidator.check(any())).thenReturn(new ValidationResult());
+        when(investorValidator.validateUniqueNames(anyList(), anyList(), anyMap())).thenReturn(List.of());
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT))).thenAnswer(invocation -> {
+            List<Investor> chunk = invocation.getArgument(0);
+            return BulkOperationResponse.builder()
+                    .totalProcessed(chunk.size())
+                    .successCount(chunk.size())
+                    .build();
+        });
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsertStream(investors(5), null, WriteMode.INSERT);
+
+        // Then
+        ArgumentCaptor<List<Investor>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(bulkInsertUtil, times(3)).bulkWrite(chunks.capture(), eq(PROFILE), eq(WriteMode.INSERT));
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(response.getTotalProcessed()).isEqualTo(5);
+        assertThat(response.getSuccessCount()).isEqualTo(5);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should report write errors at their index in the streamed payload")
+    void bulkInsertStream_WithWriteError_ShouldMapIndexToPayload() throws Exception {
+        // Given
+        when(investorValidator.check(any())).thenReturn(new ValidationResult());
+        when(investorValidator.validateUniqueNames(anyList(), anyList(), anyMap())).thenReturn(List.of());
+        BulkOperationResponse firstChunk = BulkOperationResponse.builder().successCount(2).build();
+        BulkOperationResponse secondChunk = BulkOperationResponse.builder().successCount(1).build();
+        secondChunk.addError(1, "Investor 3", "DUPLICATE_KEY", "duplicate");
+        when(bulkInsertUtil.bulkWrite(anyList(), any(IngestProfile.class), eq(WriteMode.INSERT)))
+                .thenReturn(firstChunk, secondChunk);
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsertStream(investors(4), null, WriteMode.INSERT);
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getFailureCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(3);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.PARTIAL_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("Should keep chunks already written when the body turns out to be malformed")
+    void bulkInsertStream_WithTruncatedBody_ShouldReportMalformedJson() throws Exception {
+        // Given
+        when(investorValidator.check(any())).thenReturn(new ValidationResult());
+        when(investorValidator.validateUniqueNames(anyList(), anyList(), anyMap())).thenReturn(List.of());
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT)))
+                .thenReturn(BulkOperationResponse.builder().successCount(2).build())
+                .thenReturn(BulkOperationResponse.builder().successCount(1).build());
+        InputStream body = stream("[{\"name\":\"A\"},{\"name\":\"B\"},{\"name\":\"C\"},{\"name\":");
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsertStream(body, null, WriteMode.INSERT);
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(BulkError::getErrorCode).containsExactly("MALFORMED_JSON");
+        assertThat(response.getErrors()).extracting(BulkError::getItemIndex).containsExactly(BulkError.NO_ITEM);
+        assertThat(response.getErrorSummary().getFailedItemRanges()).isEmpty();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.PARTIAL_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("Should emit one progress line per NDJSON chunk, written on the request thread, and a final summary")
+    void bulkInsertNdjson_ShouldReportProgressPerChunk() throws Exception {
+        // Given
+        when(investorValidator.check(any())).thenReturn(new ValidationResult());
+        when(investorValidator.validateUniqueNames(anyList(), anyList(), anyMap())).thenReturn(List.of());
+        Thread requestThread = Thread.currentThread();
+        List<Thread> writerThreads = new ArrayList<>();
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT))).thenAnswer(invocation -> {
+            List<Investor> chunk = invocation.getArgument(0);
+            writerThreads.add(Thread.currentThread());
+            return BulkOperationResponse.builder().successCount(chunk.size()).build();
+        });
+        InputStream body = stream("{\"name\":\"A\"}\n{\"name\":\"B\"}\n\n{\"name\":\"C\"}\n");
+        List<BulkProgress> lines = new ArrayList<>();
+
+        // When
+        investorService.bulkInsertNdjson(body, null, WriteMode.INSERT, lines::add);
+
+        // Then
+        assertThat(lines).extracting(BulkProgress::getChunk).containsExactly(1, 2, 2);
+        assertThat(lines).extracting(BulkProgress::getSuccessCount).containsExactly(2, 3, 3);
+        assertThat(lines).extracting(BulkProgress::isDone).containsExactly(false, false, true);
+        assertThat(lines.get(2).getProcessed()).isEqualTo(3);
+        assertThat(lines.get(2).getStatus()).isEqualTo(OperationStatus.COMPLETED);
+        assertThat(writerThreads).containsOnly(requestThread);
+    }
+
+    @Test
+    @DisplayName("Should report a malformed NDJSON line in its chunk and keep reading")
+    void bulkInsertNdjson_WithMalformedLine_ShouldContinue() throws Exception {
+        // Given
+        when(investorValidator.check(any())).thenReturn(new ValidationResult());
+        when(investorValidator.validateUniqueNames(anyList(), anyList(), anyMap())).thenReturn(List.of());
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT)))
+                .thenReturn(BulkOperationResponse.builder().successCount(1).build());
+        InputStream body = stream("{\"name\":\"A\"}\n{\"name\":\n{\"name\":\"C\"}\n");
+        List<BulkProgress> lines = new ArrayList<>();
+
+        // When
+        investorService.bulkInsertNdjson(body, null, WriteMode.INSERT, lines::add);
+
+        // Then
+        assertThat(lines.get(0).getErrors()).extracting(BulkError::getItemIndex).containsExactly(1);
+        assertThat(lines.get(0).getErrors()).extracting(BulkError::getErrorCode).containsExactly("PARSE_ERROR");
+        BulkProgress summary = lines.get(lines.size() - 1);
+        assertThat(summary.getProcessed()).isEqualTo(3);
+        assertThat(summary.getSuccessCount()).isEqualTo(2);
+        assertThat(summary.getFailureCount()).isEqualTo(1);
+        assertThat(summary.getStatus()).isEqualTo(OperationStatus.PARTIAL_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("Should parse and write an uploaded CSV chunk by chunk")
+    @SuppressWarnings("unchecked")
+    void bulkInsertFromFile_WithCsv_ShouldWriteChunksAsParsed() throws Exception {
+        // Given
+        when(investorValidator.check(any())).thenReturn(new ValidationResult());
+        when(investorValidator.validateUniqueNames(anyList(), anyList(), anyMap())).thenReturn(List.of());
+        when(bulkInsertUtil.bulkWrite(anyList(), eq(PROFILE), eq(WriteMode.INSERT))).thenAnswer(invocation ->
+                BulkOperationResponse.builder().successCount(((List<?>) invocation.getArgument(0)).size()).build());
+        String csv = "name,type\n" + IntStream.range(0, 5)
+                .mapToObj(i -> "Investor " + i + ",VC")
+                .collect(Collectors.joining("\n\n"));
+        MockMultipartFile file = new MockMultipartFile("file", "investors.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        BulkOperationResponse response = investorService.bulkInsertFromFile(file, null, WriteMode.INSERT);
+
+        // Then
+        ArgumentCaptor<List<Investor>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(bulkInsertUtil, times(3)).bulkWrite(chunks.capture(), eq(PROFILE), eq(WriteMode.INSERT));
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(chunks.getAllValues().get(2).get(0).getName()).isEqualTo("Investor 4");
+        assertThat(response.getTotalProcessed()).isEqualTo(5);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.COMPLETED);
+    }
+
+    private static InputStream investors(int count) {
+        return stream(IntStream.range(0, count)
+                .mapToObj(i -> "{\"name\":\"Investor " + i + "\",\"type\":\"VC\"}")
+                .collect(Collectors.joining(",", "[", "]")));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,19 +2,26 @@ package com.ucapital.sharkshub;
 
 import com.ucapital.sharkshub.investor.dto.InvestorDto;
 import com.ucapital.sharkshub.investor.exception.InvestorValidationException;
+import com.ucapital.sharkshub.investor.model.Investor;
 import com.ucapital.sharkshub.investor.repository.InvestorRepository;
+import com.ucapital.sharkshub.investor.validation.InvestorRuleSet;
 import com.ucapital.sharkshub.investor.validation.InvestorValidator;
+import com.ucapital.sharkshub.investor.validation.ValidationResult;
 import com.ucapital.sharkshub.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -25,13 +32,13 @@ class InvestorValidatorTest {
     @Mock
     private InvestorRepository investorRepository;
 
-    @InjectMocks
     private InvestorValidator investorValidator;
 
     private InvestorDto validInvestorDto;
 
     @BeforeEach
     void setUp() {
+        investorValidator = new InvestorValidator(investorRepository, InvestorRuleSet.defaults());
         validInvestorDto = TestDataBuilder.createValidInvestorDto();
     }
 
@@ -72,6 +79,30 @@ class InvestorValidatorTest {
             // Should not check uniqueness when not in bulk mode
             verifyNoInteractions(investorRepository);
         }
+
+        @Test
+        @DisplayName("Should return field errors without throwing and reuse the result per thread")
+        void check_WithInvalidData_ShouldReturnErrors() {
+            // Given
+            validInvestorDto.setStatus(null);
+            validInvestorDto.setType(" ");
+
+            // When
+            ValidationResult invalid = investorValidator.check(validInvestorDto);
+            List<String> fields = invalid.getErrors().stream()
+                    .map(InvestorValidationException.ValidationError::getFieldName)
+                    .toList();
+            ValidationResult valid = investorValidator.check(TestDataBuilder.createValidInvestorDto());
+
+            // Then
+            assertThat(fields).containsExactly("status", "type");
+            assertThat(valid).isSameAs(invalid);
+            assertThat(valid.isValid()).isTrue();
+            assertThat(investorValidator.check(null).getErrors())
+                    .extracting(InvestorValidationException.ValidationError::getErrorMessage)
+                    .containsExactly("Investor data cannot be null");
+            verifyNoInteractions(investorRepository);
+        }
     }
 
     @Nested
@@ -187,6 +218,71 @@ class InvestorValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Chunk Uniqueness Validation Tests")
+    class ChunkUniquenessValidationTests {
+
+        @Test
+        @DisplayName("Should resolve a whole chunk with a single name lookup")
+        void validateUniqueNames_WithUniqueNames_ShouldQueryOnce() {
+            // Given
+            List<InvestorDto> chunk = TestDataBuilder.createInvestorDtoList(3);
+            when(investorRepository.findNamesIn(anyCollection())).thenReturn(List.of());
+
+            // When
+            List<InvestorValidationException> failures =
+                    investorValidator.validateUniqueNames(chunk, List.of(0, 1, 2), new HashMap<>());
+
+            // Then
+            assertThat(failures).isEmpty();
+            verify(investorRepository, times(1)).findNamesIn(anyCollection());
+            verify(investorRepository, never()).existsByName(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject names that already exist with their original index")
+        void validateUniqueNames_WithExistingName_ShouldRejectIt() {
+            // Given
+            List<InvestorDto> chunk = TestDataBuilder.createInvestorDtoList(3);
+            Investor existing = new Investor();
+            existing.setName(chunk.get(1).getName());
+            when(investorRepository.findNamesIn(anyCollection())).thenReturn(List.of(existing));
+
+            // When
+            List<InvestorValidationException> failures =
+                    investorValidator.validateUniqueNames(chunk, List.of(10, 11, 12), new HashMap<>());
+
+            // Then
+            assertThat(failures).hasSize(1);
+            assertThat(failures.get(0).getInvestorIndex()).isEqualTo(11);
+            assertThat(failures.get(0).getValidationErrors())
+                    .extracting(InvestorValidationException.ValidationError::getFieldName)
+                    .containsExactly("name");
+        }
+
+        @Test
+        @DisplayName("Should reject duplicates inside the payload across chunks")
+        void validateUniqueNames_WithDuplicatesInPayload_ShouldRejectLaterOccurrences() {
+            // Given
+            InvestorDto first = TestDataBuilder.createValidInvestorDto();
+            InvestorDto second = TestDataBuilder.createValidInvestorDto();
+            InvestorDto third = TestDataBuilder.createValidInvestorDto();
+            Map<String, Integer> seenNames = new HashMap<>();
+            when(investorRepository.findNamesIn(anyCollection())).thenReturn(List.of());
+
+            // When
+            List<InvestorValidationException> firstChunk =
+                    investorValidator.validateUniqueNames(List.of(first, second), List.of(0, 1), seenNames);
+            List<InvestorValidationException> secondChunk =
+                    investorValidator.validateUniqueNames(List.of(third), List.of(2), seenNames);
+
+            // Then
+            assertThat(firstChunk).extracting(InvestorValidationException::getInvestorIndex).containsExactly(1);
+            assertThat(secondChunk).extracting(InvestorValidationException::getInvestorIndex).containsExactly(2);
+            verify(investorRepository, times(1)).findNamesIn(anyCollection());
+        }
+    }
+
     @Nested
     @DisplayName("Required Fields Validation Tests")
     class RequiredFieldsValidationTests {
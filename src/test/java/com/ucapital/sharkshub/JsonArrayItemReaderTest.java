@@ -0,0 +1,98 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.JsonArrayItemReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.step.skip.NonSkippableReadException;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonArrayItemReader Tests")
+class JsonArrayItemReaderTest {
+
+    @Test
+    @DisplayName("Should stream array elements, skip nulls and let unbindable elements be skipped")
+    void read_WithArray_ShouldYieldElementsOneAtATime() throws Exception {
+        // Given
+        JsonArrayItemReader reader = reader("[{\"name\":\"Alpha\"},null,{\"name\":\"Beta\",\"impressions\":\"many\"},"
+                + "{\"name\":\"Gamma\"}]");
+
+        // When / Then
+        reader.open(new ExecutionContext());
+        try {
+            assertThat(reader.read().getName()).isEqualTo("Alpha");
+            assertThatThrownBy(reader::read).isInstanceOf(JsonMappingException.class);
+            assertThat(reader.read().getName()).isEqualTo("Gamma");
+            assertThat(reader.read()).isNull();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read a single object and fail the step on malformed JSON")
+    void read_WithSingleObjectOrMalformedJson_ShouldReadOrFail() throws Exception {
+        // Given
+        JsonArrayItemReader single = reader("{\"name\":\"Alpha\"}");
+        JsonArrayItemReader truncated = reader("[{\"name\":\"Alpha\"},{\"name\":");
+
+        // When / Then
+        assertThat(single.read().getName()).isEqualTo("Alpha");
+        assertThat(single.read()).isNull();
+        single.close();
+
+        assertThat(truncated.read().getName()).isEqualTo("Alpha");
+        assertThatThrownBy(truncated::read).isInstanceOf(NonSkippableReadException.class);
+        truncated.close();
+    }
+
+    @Test
+    @DisplayName("Should checkpoint count and byte offset and resume right after the last committed element")
+    void open_WithSavedCheckpoint_ShouldResumeAfterLastCommittedElement() throws Exception {
+        // Given
+        String json = "[\n  {\"name\":\"Alpha\"},\n  {\"name\":\"Beta\"},\n  {\"name\":\"Gamma\"},\n"
+                + "  {\"name\":\"Delta\"}\n]\n";
+        ExecutionContext context = new ExecutionContext();
+        JsonArrayItemReader firstRun = reader(json);
+        firstRun.open(context);
+        firstRun.read();
+        firstRun.read();
+        firstRun.update(context);
+        firstRun.read();
+        firstRun.close();
+
+        // When
+        JsonArrayItemReader restarted = reader(json);
+        restarted.open(context);
+        InvestorDto resumed = restarted.read();
+        restarted.update(context);
+
+        // Then
+        assertThat(resumed.getName()).isEqualTo("Gamma");
+        assertThat(context.getLong("JsonArrayItemReader.read.count")).isEqualTo(3);
+        assertThat(json.substring((int) context.getLong("JsonArrayItemReader.byte.offset"))).startsWith(",\n  {\"name\":\"Delta\"}");
+        assertThat(restarted.read().getName()).isEqualTo("Delta");
+        assertThat(restarted.read()).isNull();
+        restarted.update(context);
+        restarted.close();
+
+        JsonArrayItemReader finished = reader(json);
+        finished.open(context);
+        assertThat(finished.read()).isNull();
+        finished.close();
+    }
+
+    private static JsonArrayItemReader reader(String json) {
+        JsonArrayItemReader reader = new JsonArrayItemReader(new ObjectMapper());
+        reader.setResource(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8), "investors.json"));
+        return reader;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.JsonArrayStreamReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonArrayStreamReader Tests")
+class JsonArrayStreamReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should read array elements one at a time with their indexes")
+    void next_WithArray_ShouldReturnElementsInOrder() throws Exception {
+        // Given
+        InputStream json = stream("[{\"name\":\"Alpha\"}, null, {\"name\":\"Beta\",\"type\":\"VC\"}]");
+
+        // When / Then
+        try (JsonArrayStreamReader<InvestorDto> reader = new JsonArrayStreamReader<>(objectMapper, json, InvestorDto.class)) {
+            assertThat(reader.hasNext()).isTrue();
+            assertThat(reader.next().getName()).isEqualTo("Alpha");
+            assertThat(reader.next()).isNull();
+            InvestorDto beta = reader.next();
+            assertThat(beta.getType()).isEqualTo("VC");
+            assertThat(reader.index()).isEqualTo(2);
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip past an element that cannot be bound")
+    void next_WithUnbindableElement_ShouldContinueWithNextElement() throws Exception {
+        // Given
+        InputStream json = stream("[{\"name\":\"Alpha\",\"impressions\":\"many\",\"sectors\":[\"Fintech\"]},{\"name\":\"Beta\"}]");
+
+        // When / Then
+        try (JsonArrayStreamReader<InvestorDto> reader = new JsonArrayStreamReader<>(objectMapper, json, InvestorDto.class)) {
+            assertThatThrownBy(reader::next).isInstanceOf(JsonMappingException.class);
+            assertThat(reader.index()).isZero();
+            assertThat(reader.next().getName()).isEqualTo("Beta");
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject input that is not a JSON array or is truncated")
+    void reader_WithMalformedInput_ShouldThrowParseException() throws Exception {
+        // When / Then
+        try (JsonArrayStreamReader<InvestorDto> reader =
+                     new JsonArrayStreamReader<>(objectMapper, stream("{\"name\":\"Alpha\"}"), InvestorDto.class)) {
+            assertThatThrownBy(reader::hasNext).isInstanceOf(JsonParseException.class);
+        }
+
+        try (JsonArrayStreamReader<InvestorDto> reader =
+                     new JsonArrayStreamReader<>(objectMapper, stream("[{\"name\":\"Alpha\"},"), InvestorDto.class)) {
+            reader.next();
+            assertThatThrownBy(reader::hasNext).isInstanceOf(JsonParseException.class);
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package com.ucapital.sharkshub;
+
+import com.ucapital.sharkshub.config.InvestorBatchConfig.DelegatingFileItemReader;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.service.FileStorageService.StoredFile;
+import com.ucapital.sharkshub.investor.service.LocalFileStorageService;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalFileStorageService Tests")
+class LocalFileStorageServiceTest {
+
+    private final LocalFileStorageService storageService = new LocalFileStorageService();
+
+    private Path storedPath;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (storedPath != null) {
+            Files.deleteIfExists(storedPath);
+        }
+    }
+
+    @Test
+    @DisplayName("Should store a gzip upload compressed, checksum its bytes and let the batch reader stream it")
+    void store_WithGzipCsv_ShouldKeepItCompressedAndReadable() throws Exception {
+        // Given
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write("name,status\nAlpha,active\nBeta,active\n".getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] upload = gzipped.toByteArray();
+
+        // When
+        StoredFile stored = storageService.store(
+                new MockMultipartFile("file", "vendor.export.csv.gz", "application/gzip", upload));
+        storedPath = Path.of(stored.path());
+
+        // Then
+        assertThat(stored.path()).endsWith(".csv.gz");
+        assertThat(Files.readAllBytes(storedPath)).isEqualTo(upload);
+        assertThat(stored.checksum()).isEqualTo(DigestUtils.sha256Hex(upload));
+
+        DelegatingFileItemReader reader = new DelegatingFileItemReader(stored.path());
+        reader.open(new ExecutionContext());
+        try {
+            assertThat(reader.read()).extracting(InvestorDto::getName).isEqualTo("Alpha");
+            assertThat(reader.read()).extracting(InvestorDto::getName).isEqualTo("Beta");
+            assertThat(reader.read()).isNull();
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ucapital.sharkshub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.FileParser;
+import com.ucapital.sharkshub.investor.util.MappedCsvReader;
+import com.ucapital.sharkshub.investor.util.StreamingElementReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedCsvReader Tests")
+class MappedCsvReaderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should yield the same rows in the same order as the line reader across segment cuts")
+    void read_WithQuotedNewlinesAndSmallSegments_ShouldMatchLineReader() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("name,type,descriptions.en,contacts[0].firstName\r\n");
+        for (int i = 0; i < 300; i++) {
+            csv.append("\"Investor ").append(i).append(", Ltd\",VC,");
+            csv.append(i % 7 == 0 ? "\"Line one\nline \"\"two\"\"\"" : "Plain ñ " + i);
+            csv.append(",Ada\r\n");
+            if (i % 50 == 0) {
+                csv.append("\r\n");
+            }
+        }
+        csv.append("Last,PE,,Grace");
+        byte[] content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Path stored = Files.write(tempDir.resolve("investors.csv"), content);
+
+        // When
+        List<InvestorDto> expected = new FileParser(new ObjectMapper())
+                .parseFile(new MockMultipartFile("file", "investors.csv", "text/csv", content));
+        List<InvestorDto> mapped = new ArrayList<>();
+        try (StreamingElementReader<InvestorDto> reader = new MappedCsvReader(stored, executor, 3, 64)) {
+            while (reader.hasNext()) {
+                mapped.add(reader.next());
+                assertThat(reader.index()).isEqualTo(mapped.size() - 1);
+            }
+        }
+
+        // Then
+        assertThat(expected).hasSize(301);
+        assertThat(expected.get(0).getDescriptions().getEn()).isEqualTo("Line one\nline \"two\"");
+        assertThat(mapped).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty file")
+    void open_WithEmptyFile_ShouldFail() throws Exception {
+        // Given
+        Path stored = Files.createFile(tempDir.resolve("empty.csv"));
+
+        // When / Then
+        assertThatThrownBy(() -> new MappedCsvReader(stored, executor, 2, 64))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("empty");
+    }
+}
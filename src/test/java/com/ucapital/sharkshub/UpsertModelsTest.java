@@ -0,0 +1,93 @@
+package com.ucapital.sharkshub;
+
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.ucapital.sharkshub.investor.dto.WriteMode;
+import com.ucapital.sharkshub.investor.util.UpsertModels;
+import org.bson.BsonArray;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UpsertModels Tests")
+class UpsertModelsTest {
+
+    @Test
+    @DisplayName("Should replace by name with upsert enabled and keep the stored createdAt")
+    @SuppressWarnings("unchecked")
+    void toWriteModel_WithReplaceMode_ShouldFilterOnNameAndKeepCreatedAt() {
+        // Given
+        BsonDocument document = investor();
+
+        // When
+        WriteModel<BsonDocument> model = UpsertModels.toWriteModel(WriteMode.REPLACE, document);
+
+        // Then
+        assertThat(model).isInstanceOf(UpdateOneModel.class);
+        UpdateOneModel<BsonDocument> replace = (UpdateOneModel<BsonDocument>) model;
+        assertThat(replace.getFilter().toBsonDocument())
+                .isEqualTo(new BsonDocument("name", new BsonString("Acme Capital")));
+        assertThat(replace.getOptions().isUpsert()).isTrue();
+
+        List<BsonDocument> pipeline = (List<BsonDocument>) replace.getUpdatePipeline();
+        assertThat(pipeline).hasSize(1);
+        BsonArray merged = pipeline.get(0).getDocument("$replaceWith").getArray("$mergeObjects");
+        assertThat(merged.get(0)).isEqualTo(new BsonDocument("_id", new BsonString("$_id")));
+        assertThat(merged.get(1)).isEqualTo(new BsonDocument("$literal", document));
+        assertThat(merged.get(2).asDocument().getDocument("createdAt").getArray("$ifNull"))
+                .containsExactly(new BsonString("$createdAt"), new BsonDocument("$literal", new BsonDateTime(0)));
+    }
+
+    @Test
+    @DisplayName("Should merge only present fields and keep _id and createdAt for inserts")
+    void toWriteModel_WithMergeMode_ShouldSetNonNullFieldsOnly() {
+        // Given
+        BsonDocument document = investor();
+
+        // When
+        UpdateOneModel<BsonDocument> model =
+                (UpdateOneModel<BsonDocument>) UpsertModels.toWriteModel(WriteMode.MERGE, document);
+
+        // Then
+        BsonDocument update = (BsonDocument) model.getUpdate();
+        assertThat(update.getDocument("$set").keySet())
+                .containsExactlyInAnyOrder("status", "hqLocation.city");
+        assertThat(update.getDocument("$setOnInsert").keySet())
+                .containsExactlyInAnyOrder("_id", "createdAt");
+        assertThat(model.getOptions().isUpsert()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only write the document when no investor has the name")
+    void toWriteModel_WithInsertIfAbsentMode_ShouldSetOnInsertOnly() {
+        // Given
+        BsonDocument document = investor();
+
+        // When
+        UpdateOneModel<BsonDocument> model =
+                (UpdateOneModel<BsonDocument>) UpsertModels.toWriteModel(WriteMode.INSERT_IF_ABSENT, document);
+
+        // Then
+        BsonDocument update = (BsonDocument) model.getUpdate();
+        assertThat(update.keySet()).containsExactly("$setOnInsert");
+        assertThat(update.getDocument("$setOnInsert")).isSameAs(document);
+    }
+
+    private static BsonDocument investor() {
+        return new BsonDocument("_id", new BsonObjectId())
+                .append("name", new BsonString("Acme Capital"))
+                .append("status", new BsonString("ACTIVE"))
+                .append("website", BsonNull.VALUE)
+                .append("sectors", new BsonArray())
+                .append("hqLocation", new BsonDocument("city", new BsonString("Milan")))
+                .append("createdAt", new BsonDateTime(0));
+    }
+}
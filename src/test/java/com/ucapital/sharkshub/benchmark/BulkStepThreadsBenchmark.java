@@ -0,0 +1,128 @@
+package com.ucapital.sharkshub.benchmark;
+
+import com.ucapital.sharkshub.config.InvestorBatchConfig;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.AdaptiveBatchPolicy;
+import com.ucapital.sharkshub.investor.util.AdaptiveChunkPolicy;
+import com.ucapital.sharkshub.investor.util.ImportedNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Wall time of one {@code investorBulkStep} run over a 1M-row CSV, processing
+ * chunks one at a time (today's step) versus concurrently on the job's own
+ * executor. The step is built by {@link InvestorBatchConfig} itself;
+ * only the job repository is in-memory, and each chunk's bulk write is simulated
+ * with a sleep proportional to its size, so the benchmark measures how well the
+ * step overlaps parsing with write round trips.
+ *
+ * <pre>mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ucapital.sharkshub.benchmark.BulkStepThreadsBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BulkStepThreadsBenchmark {
+
+    private static final int CHUNK_SIZE = 1000;
+    // A 1000-document unordered insert against a replica set, w:majority
+    private static final long CHUNK_WRITE_MICROS = 20_000;
+
+    @Param({"1", "4"})
+    public long threads;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private final InvestorBatchConfig batchConfig = new InvestorBatchConfig();
+    private Path file;
+    private MongoTemplate mongoTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("bulk-step-bench", ".csv");
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("name,status,sectors,type,website,hqCity,hqCountry,invMin,invMax,desc_en,"
+                    + "contact_firstName,contact_lastName,contact_email\n");
+            for (int i = 0; i < rows; i++) {
+                out.write("Investor " + i + ",active,Fintech;SaaS,VC,https://investor-" + i + ".example.com,"
+                        + "Milan,Italy,100000,5000000.50,\"Early-stage fund, founder first\",Ada,Lovelace,"
+                        + "ada" + i + "@example.com\n");
+            }
+        }
+
+        mongoTemplate = Mockito.mock(MongoTemplate.class, Mockito.withSettings().stubOnly());
+        Mockito.when(mongoTemplate.findDistinct(any(Query.class), eq("name"), anyString(), eq(String.class)))
+                .thenReturn(List.of());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long runStep() throws Exception {
+        JobRepository jobRepository = new ResourcelessJobRepository();
+        AdaptiveChunkPolicy chunkPolicy = new AdaptiveChunkPolicy(new AdaptiveBatchPolicy("bench", CHUNK_SIZE,
+                CHUNK_SIZE, CHUNK_SIZE, 1 << 24, Duration.ofSeconds(1), new SimpleMeterRegistry()), CHUNK_SIZE);
+        ItemWriter<InvestorDto> writer = chunk -> TimeUnit.MICROSECONDS.sleep(
+                CHUNK_WRITE_MICROS * chunk.size() / CHUNK_SIZE);
+
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.afterPropertiesSet();
+
+        JobExecution execution = launcher.run(new JobBuilder("investorBulkJob", jobRepository)
+                .start(batchConfig.investorBulkStep(jobRepository, new ResourcelessTransactionManager(),
+                        batchConfig.fileItemReader(file.toString(), threads, null, null, null, 4),
+                        batchConfig.processor(mongoTemplate, new ImportedNames(), 1L, null),
+                        writer, chunkPolicy, threads, 4, false))
+                .build(), new JobParameters());
+
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("Step did not complete: " + execution.getAllFailureExceptions());
+        }
+        long written = execution.getStepExecutions().iterator().next().getWriteCount();
+        if (written != rows) {
+            throw new IllegalStateException("Wrote " + written + " of " + rows + " rows");
+        }
+        return written;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkStepThreadsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
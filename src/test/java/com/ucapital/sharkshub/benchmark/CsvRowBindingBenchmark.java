@@ -0,0 +1,386 @@
+package com.ucapital.sharkshub.benchmark;
+
+import com.ucapital.sharkshub.investor.dto.AddressDto;
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.FinancialsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.util.CsvRowBinder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Rows per second through the header-compiled {@link CsvRowBinder} versus the
+ * previous per-row {@code HashMap} conversion (kept below verbatim as
+ * {@link MapRowConverter}), over an export with every investor column and two
+ * contacts. Run with {@code -prof gc} and read {@code gc.alloc.rate.norm} for the
+ * bytes allocated per row. Setup checks that both produce equal investors.
+ *
+ * <pre>mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ucapital.sharkshub.benchmark.CsvRowBindingBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvRowBindingBenchmark {
+
+    private static final int ROWS = 1024;
+
+    private static final String[] HEADERS = ("id,name,status,type,macroType,website,image,isOld,creatorEmail,"
+            + "adminEmail,completenessScore,impressions,preferredGeographicalAreas,preferredInvestmentTypes,"
+            + "sectors,verticals,macroAreas,hqLocation.address,hqLocation.city,hqLocation.state,hqLocation.zip,"
+            + "hqLocation.country,hqLocation.phone,hqLocation.email,financials.invMin,financials.invMax,"
+            + "financials.dealMin,financials.dealMax,descriptions.en,descriptions.it,"
+            + "contacts[0].firstName,contacts[0].lastName,contacts[0].email,contacts[0].role,"
+            + "contacts[1].firstName,contacts[1].lastName,contacts[1].email,contacts[1].orderNum").split(",");
+
+    private CsvRowBinder binder;
+    private MapRowConverter mapRowConverter;
+    private String[] lines;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        binder = CsvRowBinder.compile(HEADERS);
+        mapRowConverter = new MapRowConverter(HEADERS);
+
+        lines = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            lines[i] = String.join(",",
+                    "", "Investor " + i, "active", "VC", "Private Equity", "https://investor-" + i + ".example.com",
+                    "", i % 2 == 0 ? "true" : "false", "creator@example.com", "admin@example.com",
+                    String.valueOf(i % 100), String.valueOf(i * 7), "Europe|North America", "Seed|Series A",
+                    "Fintech|Healthcare|SaaS", "B2B", "EMEA", "\"Via Roma " + i + ", 3rd floor\"", "Milan", "MI",
+                    "20121", "Italy", "+39 02 1234567", "info" + i + "@example.com", "100000", "5000000.50",
+                    "250000", "25000000", "\"Early-stage fund, \"\"founder first\"\"\"", "Fondo early-stage",
+                    "Ada", "Lovelace", "ada" + i + "@example.com", "Partner", "Alan", "Turing",
+                    "alan" + i + "@example.com", String.valueOf(i % 5));
+        }
+
+        for (String line : lines) {
+            if (!binder.bind(line).equals(mapRowConverter.convert(line))) {
+                throw new IllegalStateException("Binders disagree on row: " + line);
+            }
+        }
+    }
+
+    @Benchmark
+    public InvestorDto compiledBinder() {
+        return binder.bind(nextLine());
+    }
+
+    @Benchmark
+    public InvestorDto mapPerRow() {
+        return mapRowConverter.convert(nextLine());
+    }
+
+    private String nextLine() {
+        String line = lines[next];
+        next = (next + 1) % ROWS;
+        return line;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CsvRowBindingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+
+    /**
+     * FileParser's CSV row conversion before the header was compiled into a binding plan.
+     */
+    static class MapRowConverter {
+
+        private static final Logger logger = LoggerFactory.getLogger(MapRowConverter.class);
+
+        private final String[] headers;
+
+        MapRowConverter(String[] headers) {
+            this.headers = headers;
+        }
+
+        InvestorDto convert(String line) {
+            Map<String, String> row = new HashMap<>();
+            String[] values = parseCsvLine(line);
+
+            for (int i = 0; i < Math.min(headers.length, values.length); i++) {
+                row.put(headers[i], values[i]);
+            }
+
+            return convertMapToInvestorDto(row);
+        }
+
+        private String[] parseCsvLine(String line) {
+            List<String> result = new ArrayList<>();
+            StringBuilder currentValue = new StringBuilder();
+            boolean inQuotes = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        currentValue.append('"');
+                        i++;
+                    } else {
+                        inQuotes = !inQuotes;
+                    }
+                } else if (c == ',' && !inQuotes) {
+                    result.add(currentValue.toString().trim());
+                    currentValue = new StringBuilder();
+                } else {
+                    currentValue.append(c);
+                }
+            }
+
+            result.add(currentValue.toString().trim());
+
+            return result.toArray(new String[0]);
+        }
+
+        private InvestorDto convertMapToInvestorDto(Map<String, String> row) {
+            InvestorDto.InvestorDtoBuilder builder = InvestorDto.builder();
+
+            if (row.containsKey("id")) builder.id(row.get("id"));
+            if (row.containsKey("name")) builder.name(row.get("name"));
+            if (row.containsKey("status")) builder.status(row.get("status"));
+            if (row.containsKey("type")) builder.type(row.get("type"));
+            if (row.containsKey("macroType")) builder.macroType(row.get("macroType"));
+            if (row.containsKey("website")) builder.website(row.get("website"));
+            if (row.containsKey("image")) builder.image(row.get("image"));
+            if (row.containsKey("creatorEmail")) builder.creatorEmail(row.get("creatorEmail"));
+            if (row.containsKey("adminEmail")) builder.adminEmail(row.get("adminEmail"));
+
+            if (row.containsKey("isOld") && row.get("isOld") != null) {
+                builder.isOld(Boolean.parseBoolean(row.get("isOld")));
+            }
+
+            if (row.containsKey("completenessScore") && row.get("completenessScore") != null) {
+                try {
+                    builder.completenessScore(Integer.parseInt(row.get("completenessScore")));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid completenessScore: {}", row.get("completenessScore"));
+                }
+            }
+
+            if (row.containsKey("impressions") && row.get("impressions") != null) {
+                try {
+                    builder.impressions(Integer.parseInt(row.get("impressions")));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid impressions: {}", row.get("impressions"));
+                }
+            }
+
+            if (row.containsKey("preferredGeographicalAreas")) {
+                builder.preferredGeographicalAreas(parseListField(row.get("preferredGeographicalAreas")));
+            }
+
+            if (row.containsKey("preferredInvestmentTypes")) {
+                builder.preferredInvestmentTypes(parseListField(row.get("preferredInvestmentTypes")));
+            }
+
+            if (row.containsKey("sectors")) {
+                builder.sectors(parseListField(row.get("sectors")));
+            }
+
+            if (row.containsKey("verticals")) {
+                builder.verticals(parseListField(row.get("verticals")));
+            }
+
+            if (row.containsKey("macroAreas")) {
+                builder.macroAreas(parseListField(row.get("macroAreas")));
+            }
+
+            mapHqLocation(row, builder);
+            mapFinancials(row, builder);
+            mapDescriptions(row, builder);
+            mapContacts(row, builder);
+
+            return builder.build();
+        }
+
+
+        private List<String> parseListField(String value) {
+            if (value == null || value.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            return new ArrayList<>(Arrays.asList(value.split("\\|")));
+        }
+
+
+        private void mapHqLocation(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
+            boolean hasHqLocation = row.keySet().stream()
+                    .anyMatch(key -> key.startsWith("hqLocation."));
+
+            if (!hasHqLocation) {
+                return;
+            }
+
+            AddressDto.AddressDtoBuilder addressBuilder = AddressDto.builder();
+
+            if (row.containsKey("hqLocation.address")) addressBuilder.address(row.get("hqLocation.address"));
+            if (row.containsKey("hqLocation.city")) addressBuilder.city(row.get("hqLocation.city"));
+            if (row.containsKey("hqLocation.state")) addressBuilder.state(row.get("hqLocation.state"));
+            if (row.containsKey("hqLocation.zip")) addressBuilder.zip(row.get("hqLocation.zip"));
+            if (row.containsKey("hqLocation.country")) addressBuilder.country(row.get("hqLocation.country"));
+            if (row.containsKey("hqLocation.phone")) addressBuilder.phone(row.get("hqLocation.phone"));
+            if (row.containsKey("hqLocation.email")) addressBuilder.email(row.get("hqLocation.email"));
+            if (row.containsKey("hqLocation.fax")) addressBuilder.fax(row.get("hqLocation.fax"));
+            if (row.containsKey("hqLocation.sn")) addressBuilder.sn(row.get("hqLocation.sn"));
+
+            builder.hqLocation(addressBuilder.build());
+        }
+
+
+        private void mapFinancials(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
+            // Check if there are any financials fields
+            boolean hasFinancials = row.keySet().stream()
+                    .anyMatch(key -> key.startsWith("financials."));
+
+            if (!hasFinancials) {
+                return;
+            }
+
+            FinancialsDto.FinancialsDtoBuilder financialsBuilder = FinancialsDto.builder();
+
+            mapBigDecimalField(row, "financials.invMin", financialsBuilder::invMin);
+            mapBigDecimalField(row, "financials.invMax", financialsBuilder::invMax);
+            mapBigDecimalField(row, "financials.invAvg", financialsBuilder::invAvg);
+            mapBigDecimalField(row, "financials.dealMax", financialsBuilder::dealMax);
+            mapBigDecimalField(row, "financials.dealMin", financialsBuilder::dealMin);
+            mapBigDecimalField(row, "financials.cmpValMin", financialsBuilder::cmpValMin);
+            mapBigDecimalField(row, "financials.cmpValMax", financialsBuilder::cmpValMax);
+            mapBigDecimalField(row, "financials.ebitdaMin", financialsBuilder::ebitdaMin);
+            mapBigDecimalField(row, "financials.ebitdaMax", financialsBuilder::ebitdaMax);
+            mapBigDecimalField(row, "financials.ebitMin", financialsBuilder::ebitMin);
+            mapBigDecimalField(row, "financials.ebitMax", financialsBuilder::ebitMax);
+
+            builder.financials(financialsBuilder.build());
+        }
+
+
+        private void mapBigDecimalField(Map<String, String> row, String fieldName,
+                                        Function<BigDecimal, FinancialsDto.FinancialsDtoBuilder> setter) {
+            if (row.containsKey(fieldName) && row.get(fieldName) != null && !row.get(fieldName).isEmpty()) {
+                try {
+                    setter.apply(new BigDecimal(row.get(fieldName)));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid number format for field {}: {}", fieldName, row.get(fieldName));
+                }
+            }
+        }
+
+
+        private void mapDescriptions(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
+            boolean hasDescriptions = row.keySet().stream()
+                    .anyMatch(key -> key.startsWith("descriptions."));
+
+            if (!hasDescriptions) {
+                return;
+            }
+
+            InvDescriptionsDto.InvDescriptionsDtoBuilder descriptionsBuilder = InvDescriptionsDto.builder();
+
+            if (row.containsKey("descriptions.it")) descriptionsBuilder.it(row.get("descriptions.it"));
+            if (row.containsKey("descriptions.en")) descriptionsBuilder.en(row.get("descriptions.en"));
+            if (row.containsKey("descriptions.fr")) descriptionsBuilder.fr(row.get("descriptions.fr"));
+            if (row.containsKey("descriptions.de")) descriptionsBuilder.de(row.get("descriptions.de"));
+            if (row.containsKey("descriptions.es")) descriptionsBuilder.es(row.get("descriptions.es"));
+            if (row.containsKey("descriptions.ru")) descriptionsBuilder.ru(row.get("descriptions.ru"));
+            if (row.containsKey("descriptions.ch")) descriptionsBuilder.ch(row.get("descriptions.ch"));
+
+            builder.descriptions(descriptionsBuilder.build());
+        }
+
+
+        private void mapContacts(Map<String, String> row, InvestorDto.InvestorDtoBuilder builder) {
+            Map<Integer, Map<String, String>> contactsMap = new HashMap<>();
+
+            for (Map.Entry<String, String> entry : row.entrySet()) {
+                if (entry.getKey().startsWith("contacts[")) {
+                    String key = entry.getKey();
+                    int startIndex = key.indexOf('[') + 1;
+                    int endIndex = key.indexOf(']');
+
+                    if (startIndex > 0 && endIndex > startIndex) {
+                        try {
+                            int index = Integer.parseInt(key.substring(startIndex, endIndex));
+                            String fieldName = key.substring(endIndex + 2);
+
+                            contactsMap.computeIfAbsent(index, k -> new HashMap<>())
+                                    .put(fieldName, entry.getValue());
+                        } catch (NumberFormatException e) {
+                            logger.warn("Invalid contact index in key: {}", key);
+                        }
+                    }
+                }
+            }
+
+            Set<ContactsDto> contacts = new HashSet<>();
+
+            for (Map.Entry<Integer, Map<String, String>> contactEntry : contactsMap.entrySet()) {
+                Map<String, String> contactFields = contactEntry.getValue();
+
+                ContactsDto.ContactsDtoBuilder contactBuilder = ContactsDto.builder();
+
+                if (contactFields.containsKey("firstName"))
+                    contactBuilder.firstName(contactFields.get("firstName"));
+
+                if (contactFields.containsKey("lastName"))
+                    contactBuilder.lastName(contactFields.get("lastName"));
+
+                if (contactFields.containsKey("email"))
+                    contactBuilder.email(contactFields.get("email"));
+
+                if (contactFields.containsKey("phone"))
+                    contactBuilder.phone(contactFields.get("phone"));
+
+                if (contactFields.containsKey("mobile"))
+                    contactBuilder.mobile(contactFields.get("mobile"));
+
+                if (contactFields.containsKey("fax"))
+                    contactBuilder.fax(contactFields.get("fax"));
+
+                if (contactFields.containsKey("role"))
+                    contactBuilder.role(contactFields.get("role"));
+
+                if (contactFields.containsKey("orderNum") && contactFields.get("orderNum") != null) {
+                    try {
+                        contactBuilder.orderNum(Integer.parseInt(contactFields.get("orderNum")));
+                    } catch (NumberFormatException e) {
+                        logger.warn("Invalid orderNum for contact: {}", contactFields.get("orderNum"));
+                    }
+                }
+
+                ContactsDto contact = contactBuilder.build();
+                if (contact.getFirstName() != null || contact.getLastName() != null) {
+                    contacts.add(contact);
+                }
+            }
+
+            if (!contacts.isEmpty()) {
+                builder.contacts(contacts);
+            }
+        }
+    }
+}
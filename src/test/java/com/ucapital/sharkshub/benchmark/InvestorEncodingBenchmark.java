@@ -0,0 +1,101 @@
+package com.ucapital.sharkshub.benchmark;
+
+import com.mongodb.MongoClientSettings;
+import com.ucapital.sharkshub.investor.codec.InvestorCodec;
+import com.ucapital.sharkshub.investor.codec.InvestorDtoCodec;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.model.Investor;
+import com.ucapital.sharkshub.util.TestDataBuilder;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the MappingMongoConverter path used by BulkInsertUtil before the codec
+ * (entity -> Document -> BSON bytes) with the hand-written codecs.
+ *
+ * <pre>mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ucapital.sharkshub.benchmark.InvestorEncodingBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvestorEncodingBenchmark {
+
+    private MappingMongoConverter converter;
+    private Codec<Document> documentCodec;
+    private InvestorCodec investorCodec;
+    private InvestorDtoCodec investorDtoCodec;
+    private Investor investor;
+    private InvestorDto investorDto;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        documentCodec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+        investorCodec = new InvestorCodec();
+        investorDtoCodec = new InvestorDtoCodec();
+
+        investorDto = TestDataBuilder.createCompleteInvestorDto();
+        investor = TestDataBuilder.InvestorBuilder.anInvestor().withDefaults().build();
+        investor.setCreatedAt(Instant.now());
+        investor.setUpdatedAt(Instant.now());
+        investor.setHqLocation(Investor.Address.builder()
+                .address("1 Main St").city("Milan").country("Italy").email("hq@test.com").build());
+        investor.setFinancials(Investor.Financials.builder()
+                .invMin(new BigDecimal("100000")).invMax(new BigDecimal("10000000")).build());
+        investor.setDescriptions(Investor.InvDescriptions.builder()
+                .it("Descrizione ".repeat(100)).en("Description ".repeat(100)).build());
+        investor.setContacts(new HashSet<>(List.of(
+                Investor.Contacts.builder().firstName("Ada").lastName("Lovelace").orderNum(1).build(),
+                Investor.Contacts.builder().firstName("Alan").lastName("Turing").email("alan@test.com").build())));
+    }
+
+    @Benchmark
+    public RawBsonDocument mappingConverter() {
+        Document document = new Document();
+        converter.write(investor, document);
+        return new RawBsonDocument(document, documentCodec);
+    }
+
+    @Benchmark
+    public RawBsonDocument investorCodec() {
+        return new RawBsonDocument(investor, investorCodec);
+    }
+
+    @Benchmark
+    public RawBsonDocument investorDtoCodec() {
+        return investorDtoCodec.toRawDocument(investorDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InvestorEncodingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
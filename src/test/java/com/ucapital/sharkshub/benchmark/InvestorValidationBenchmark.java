@@ -0,0 +1,304 @@
+package com.ucapital.sharkshub.benchmark;
+
+import com.ucapital.sharkshub.investor.dto.ContactsDto;
+import com.ucapital.sharkshub.investor.dto.InvDescriptionsDto;
+import com.ucapital.sharkshub.investor.dto.InvestorDto;
+import com.ucapital.sharkshub.investor.exception.InvestorValidationException;
+import com.ucapital.sharkshub.investor.exception.InvestorValidationException.ValidationError;
+import com.ucapital.sharkshub.investor.validation.InvestorRuleSet;
+import com.ucapital.sharkshub.investor.validation.InvestorValidator;
+import com.ucapital.sharkshub.util.TestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Rows per second through the compiled {@link InvestorRuleSet} behind
+ * {@link InvestorValidator} versus the previous five-pass, regex-based validator
+ * (kept below verbatim as {@link FivePassValidator}), on fully valid rows and on
+ * rows that break several rules. {@code compiledRulesResult} goes through the
+ * exception-free {@link InvestorValidator#check} path the bulk imports use.
+ *
+ * <pre>mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ucapital.sharkshub.benchmark.InvestorValidationBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvestorValidationBenchmark {
+
+    private static final int ROWS = 1024;
+
+    @Param({"valid", "invalid"})
+    public String rows;
+
+    private InvestorValidator compiledValidator;
+    private FivePassValidator fivePassValidator;
+    private InvestorDto[] investors;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        compiledValidator = new InvestorValidator(null, InvestorRuleSet.defaults());
+        fivePassValidator = new FivePassValidator();
+
+        investors = new InvestorDto[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            InvestorDto dto = TestDataBuilder.createCompleteInvestorDto();
+            dto.setName("Investor " + i);
+            dto.setWebsite("https://investor-" + i + ".example.com/portfolio");
+            dto.setCreatorEmail("creator." + i + "@example.com");
+            dto.setAdminEmail("admin." + i + "@example.com");
+            dto.setContacts(new HashSet<>(List.of(
+                    ContactsDto.builder().firstName("Ada").lastName("Lovelace").email("ada" + i + "@example.com").build(),
+                    ContactsDto.builder().firstName("Alan").lastName("Turing").email("alan" + i + "@example.com").build())));
+            if ("invalid".equals(rows)) {
+                dto.setStatus(null);
+                dto.setWebsite("investor " + i);
+                dto.setAdminEmail("admin." + i + "@example.c0m");
+                dto.getContacts().add(ContactsDto.builder().firstName("Grace").email("grace@" + i).build());
+            }
+            investors[i] = dto;
+        }
+    }
+
+    @Benchmark
+    public boolean compiledRules() {
+        return validate(() -> compiledValidator.validateInvestor(nextRow(), next, false));
+    }
+
+    @Benchmark
+    public boolean compiledRulesResult() {
+        return compiledValidator.check(nextRow()).isValid();
+    }
+
+    @Benchmark
+    public boolean fivePass() {
+        return validate(() -> fivePassValidator.validateInvestor(nextRow(), next));
+    }
+
+    private InvestorDto nextRow() {
+        next = (next + 1) & (ROWS - 1);
+        return investors[next];
+    }
+
+    private static boolean validate(Runnable validation) {
+        try {
+            validation.run();
+            return true;
+        } catch (InvestorValidationException e) {
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InvestorValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+
+    /**
+     * InvestorValidator's per-field checks before they were compiled into a rule set.
+     */
+    static class FivePassValidator {
+
+        private static final int NAME_MAX_LENGTH = 200;
+        private static final int WEBSITE_MAX_LENGTH = 500;
+        private static final int DESCRIPTION_MAX_LENGTH = 5000;
+
+        private static final Pattern URL_PATTERN = Pattern.compile(
+                "^(https?://)?([a-zA-Z0-9]([a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9])?\\.)+[a-zA-Z]{2,}(/.*)?$");
+
+        private static final Pattern EMAIL_PATTERN = Pattern.compile(
+                "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+
+        void validateInvestor(InvestorDto investorDto, int index) {
+            List<ValidationError> errors = new ArrayList<>();
+
+            validateRequiredFields(investorDto, errors);
+            validateStringLengths(investorDto, errors);
+            validateEmails(investorDto, errors);
+            validateWebsite(investorDto, errors);
+            validateNestedObjects(investorDto, errors);
+
+            if (!errors.isEmpty()) {
+                String message = String.format("Validation failed for investor at index %d", index);
+                throw new InvestorValidationException(message, index, investorDto.getName(), errors);
+            }
+        }
+
+        private void validateRequiredFields(InvestorDto investorDto,
+                                            List<ValidationError> errors) {
+
+            if (!StringUtils.hasText(investorDto.getName())) {
+                errors.add(ValidationError.builder()
+                        .fieldName("name")
+                        .errorMessage("Investor name is required")
+                        .build());
+            }
+
+            if (!StringUtils.hasText(investorDto.getStatus())) {
+                errors.add(ValidationError.builder()
+                        .fieldName("status")
+                        .errorMessage("Status is required")
+                        .build());
+            }
+
+            if (!StringUtils.hasText(investorDto.getType())) {
+                errors.add(ValidationError.builder()
+                        .fieldName("type")
+                        .errorMessage("Type is required")
+                        .build());
+            }
+        }
+
+        private void validateStringLengths(InvestorDto investorDto,
+                                           List<ValidationError> errors) {
+
+            if (StringUtils.hasText(investorDto.getName()) && investorDto.getName().length() > NAME_MAX_LENGTH) {
+                errors.add(ValidationError.builder()
+                        .fieldName("name")
+                        .errorMessage(String.format("Name must not exceed %d characters", NAME_MAX_LENGTH))
+                        .rejectedValue(investorDto.getName())
+                        .build());
+            }
+
+            if (StringUtils.hasText(investorDto.getWebsite()) && investorDto.getWebsite().length() > WEBSITE_MAX_LENGTH) {
+                errors.add(ValidationError.builder()
+                        .fieldName("website")
+                        .errorMessage(String.format("Website URL must not exceed %d characters", WEBSITE_MAX_LENGTH))
+                        .rejectedValue(investorDto.getWebsite())
+                        .build());
+            }
+
+            if (investorDto.getDescriptions() != null) {
+                InvDescriptionsDto desc = investorDto.getDescriptions();
+
+                validateDescriptionLength(desc.getIt(), "descriptions.it", errors);
+                validateDescriptionLength(desc.getEn(), "descriptions.en", errors);
+                validateDescriptionLength(desc.getFr(), "descriptions.fr", errors);
+                validateDescriptionLength(desc.getDe(), "descriptions.de", errors);
+                validateDescriptionLength(desc.getEs(), "descriptions.es", errors);
+                validateDescriptionLength(desc.getRu(), "descriptions.ru", errors);
+                validateDescriptionLength(desc.getCh(), "descriptions.ch", errors);
+            }
+        }
+
+
+        private void validateDescriptionLength(String description, String fieldName,
+                                               List<ValidationError> errors) {
+
+            if (StringUtils.hasText(description) && description.length() > DESCRIPTION_MAX_LENGTH) {
+                errors.add(ValidationError.builder()
+                        .fieldName(fieldName)
+                        .errorMessage(String.format("Description must not exceed %d characters", DESCRIPTION_MAX_LENGTH))
+                        .rejectedValue(description.substring(0, 50) + "...")
+                        .build());
+            }
+        }
+
+
+        private void validateEmails(InvestorDto investorDto,
+                                    List<ValidationError> errors) {
+
+            if (StringUtils.hasText(investorDto.getCreatorEmail())
+                    && !isValidEmail(investorDto.getCreatorEmail())) {
+                errors.add(ValidationError.builder()
+                        .fieldName("creatorEmail")
+                        .errorMessage("Invalid email format")
+                        .rejectedValue(investorDto.getCreatorEmail())
+                        .build());
+            }
+
+            if (StringUtils.hasText(investorDto.getAdminEmail())
+                    && !isValidEmail(investorDto.getAdminEmail())) {
+                errors.add(ValidationError.builder()
+                        .fieldName("adminEmail")
+                        .errorMessage("Invalid email format")
+                        .rejectedValue(investorDto.getAdminEmail())
+                        .build());
+            }
+
+            if (investorDto.getHqLocation() != null && StringUtils.hasText(investorDto.getHqLocation().getEmail())
+                    && !isValidEmail(investorDto.getHqLocation().getEmail())) {
+                errors.add(ValidationError.builder()
+                        .fieldName("hqLocation.email")
+                        .errorMessage("Invalid email format")
+                        .rejectedValue(investorDto.getHqLocation().getEmail())
+                        .build());
+            }
+
+            // Validate contact emails if provided
+            if (investorDto.getContacts() != null) {
+                int contactIndex = 0;
+                for (ContactsDto contact : investorDto.getContacts()) {
+                    if (StringUtils.hasText(contact.getEmail()) && !isValidEmail(contact.getEmail())) {
+                        errors.add(ValidationError.builder()
+                                .fieldName("contacts[" + contactIndex + "].email")
+                                .errorMessage("Invalid email format")
+                                .rejectedValue(contact.getEmail())
+                                .build());
+                    }
+                    contactIndex++;
+                }
+            }
+        }
+
+
+        private boolean isValidEmail(String email) {
+            return EMAIL_PATTERN.matcher(email).matches();
+        }
+
+
+        private void validateWebsite(InvestorDto investorDto,
+                                     List<ValidationError> errors) {
+
+            if (StringUtils.hasText(investorDto.getWebsite())
+                    && !URL_PATTERN.matcher(investorDto.getWebsite()).matches()) {
+                errors.add(ValidationError.builder()
+                        .fieldName("website")
+                        .errorMessage("Invalid website URL format")
+                        .rejectedValue(investorDto.getWebsite())
+                        .build());
+            }
+        }
+
+
+        private void validateNestedObjects(InvestorDto investorDto,
+                                           List<ValidationError> errors) {
+
+            if (investorDto.getContacts() != null) {
+                int contactIndex = 0;
+                for (ContactsDto contact : investorDto.getContacts()) {
+                    if (!StringUtils.hasText(contact.getFirstName())) {
+                        errors.add(ValidationError.builder()
+                                .fieldName("contacts[" + contactIndex + "].firstName")
+                                .errorMessage("Contact first name is required")
+                                .build());
+                    }
+
+                    if (!StringUtils.hasText(contact.getLastName())) {
+                        errors.add(ValidationError.builder()
+                                .fieldName("contacts[" + contactIndex + "].lastName")
+                                .errorMessage("Contact last name is required")
+                                .build());
+                    }
+
+                    contactIndex++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ucapital.sharkshub.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lookup latency while bulk imports hold request threads, comparing a bounded
+ * platform pool (Tomcat's model, scaled down) with a virtual thread per request.
+ * Each import is a request of blocking batch writes, resubmitted as soon as it
+ * finishes; each lookup is one short blocking round trip queued behind them.
+ * Mongo calls are simulated with sleeps so the benchmark isolates the threading
+ * model; read the p0.99 line of the SampleTime output. It therefore shows how long
+ * lookups queue behind imports, not lookup p99 against a real MongoDB under real
+ * imports: driver pinning, connection pool limits and server load are not modelled.
+ *
+ * <pre>mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ucapital.sharkshub.benchmark.LookupLatencyUnderImportBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LookupLatencyUnderImportBenchmark {
+
+    private static final long LOOKUP_ROUND_TRIP_MS = 1;
+    private static final long BATCH_ROUND_TRIP_MS = 50;
+    private static final int BATCHES_PER_IMPORT = 10;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"16"})
+    public int requestThreads;
+
+    @Param({"24"})
+    public int concurrentImports;
+
+    private ExecutorService requestExecutor;
+    private final AtomicBoolean importing = new AtomicBoolean();
+
+    @Setup
+    public void setUp() {
+        requestExecutor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(requestThreads);
+
+        importing.set(true);
+        for (int i = 0; i < concurrentImports; i++) {
+            submitImport();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        importing.set(false);
+        requestExecutor.shutdown();
+        requestExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public Object lookupWhileImporting() throws Exception {
+        return requestExecutor.submit(() -> {
+            blockFor(LOOKUP_ROUND_TRIP_MS);
+            return Boolean.TRUE;
+        }).get();
+    }
+
+    private void submitImport() {
+        requestExecutor.execute(() -> {
+            for (int batch = 0; batch < BATCHES_PER_IMPORT && importing.get(); batch++) {
+                blockFor(BATCH_ROUND_TRIP_MS);
+            }
+            if (importing.get()) {
+                submitImport();
+            }
+        });
+    }
+
+    private static void blockFor(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LookupLatencyUnderImportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}